@@ -0,0 +1,429 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectSet;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import vault.clockwork.actors.GroundActor;
+
+/**
+ * Texture atlas of the small game sprites.
+ * Packs all small PNG sprites under the assets catalogue into shared texture
+ * pages on the first run, by the background thread along the assets loading,
+ * and caches the packed pages locally. Actors resolve
+ * the sprites by their asset filenames, so consecutive sprites of different
+ * actors are able to share a single batch.
+ * @author Konrad Nowakowski https://github.com/konrad92
+ */
+public class Atlas implements Disposable {
+	/**
+	 * Catalogue of the packed sprites.
+	 */
+	static public final String ASSETS_PATH = "assets/";
+	
+	/**
+	 * Local filename of the cached atlas.
+	 * Pages are stored next to it.
+	 */
+	static public final String CACHE_FILENAME = "cache/sprites.atlas";
+	
+	/**
+	 * Size of the atlas pages, and the padding between sprites.
+	 */
+	static public final int
+		PAGE_SIZE = 2048,
+		PADDING = 2;
+	
+	/**
+	 * Limits of the packed sprites.
+	 * Bigger textures stay as the standalone textures.
+	 */
+	static public final int
+		MAX_SIZE = 1024,
+		MAX_AREA = 512 * 512;
+	
+	/**
+	 * Textures drawn with repeat wrapping (backgrounds, ground).
+	 * Never packed, whatever their size.
+	 */
+	static public final String[] STANDALONE = {
+		Vault.BGA_DESERT,
+		Vault.BGB_DESERT,
+		GroundActor.GROUND_TEXTURE,
+		"assets/blueprint.png"
+	};
+	
+	/**
+	 * Packed texture atlas.
+	 */
+	private TextureAtlas atlas;
+	
+	/**
+	 * Atlas regions by the sprite filenames.
+	 */
+	private final ObjectMap<String, TextureRegion> regions = new ObjectMap<>();
+	
+	/**
+	 * Filenames of the packed sprites, known before the atlas is loaded.
+	 */
+	private final ObjectSet<String> packed = new ObjectSet<>();
+	
+	/**
+	 * Sprites to pack.
+	 */
+	private final Array<FileHandle> sprites = new Array<>();
+	
+	/**
+	 * Cached atlas file.
+	 */
+	private FileHandle cache;
+	
+	/**
+	 * Packing of the sprites, performed by the background thread.
+	 * Gives the packer when the pages were not cached.
+	 */
+	private FutureTask<PixmapPacker> packing;
+	
+	/**
+	 * Load the atlas.
+	 * Use the cached atlas when it is up-to-date, otherwise start packing
+	 * the sprites by the background thread.
+	 * @see #update() 
+	 */
+	public void load() {
+		sprites.clear();
+		packed.clear();
+		long lastModified = collect(Gdx.files.internal(ASSETS_PATH), sprites);
+		for(FileHandle file : sprites) {
+			packed.add(file.path());
+		}
+		
+		// use the cached atlas
+		cache = Gdx.files.local(CACHE_FILENAME);
+		if(cache.exists() && cache.lastModified() >= lastModified && this.open()) {
+			return;
+		}
+		
+		// pack sprites on the first run
+		packing = new FutureTask<>(() -> pack(sprites, cache));
+		Thread thread = new Thread(packing, "atlas");
+		thread.setDaemon(true);
+		thread.start();
+	}
+	
+	/**
+	 * Load the packed atlas, once packed by the background thread.
+	 * @return <b>TRUE</b> when the atlas is ready.
+	 */
+	public boolean update() {
+		if(packing == null) {
+			return true;
+		}
+		if(!packing.isDone()) {
+			return false;
+		}
+		this.finish();
+		return true;
+	}
+	
+	/**
+	 * Wait for the packing and load the packed atlas.
+	 */
+	public void finish() {
+		if(packing == null) {
+			return;
+		}
+		
+		PixmapPacker packer = null;
+		try {
+			packer = packing.get();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			Logger.getLogger(Atlas.class.getName()).log(Level.SEVERE, null, ex);
+		} catch (ExecutionException ex) {
+			Logger.getLogger(Atlas.class.getName()).log(Level.SEVERE, null, ex);
+		}
+		packing = null;
+		
+		// use the packer pages directly
+		if(packer != null) {
+			atlas = packer.generateTextureAtlas(
+				Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest, false
+			);
+			index(sprites);
+		} else {
+			this.open();
+		}
+		
+		// sprites not in the atlas are loaded standalone
+		if(regions.size == 0) {
+			packed.clear();
+		}
+	}
+	
+	/**
+	 * Open the cached atlas.
+	 * @return <b>FALSE</b> when some sprite is missing.
+	 */
+	private boolean open() {
+		try {
+			atlas = new TextureAtlas(cache);
+			
+			// cached atlas is missing some sprites
+			if(!index(sprites)) {
+				atlas.dispose();
+				atlas = null;
+			}
+		} catch(GdxRuntimeException ex) {
+			Logger.getLogger(Atlas.class.getName()).log(Level.WARNING, null, ex);
+			atlas = null;
+		}
+		return atlas != null;
+	}
+	
+	/**
+	 * Check if sprite is packed into the atlas.
+	 * Known before the packing finishes.
+	 * @param filename Filename of the sprite.
+	 * @return <b>TRUE</b> when the sprite is packed.
+	 */
+	public boolean contains(String filename) {
+		return packed.contains(filename);
+	}
+	
+	/**
+	 * Preload the sprite texture.
+	 * Queue the texture onto assets manager, when not packed into the atlas.
+	 * @param filename Filename of the sprite.
+	 */
+	public void preload(String filename) {
+		if(!contains(filename)) {
+			Game.assets.load(filename, Texture.class);
+		}
+	}
+	
+	/**
+	 * Get the sprite region.
+	 * Texture loaded by the assets manager is used, when the sprite
+	 * is not packed into the atlas.
+	 * @param filename Filename of the sprite.
+	 * @return Texture region of the sprite.
+	 */
+	public TextureRegion getRegion(String filename) {
+		this.finish();
+		TextureRegion region = regions.get(filename);
+		if(region == null) {
+			// packing failed after the preload
+			if(!Game.assets.isLoaded(filename, Texture.class)) {
+				Game.assets.load(filename, Texture.class);
+				Game.assets.finishLoading();
+			}
+			return new TextureRegion(Game.assets.get(filename, Texture.class));
+		}
+		return region;
+	}
+	
+	/**
+	 * Create new sprite from the atlas.
+	 * @see #getRegion(java.lang.String) 
+	 * @param filename Filename of the sprite.
+	 * @return New sprite instance.
+	 */
+	public Sprite createSprite(String filename) {
+		return new Sprite(getRegion(filename));
+	}
+	
+	/**
+	 * Collect the small PNG sprites.
+	 * @param dir Catalogue to search in recursively.
+	 * @param sprites Collected sprites.
+	 * @return Last modification time of the collected sprites.
+	 */
+	private long collect(FileHandle dir, Array<FileHandle> sprites) {
+		long lastModified = 0;
+		for(FileHandle file : dir.list()) {
+			if(file.isDirectory()) {
+				lastModified = Math.max(lastModified, collect(file, sprites));
+			}
+			else if(file.extension().equalsIgnoreCase("png") && !isStandalone(file) && isSmall(file)) {
+				lastModified = Math.max(lastModified, file.lastModified());
+				sprites.add(file);
+			}
+		}
+		return lastModified;
+	}
+	
+	/**
+	 * Check if texture is drawn with repeat wrapping.
+	 * @param file PNG file.
+	 * @return <b>TRUE</b> when listed as standalone.
+	 */
+	private boolean isStandalone(FileHandle file) {
+		for(String filename : STANDALONE) {
+			if(filename.equals(file.path())) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Check the sprite size by the PNG header.
+	 * @param file PNG file.
+	 * @return <b>TRUE</b> when the sprite fits the atlas limits.
+	 */
+	private boolean isSmall(FileHandle file) {
+		try(DataInputStream input = new DataInputStream(file.read())) {
+			// signature and IHDR chunk header
+			input.skipBytes(16);
+			int width = input.readInt(), height = input.readInt();
+			
+			return width <= MAX_SIZE && height <= MAX_SIZE
+				&& width * height <= MAX_AREA;
+		} catch(IOException ex) {
+			Logger.getLogger(Atlas.class.getName()).log(Level.WARNING, null, ex);
+		}
+		return false;
+	}
+	
+	/**
+	 * Assign atlas regions with the sprites.
+	 * @param sprites Sprites to find in the atlas.
+	 * @return <b>FALSE</b> when some sprite is missing.
+	 */
+	private boolean index(Array<FileHandle> sprites) {
+		regions.clear();
+		for(FileHandle file : sprites) {
+			TextureRegion region = atlas.findRegion(file.path());
+			if(region == null) {
+				regions.clear();
+				return false;
+			}
+			regions.put(file.path(), region);
+		}
+		return true;
+	}
+	
+	/**
+	 * Pack sprites onto the atlas pages.
+	 * Performed by the background thread, with no GL calls.
+	 * @param sprites Sprites to pack.
+	 * @param cache Cached atlas file to write.
+	 * @return Packer of the pages not cached, <b>NULL</b> when cached.
+	 */
+	private PixmapPacker pack(Array<FileHandle> sprites, FileHandle cache) {
+		PixmapPacker packer = new PixmapPacker(PAGE_SIZE, PAGE_SIZE,
+			Pixmap.Format.RGBA8888, PADDING, true);
+		
+		for(FileHandle file : sprites) {
+			Pixmap pixmap = new Pixmap(file);
+			packer.pack(file.path(), pixmap);
+			pixmap.dispose();
+		}
+		
+		// write-up the cache, loaded by the game thread
+		try {
+			save(packer, sprites, cache);
+			packer.dispose();
+			return null;
+		} catch(GdxRuntimeException ex) {
+			Logger.getLogger(Atlas.class.getName()).log(Level.WARNING, null, ex);
+		}
+		return packer;
+	}
+	
+	/**
+	 * Save the packed pages with the atlas description.
+	 * @param packer Packer of the sprites.
+	 * @param sprites Packed sprites.
+	 * @param cache Atlas file to write.
+	 */
+	private void save(PixmapPacker packer, Array<FileHandle> sprites, FileHandle cache) {
+		StringBuilder out = new StringBuilder();
+		String prefix = cache.nameWithoutExtension();
+		
+		for(int i = 0; i < packer.getPages().size; i++) {
+			String pageName = prefix + (i + 1) + ".png";
+			PixmapIO.writePNG(cache.sibling(pageName), packer.getPages().get(i).getPixmap());
+			
+			// page header
+			out.append('\n').append(pageName)
+				.append("\nsize: ").append(PAGE_SIZE).append(',').append(PAGE_SIZE)
+				.append("\nformat: RGBA8888\nfilter: Nearest,Nearest\nrepeat: none\n");
+			
+			// page regions
+			for(FileHandle file : sprites) {
+				if(packer.getPageIndex(file.path()) != i) {
+					continue;
+				}
+				
+				Rectangle rect = packer.getRect(file.path());
+				int x = (int)rect.x, y = (int)rect.y,
+					w = (int)rect.width, h = (int)rect.height;
+				
+				out.append(file.path())
+					.append("\n  rotate: false\n  xy: ").append(x).append(", ").append(y)
+					.append("\n  size: ").append(w).append(", ").append(h)
+					.append("\n  orig: ").append(w).append(", ").append(h)
+					.append("\n  offset: 0, 0\n  index: -1\n");
+			}
+		}
+		
+		cache.writeString(out.toString(), false);
+	}
+	
+	/**
+	 * Release the atlas pages.
+	 * @see Disposable#dispose() 
+	 */
+	@Override
+	public void dispose() {
+		this.finish();
+		regions.clear();
+		packed.clear();
+		if(atlas != null) {
+			atlas.dispose();
+			atlas = null;
+		}
+	}
+}
@@ -62,6 +62,42 @@ public class Config {
 	 */
 	public boolean sounds = true;
 	
+	/**
+	 * Physics steps per second.
+	 * Rendering is interpolated between the steps, so lower rates
+	 * stay smooth on the slower machines.
+	 */
+	public int physicsRate = 60;
+	
+	/**
+	 * Perform the physics steps on the simulation thread, by its own clock.
+	 * Uses the second core, the world is changed by the posted commands.
+	 */
+	public boolean threadedSimulation = false;
+	
+	/**
+	 * Threads updating the parallel actors of the big layers.
+	 * <b>0</b> uses all the cores, <b>1</b> updates on the game thread only.
+	 */
+	public int updateThreads = 0;
+	
+	/**
+	 * Size of the level chunks, streamed along the camera.
+	 * <b>0</b> instances the whole level at once, the streaming is opt-in.
+	 */
+	public int chunkSize = 0;
+	
+	/**
+	 * Distance from the camera view, the chunks are loaded within.
+	 */
+	public int chunkLoad = 512;
+	
+	/**
+	 * Distance from the camera view, the chunks are unloaded beyond.
+	 * Kept above the chunkLoad, so the chunks on the edge do not thrash.
+	 */
+	public int chunkUnload = 1536;
+	
 	/**
 	 * Available OS text editor.
 	 */
@@ -30,6 +30,7 @@ import com.badlogic.gdx.InputMultiplexer;
 import vault.clockwork.system.Scene;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.utils.TimeUtils;
 import vault.clockwork.screens.EditorScreen;
 import vault.clockwork.screens.GameScreen;
 import vault.clockwork.screens.LoaderScreen;
@@ -37,8 +38,12 @@ import vault.clockwork.screens.MenuScreen;
 import vault.clockwork.screens.StageScreen;
 import vault.clockwork.system.Console;
 import vault.clockwork.system.ConsoleAction;
+import vault.clockwork.system.Audio;
 import vault.clockwork.system.Debug;
+import vault.clockwork.system.FrameStats;
 import vault.clockwork.system.Physics;
+import vault.clockwork.system.Profiler;
+import vault.clockwork.system.System;
 
 /**
  * Game main controller.
@@ -82,6 +87,11 @@ public class Game extends com.badlogic.gdx.Game {
      */
     static public AssetManager assets;
 	
+	/**
+	 * Texture atlas of the small game sprites.
+	 */
+	static public Atlas atlas;
+	
 	/**
 	 * Ingame console.
 	 */
@@ -102,25 +112,79 @@ public class Game extends com.badlogic.gdx.Game {
 	 */
 	static public Physics physics;
 	
+	/**
+	 * Sound voices system.
+	 */
+	static public Audio audio;
+	
 	/**
 	 * Main camera wrapper.
 	 */
 	static public OrthographicCamera mainCamera;
 	
+	/**
+	 * Profiler timers of the systems.
+	 */
+	static private final Profiler.Timer
+		PHYSICS_TIMER = Profiler.get("physics"),
+		SCENE_TIMER = Profiler.get("scene"),
+		AUDIO_TIMER = Profiler.get("audio"),
+		DEBUG_TIMER = Profiler.get("debug"),
+		CONSOLE_TIMER = Profiler.get("console"),
+		PHYSICS_POST_TIMER = Profiler.get("physics.post"),
+		SCENE_POST_TIMER = Profiler.get("scene.post"),
+		AUDIO_POST_TIMER = Profiler.get("audio.post"),
+		DEBUG_POST_TIMER = Profiler.get("debug.post"),
+		CONSOLE_POST_TIMER = Profiler.get("console.post");
+	
 	/**
 	 * Perform systems.
 	 */
 	static public void performSystems() {
-		Game.physics.perform();
-		Game.scene.perform();
-		Game.debug.perform();
-		Game.console.perform();
+		// close the previous frame timers
+		Profiler.frame();
+		
+		if(Game.config.threadedSimulation) {
+			// physics steps on the simulation thread, the snapshot is acquired only
+			perform(Game.physics, PHYSICS_TIMER);
+		} else {
+			long physicsStart = TimeUtils.nanoTime();
+			perform(Game.physics, PHYSICS_TIMER);
+			FrameStats.physics.record(TimeUtils.nanoTime() - physicsStart);
+		}
+		perform(Game.scene, SCENE_TIMER);
+		perform(Game.audio, AUDIO_TIMER);
+		perform(Game.debug, DEBUG_TIMER);
+		perform(Game.console, CONSOLE_TIMER);
 		
 		// post performing for rendering process
-		Game.physics.postPerform();
-		Game.scene.postPerform();
-		Game.debug.postPerform();
-		Game.console.postPerform();
+		postPerform(Game.physics, PHYSICS_POST_TIMER);
+		postPerform(Game.scene, SCENE_POST_TIMER);
+		postPerform(Game.audio, AUDIO_POST_TIMER);
+		postPerform(Game.debug, DEBUG_POST_TIMER);
+		postPerform(Game.console, CONSOLE_POST_TIMER);
+	}
+	
+	/**
+	 * Perform the system within its timer.
+	 * @param system System to perform.
+	 * @param timer Profiler timer of the system.
+	 */
+	static private void perform(System system, Profiler.Timer timer) {
+		timer.begin();
+		system.perform();
+		timer.end();
+	}
+	
+	/**
+	 * Post perform the system within its timer.
+	 * @param system System to perform.
+	 * @param timer Profiler timer of the system.
+	 */
+	static private void postPerform(System system, Profiler.Timer timer) {
+		timer.begin();
+		system.postPerform();
+		timer.end();
 	}
 	
 	/**
@@ -158,10 +222,12 @@ public class Game extends com.badlogic.gdx.Game {
 		
 		// initialize game resources
 		Game.assets = new AssetManager();
+		Game.atlas = new Atlas();
 		Game.console = new Console();
 		Game.debug = new Debug();
 		Game.physics = new Physics();
 		Game.scene = new Scene();
+		Game.audio = new Audio();
 		
 		// add generic console commands
 		Game.console.commands.put("exit", new ConsoleAction() {
@@ -208,10 +274,15 @@ public class Game extends com.badlogic.gdx.Game {
 		
 		// register configuration commands
 		Config.registerConfigCommands();
+		Profiler.registerCommands();
+		FrameStats.registerCommands();
 		
 		// vault instances
 		Vault.preload();
 		
+		// pack the sprites atlas
+		Game.atlas.load();
+		
 		// startup screen
 		//this.setNextScreen(new StageScreen("a"));
 		this.setNextScreen(new MenuScreen());
@@ -222,6 +293,9 @@ public class Game extends com.badlogic.gdx.Game {
      */
     @Override
     public void render() {
+		// record the frame time
+		FrameStats.frame();
+		
 		// allow debug info toggling
 		if(Gdx.input.isKeyJustPressed(Input.Keys.F2)) {
 			Game.DEBUG_INFO = !Game.DEBUG_INFO;
@@ -263,9 +337,11 @@ public class Game extends com.badlogic.gdx.Game {
 		// dispose game resources
 		Game.scene.dispose();
 		Game.physics.dispose();
+		Game.audio.dispose();
 		Game.debug.dispose();
 		Game.console.dispose();
         Game.assets.dispose();
+		Game.atlas.dispose();
     }
 	
 	/**
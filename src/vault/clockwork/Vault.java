@@ -26,25 +26,9 @@ package vault.clockwork;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Array;
 import java.util.Arrays;
 import vault.clockwork.actors.StaticPlankActor;
 import vault.clockwork.actors.TurretActor;
-import vault.clockwork.editor.PropSerialized;
-import vault.clockwork.editor.props.BackgroundProp;
-import vault.clockwork.editor.props.DecorationProp;
-import vault.clockwork.editor.props.DustbinBgProp;
-import vault.clockwork.editor.props.DustbinProp;
-import vault.clockwork.editor.props.FaceProp;
-import vault.clockwork.editor.props.GroundProp;
-import vault.clockwork.editor.props.PlayerHandProp;
-import vault.clockwork.editor.props.HillProp;
-import vault.clockwork.editor.props.PillowProp;
-import vault.clockwork.editor.props.PlankProp;
-import vault.clockwork.editor.props.RockProp;
-import vault.clockwork.editor.props.StaticPlankProp;
-import vault.clockwork.editor.props.StoneProp;
-import vault.clockwork.editor.props.TurretProp;
 import vault.clockwork.system.ConsoleAction;
 
 /**
@@ -80,29 +64,6 @@ public abstract class Vault {
 	 */
 	static public final String MENU_BACK_TO_MENU = "assets/back-to-menu.png";
 	
-	/**
-	 * Klasy propów widoczne dla edytora.
-	 */
-	static public final Array<Class<? extends PropSerialized>> PROP_CLASSES = new Array<>(
-		new Class[] {
-			TurretProp.class,
-			GroundProp.class,
-			BackgroundProp.class,
-			StaticPlankProp.class,
-			PlankProp.class,
-			HillProp.class,
-			PlankProp.class,
-			RockProp.class,
-			FaceProp.class,
-			StoneProp.class,
-			PillowProp.class,
-			DustbinProp.class,
-//			DustbinBgProp.class,
-			DecorationProp.class,
-			PlayerHandProp.class,
-		}
-	);
-	
 	/**
 	 * Preload vault assets.
 	 */
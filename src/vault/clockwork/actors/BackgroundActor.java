@@ -28,6 +28,7 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import vault.clockwork.Game;
 import vault.clockwork.editor.PropSerialized;
@@ -49,6 +50,11 @@ public class BackgroundActor extends Actor {
 	 */
 	private final float pixelSize;
 	
+	/**
+	 * Identity projection of the screen-coords drawing.
+	 */
+	static private final Matrix4 IDENTITY = new Matrix4();
+	
 	/**
 	 * Przesuniecie tla.
 	 */
@@ -123,16 +129,24 @@ public class BackgroundActor extends Actor {
 		this.background = new Sprite(
 			Game.assets.get(filename, Texture.class)
 		);
-		this.background.getTexture().setWrap(
-			Texture.TextureWrap.Repeat,
-			Texture.TextureWrap.Repeat
-		);
 		
 		// change size to identity screen-coords
 		this.background.setBounds(-1.f, -1.f, 2.f, 2.f);
 		this.pixelSize = 1.f/(float)this.background.getTexture().getWidth();
 	}
 	
+	/**
+	 * Repeat the background texture, on the GL thread.
+	 * @see vault.clockwork.scene.Entity#create() 
+	 */
+	@Override
+	public void create() {
+		this.background.getTexture().setWrap(
+			Texture.TextureWrap.Repeat,
+			Texture.TextureWrap.Repeat
+		);
+	}
+	
 	/**
 	 * Draw the background grid.
 	 * @see Actor#draw(com.badlogic.gdx.graphics.g2d.SpriteBatch) 
@@ -141,7 +155,7 @@ public class BackgroundActor extends Actor {
 	@Override
 	public void draw(SpriteBatch batch) {
 		// change drawing projection to identity
-		batch.setProjectionMatrix(new Matrix4());
+		batch.setProjectionMatrix(IDENTITY);
 		
 		float scale = scaled + (Game.mainCamera.zoom - 1) * zoomed,
 			w = (float)Gdx.graphics.getWidth() * pixelSize * scale, 
@@ -155,14 +169,22 @@ public class BackgroundActor extends Actor {
 		background.setV2(-y + h*.5f - .5f);
 		
 		// fill-up the screen
-		batch.begin();
 		background.draw(batch);
-		batch.end();
 		
 		// reverse camera projection
 		batch.setProjectionMatrix(Game.mainCamera.combined);
 	}
 	
+	/**
+	 * Background covers the whole screen, so it is never culled.
+	 * @see Actor#getBounds() 
+	 * @return <b>NULL</b>
+	 */
+	@Override
+	public Rectangle getBounds() {
+		return null;
+	}
+	
 	/**
 	 * @see Actor#getPosition() 
 	 * @return Background position.
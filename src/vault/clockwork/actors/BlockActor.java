@@ -49,9 +49,11 @@ public class BlockActor extends Actor {
 		// body
 		BodyDef bodyDef = new BodyDef();
 		bodyDef.type = BodyDef.BodyType.DynamicBody;
-		body = Game.physics.world.createBody(bodyDef);
-		fixture = body.createFixture(shape, 2.f);
-		
-		shape.dispose();
+		Game.physics.post(() -> {
+			body = Game.physics.world.createBody(bodyDef);
+			fixture = body.createFixture(shape, 2.f);
+			
+			shape.dispose();
+		});
 	}
 }
@@ -0,0 +1,201 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.actors;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import vault.clockwork.Game;
+import vault.clockwork.scene.Entity;
+import vault.clockwork.system.Physics;
+
+/**
+ * Obstacle actor with the tracked physics body.
+ * Constructors and the prepare do the thread-safe work only, the body
+ * definition and the sprites, so the level loader instances the actors
+ * on its own thread. The body is created by the create method, on the
+ * game thread, and its fixtures attached by the physics command.
+ * Actors of the baked props have no body, their collision is created
+ * along the level static geometry.
+ * @author Konrad Nowakowski https://github.com/konrad92
+ */
+public abstract class BodyActor extends ObstacleActor {
+	/**
+	 * Definition of the body, created by the create method.
+	 * Transform set before the create goes into it.
+	 */
+	protected final BodyDef bodyDef = new BodyDef();
+	
+	/**
+	 * Physics body, assigned by the creating command.
+	 * Touched by the posted commands only.
+	 */
+	protected Body body;
+	
+	/**
+	 * Slot of the tracked body, <b>-1</b> until created.
+	 */
+	protected int bodySlot = -1;
+	
+	/**
+	 * Body is created, not baked.
+	 */
+	protected final boolean physics;
+	
+	/**
+	 * Body creation is posted already.
+	 */
+	private boolean created = false;
+	
+	/**
+	 * Ctor.
+	 * Actor with the physics body.
+	 * @param id Unique actor id.
+	 */
+	public BodyActor(int id) {
+		this(id, true);
+	}
+	
+	/**
+	 * Ctor.
+	 * @param id Unique actor id.
+	 * @param physics Create the physics body, baked actors have none.
+	 */
+	public BodyActor(int id, boolean physics) {
+		super(id);
+		this.physics = physics;
+	}
+	
+	/**
+	 * Attach the fixtures to the created body.
+	 * Performed by the creating command, by the simulation thread when
+	 * the simulation is threaded.
+	 * @param body Created body.
+	 */
+	protected abstract void attach(Body body);
+	
+	/**
+	 * Attach the polygon fixture, owned by the actor.
+	 * @param body Created body.
+	 * @param vertices Polygon relative to the body, in screen units.
+	 * @param density Density of the fixture.
+	 * @return Attached fixture.
+	 */
+	protected Fixture attachPolygon(Body body, float[] vertices, float density) {
+		float[] scaled = new float[vertices.length];
+		for(int i = 0; i < scaled.length; i++) {
+			scaled[i] = vertices[i] * Physics.SCALE;
+		}
+		
+		PolygonShape shape = new PolygonShape();
+		shape.set(scaled);
+		Fixture fixture = body.createFixture(shape, density);
+		fixture.setUserData(this);
+		shape.dispose();
+		return fixture;
+	}
+	
+	/**
+	 * Create the body of the definition, when not baked.
+	 * Pooled actors keep their body, created once.
+	 * @see Entity#create() 
+	 */
+	@Override
+	public void create() {
+		if(created || !physics) {
+			return;
+		}
+		created = true;
+		
+		bodySlot = Game.physics.create(bodyDef, body -> {
+			this.body = body;
+			this.attach(body);
+		});
+	}
+	
+	/**
+	 * Destroy the body, when created.
+	 * @see Entity#dispose() 
+	 */
+	@Override
+	public void dispose() {
+		if(!created) {
+			return;
+		}
+		created = false;
+		
+		bodySlot = Game.physics.untrack(bodySlot);
+		Game.physics.post(() -> Game.physics.world.destroyBody(body));
+	}
+	
+	/**
+	 * Position of the body, or of its definition until created.
+	 * @return Screen units.
+	 */
+	protected float getBodyX() {
+		return bodySlot < 0 ? bodyDef.position.x * Physics.SCALE_INV : Game.physics.getX(bodySlot);
+	}
+	
+	/**
+	 * Position of the body, or of its definition until created.
+	 * @return Screen units.
+	 */
+	protected float getBodyY() {
+		return bodySlot < 0 ? bodyDef.position.y * Physics.SCALE_INV : Game.physics.getY(bodySlot);
+	}
+	
+	/**
+	 * Angle of the body, or of its definition until created.
+	 * @return Angle in radians.
+	 */
+	protected float getBodyAngle() {
+		return bodySlot < 0 ? bodyDef.angle : Game.physics.getAngle(bodySlot);
+	}
+	
+	/**
+	 * Place the body, or its definition until created.
+	 * @param x Position in screen units.
+	 * @param y Position in screen units.
+	 */
+	protected void setBodyPosition(float x, float y) {
+		if(bodySlot < 0) {
+			bodyDef.position.set(x * Physics.SCALE, y * Physics.SCALE);
+		} else {
+			Game.physics.place(bodySlot, x * Physics.SCALE, y * Physics.SCALE);
+		}
+	}
+	
+	/**
+	 * Rotate the body, or its definition until created.
+	 * @param angle Angle in radians.
+	 */
+	protected void setBodyAngle(float angle) {
+		if(bodySlot < 0) {
+			bodyDef.angle = angle;
+		} else {
+			Game.physics.rotate(bodySlot, angle);
+		}
+	}
+}
@@ -26,9 +26,9 @@ package vault.clockwork.actors;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
@@ -57,26 +57,31 @@ public class ButtonActor extends ObstacleActor{
 	
 	public Object userData;
 	
+	private final Vector3 mousePointer = new Vector3();
+	
 	public ButtonActor(int id, float x, float y){
-		this(id, Game.assets.get("assets/button.png", Texture.class), x, y);
+		this(id, Game.atlas.getRegion("assets/button.png"), x, y);
 	}
 	
-	public ButtonActor(int id, Texture texture, float x, float y){
+	public ButtonActor(int id, TextureRegion texture, float x, float y){
 		this(id, texture);
 		this.setPosition(new Vector2(x, y));
 	}
 	
-	public ButtonActor(int id, Texture texture, float x, float y, ButtonActionListener lstn){
+	public ButtonActor(int id, TextureRegion texture, float x, float y, ButtonActionListener lstn){
 		this(id, texture);
 		this.setPosition(new Vector2(x, y));
 		actionListener = lstn;
 	}
 	
-	public ButtonActor(int id, Texture texture){
+	public ButtonActor(int id, TextureRegion texture){
 		super(id);
 		
+		// update rotates its own sprite by the timer only
+		this.parallel = true;
+		
 		spr = new Sprite(texture);
-		spr.setBounds(0.f, 0.f, texture.getWidth(), texture.getHeight());
+		spr.setBounds(0.f, 0.f, texture.getRegionWidth(), texture.getRegionHeight());
 	}
 	
 	@Override
@@ -113,9 +118,7 @@ public class ButtonActor extends ObstacleActor{
 		}
 		
 		spr.setCenter(position.x, position.y);
-		batch.begin();
 		spr.draw(batch);
-		batch.end();
 		batch.setShader(null);
 	}
 	
@@ -171,13 +174,11 @@ public class ButtonActor extends ObstacleActor{
 	
 	public boolean isMouseOver() {
 		Rectangle rect = spr.getBoundingRectangle();
-		Vector3 mousePointer = new Vector3(
+		Vector3 unproj = Game.mainCamera.unproject(mousePointer.set(
 			Gdx.input.getX(),
 			Gdx.input.getY(),
 			0
-		);
-		
-		Vector3 unproj = Game.mainCamera.unproject(mousePointer);
+		));
 		return rect.contains(unproj.x, unproj.y);
 	}
 }
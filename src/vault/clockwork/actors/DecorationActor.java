@@ -23,9 +23,10 @@
  */
 package vault.clockwork.actors;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Contact;
 import vault.clockwork.Game;
@@ -70,7 +71,7 @@ public class DecorationActor extends Actor {
 	 * @param prop 
 	 */
 	public DecorationActor(DecorationProp prop) {
-		this(prop.id, Game.assets.get(prop.image, Texture.class));
+		this(prop.id, Game.atlas.getRegion(prop.image));
 		
 		this.setPosition(prop.position);
 		this.setRotation(prop.angle);
@@ -83,8 +84,11 @@ public class DecorationActor extends Actor {
 	 * @see Actor#Actor(int) 
 	 * @param id Turret unique id.
 	 */
-	public DecorationActor(int id, Texture texture) {
+	public DecorationActor(int id, TextureRegion texture) {
 		super(id);
+		
+		// update is empty, nothing to order against the other actors
+		this.parallel = true;
 
 		// create the ball sprite
 		sprDecoration = new Sprite(texture);
@@ -109,9 +113,17 @@ public class DecorationActor extends Actor {
 		sprDecoration.setRotation(angle);
 		sprDecoration.setScale(scale);
 		
-		batch.begin();
 		sprDecoration.draw(batch);
-		batch.end();
+	}
+	
+	/**
+	 * @see Actor#getBounds() 
+	 * @return Actor bounds.
+	 */
+	@Override
+	public Rectangle getBounds() {
+		sprDecoration.setScale(scale);
+		return getBounds(sprDecoration, position.x, position.y);
 	}
 	
 	/**
@@ -24,9 +24,10 @@
 package vault.clockwork.actors;
 
 import com.badlogic.gdx.audio.Sound;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
@@ -36,15 +37,25 @@ import vault.clockwork.Game;
 import vault.clockwork.Vault;
 import vault.clockwork.editor.PropSerialized;
 import vault.clockwork.scene.Actor;
+import vault.clockwork.scene.Entity;
+import vault.clockwork.system.Audio;
 import vault.clockwork.system.Physics;
 
 /**
  *
  * @author Qiku
  */
-public class DustbinActor extends ObstacleActor{
-	private Body body;
+public class DustbinActor extends BodyActor{
+	/**
+	 * Screen position of the body, returned by the getPosition.
+	 */
+	private final Vector2 position = new Vector2();
 	protected Fixture fixture;
+	
+	/**
+	 * Vertices of the body shapes, in world units.
+	 */
+	private final float[] vertices, vertices2, vertices3, hitbox;
         private Sprite binspr;
 		private Actor dustbinBg;
 		
@@ -61,7 +72,6 @@ public class DustbinActor extends ObstacleActor{
 		
 		// tlo
 		dustbinBg = new DustbinActorBg(id);
-		Game.scene.ACTION_1.add(dustbinBg);
 		
                 float grub=6.f;
                 float wysokosc=250.f;
@@ -69,64 +79,42 @@ public class DustbinActor extends ObstacleActor{
                 float pochyl=25.f;            
                          		
 				
-		float[] vertices = new float[] {
+		vertices = new float[] {
                     szerokosc * Physics.SCALE, 0.f * Physics.SCALE,
                     0.f * Physics.SCALE, 0.f * Physics.SCALE,
                     szerokosc * Physics.SCALE, grub * Physics.SCALE,
                     0.f * Physics.SCALE, grub * Physics.SCALE,
 		};
                 
-                float[] vertices2 = new float[] {
+                vertices2 = new float[] {
                     0.f* Physics.SCALE, grub * Physics.SCALE,
                     -pochyl * Physics.SCALE, wysokosc * Physics.SCALE,
                     grub * Physics.SCALE, grub * Physics.SCALE,
                     (grub-pochyl) * Physics.SCALE, wysokosc * Physics.SCALE,
 		};
                 
-                float[] vertices3 = new float[] {
+                vertices3 = new float[] {
                     szerokosc * Physics.SCALE, grub * Physics.SCALE,
                     (szerokosc+pochyl) * Physics.SCALE, wysokosc * Physics.SCALE,
                     (szerokosc-grub) * Physics.SCALE, grub * Physics.SCALE,
                     (szerokosc-grub+pochyl) * Physics.SCALE, wysokosc * Physics.SCALE,
 		};
                 
-                float[] hitbox = new float[] {
+                hitbox = new float[] {
                     (szerokosc-20.f) * Physics.SCALE, (20.f-grub) * Physics.SCALE,
                     20.f * Physics.SCALE, (20.f-grub) * Physics.SCALE,
                     (szerokosc-20.f) * Physics.SCALE, grub * Physics.SCALE,
                     20.f * Physics.SCALE, grub * Physics.SCALE,
 		};
 		
-		PolygonShape dustbin = new PolygonShape();             
-
-		BodyDef bodyDef = new BodyDef();
 		bodyDef.type = BodyDef.BodyType.StaticBody;
 		bodyDef.position.set(0 * Physics.SCALE, 0 * Physics.SCALE);
-		body = Game.physics.world.createBody(bodyDef);
-		
-                
-                dustbin.set(vertices);
-                fixture = body.createFixture(dustbin, 2.f);     
-                fixture.setUserData(this);
-                
-                dustbin.set(vertices2);
-                fixture = body.createFixture(dustbin, 2.f);
-                fixture.setUserData(this);
                 
-                dustbin.set(vertices3);
-                fixture = body.createFixture(dustbin, 2.f);
-                fixture.setUserData(this);
-                
-                dustbin.set(hitbox);
-                fixture = body.createFixture(dustbin, 2.f);
-                fixture.setUserData(this);
-                	
-		dustbin.dispose();
-                
-                binspr = new Sprite(Game.assets.get("assets/dbin.png", Texture.class));
+                binspr = Game.atlas.createSprite("assets/dbin.png");
 		binspr.setBounds(1.f, 1.f, 250.f, 300.f);
 		binspr.setOriginCenter();  
                              
+                impactPriority = Audio.PRIORITY_HIGH;
                 impactSounds.addAll(
 			Game.assets.get(Vault.SOUND_KOSZ1, Sound.class),
 			Game.assets.get(Vault.SOUND_KOSZ2, Sound.class),
@@ -135,15 +123,53 @@ public class DustbinActor extends ObstacleActor{
 			Game.assets.get(Vault.SOUND_KOSZ5, Sound.class)
                 );               
 	}
+	
+	/**
+	 * @see BodyActor#attach(com.badlogic.gdx.physics.box2d.Body) 
+	 * @param body 
+	 */
+	@Override
+	protected void attach(Body body) {
+		PolygonShape dustbin = new PolygonShape();
+		
+		dustbin.set(vertices);
+		fixture = body.createFixture(dustbin, 2.f);
+		fixture.setUserData(this);
+		
+		dustbin.set(vertices2);
+		fixture = body.createFixture(dustbin, 2.f);
+		fixture.setUserData(this);
+		
+		dustbin.set(vertices3);
+		fixture = body.createFixture(dustbin, 2.f);
+		fixture.setUserData(this);
+		
+		dustbin.set(hitbox);
+		fixture = body.createFixture(dustbin, 2.f);
+		fixture.setUserData(this);
+		
+		dustbin.dispose();
+	}
+	
         @Override
 	public void draw(SpriteBatch batch) {
 		binspr.setCenter(
-			(body.getPosition().x * Physics.SCALE_INV)+76.f ,
-			(body.getPosition().y * Physics.SCALE_INV)+125.f
+			getBodyX() + 76.f,
+			getBodyY() + 125.f
 		);
-		batch.begin();
 		binspr.draw(batch);
-		batch.end();
+	}
+	
+	/**
+	 * @see Actor#getBounds() 
+	 * @return Actor bounds.
+	 */
+	@Override
+	public Rectangle getBounds() {
+		float x = getBodyX(),
+			y = getBodyY();
+		
+		return bounds.setSize(binspr.getWidth(), binspr.getHeight()).setCenter(x + 76.f, y + 125.f);
 	}
 	
 		/**
@@ -152,7 +178,7 @@ public class DustbinActor extends ObstacleActor{
 	 */
 	@Override
 	public Vector2 getPosition() {
-		return body.getTransform().getPosition().scl(Physics.SCALE_INV);
+		return position.set(getBodyX(), getBodyY());
 	}
 	
 	/**
@@ -161,7 +187,7 @@ public class DustbinActor extends ObstacleActor{
 	 */
 	@Override
 	public void setPosition(Vector2 newPosition) {
-		body.setTransform(newPosition.cpy().scl(Physics.SCALE), body.getTransform().getRotation());
+		setBodyPosition(newPosition.x, newPosition.y);
 		dustbinBg.setPosition(newPosition);
 	}
 	
@@ -171,7 +197,7 @@ public class DustbinActor extends ObstacleActor{
 	 */
 	@Override
 	public float getRotation() {
-		return body.getTransform().getRotation();
+		return getBodyAngle();
 	}
 	
 	/**
@@ -180,12 +206,15 @@ public class DustbinActor extends ObstacleActor{
 	 */
 	@Override
 	public void setRotation(float newAngle) {
-		body.getTransform().setRotation(newAngle);
+		setBodyAngle(newAngle * MathUtils.degreesToRadians);
 	}
 	
-        @Override
-        public void dispose() {
-            Game.physics.world.destroyBody(body);
-			
-        }
+	/**
+	 * Add the background just before the dustbin, so it is drawn behind.
+	 * @see Entity#prepare() 
+	 */
+	@Override
+	public void prepare() {
+		Game.scene.ACTION_1.add(dustbinBg);
+	}
 }
@@ -23,13 +23,13 @@
  */
 package vault.clockwork.actors;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
-import com.badlogic.gdx.physics.box2d.PolygonShape;
 import vault.clockwork.Game;
 import vault.clockwork.editor.PropSerialized;
 import vault.clockwork.system.Physics;
@@ -38,8 +38,11 @@ import vault.clockwork.system.Physics;
  *
  * @author Qiku
  */
-public class DustbinActorBg extends ObstacleActor{
-    	private Body body;
+public class DustbinActorBg extends BodyActor{
+	/**
+	 * Screen position of the body, returned by the getPosition.
+	 */
+	private final Vector2 position = new Vector2();
         private Sprite binsbg;
 	
 	public DustbinActorBg(PropSerialized prop) {
@@ -52,28 +55,44 @@ public class DustbinActorBg extends ObstacleActor{
 	public DustbinActorBg(int id){
 		super(id);        
                          		
-		PolygonShape dustbin = new PolygonShape();             
-
-		BodyDef bodyDef = new BodyDef();
 		bodyDef.type = BodyDef.BodyType.StaticBody;
 		bodyDef.position.set(0 * Physics.SCALE, 0 * Physics.SCALE);
-		body = Game.physics.world.createBody(bodyDef);
 		
                 
-                binsbg = new Sprite(Game.assets.get("assets/dbinbg.png", Texture.class));
+                binsbg = Game.atlas.createSprite("assets/dbinbg.png");
 		binsbg.setBounds(1.f, 1.f, 250.f, 300.f);
 		binsbg.setOriginCenter();  
                              
 	}
+	
+	/**
+	 * Background has no fixtures, the body only places it.
+	 * @see BodyActor#attach(com.badlogic.gdx.physics.box2d.Body) 
+	 * @param body 
+	 */
+	@Override
+	protected void attach(Body body) {
+	}
+	
         @Override
 	public void draw(SpriteBatch batch) {
                 binsbg.setCenter(
-			(body.getPosition().x * Physics.SCALE_INV)+76.f ,
-			(body.getPosition().y * Physics.SCALE_INV)+125.f
+			getBodyX() + 76.f,
+			getBodyY() + 125.f
 		);
-		batch.begin();
                 binsbg.draw(batch);
-		batch.end();
+	}
+	
+	/**
+	 * @see Actor#getBounds() 
+	 * @return Actor bounds.
+	 */
+	@Override
+	public Rectangle getBounds() {
+		float x = getBodyX(),
+			y = getBodyY();
+		
+		return bounds.setSize(binsbg.getWidth(), binsbg.getHeight()).setCenter(x + 76.f, y + 125.f);
 	}
 	
 		/**
@@ -82,7 +101,7 @@ public class DustbinActorBg extends ObstacleActor{
 	 */
 	@Override
 	public Vector2 getPosition() {
-		return body.getTransform().getPosition().scl(Physics.SCALE_INV);
+		return position.set(getBodyX(), getBodyY());
 	}
 	
 	/**
@@ -91,7 +110,7 @@ public class DustbinActorBg extends ObstacleActor{
 	 */
 	@Override
 	public void setPosition(Vector2 newPosition) {
-		body.setTransform(newPosition.cpy().scl(Physics.SCALE), body.getTransform().getRotation());
+		setBodyPosition(newPosition.x, newPosition.y);
 	}
 	
 	/**
@@ -100,7 +119,7 @@ public class DustbinActorBg extends ObstacleActor{
 	 */
 	@Override
 	public float getRotation() {
-		return body.getTransform().getRotation();
+		return getBodyAngle();
 	}
 	
 	/**
@@ -109,11 +128,6 @@ public class DustbinActorBg extends ObstacleActor{
 	 */
 	@Override
 	public void setRotation(float newAngle) {
-		body.getTransform().setRotation(newAngle);
+		setBodyAngle(newAngle * MathUtils.degreesToRadians);
 	}
-	
-        @Override
-        public void dispose() {
-            Game.physics.world.destroyBody(body);
-        }
 }
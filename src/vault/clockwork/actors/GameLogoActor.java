@@ -23,7 +23,6 @@
  */
 package vault.clockwork.actors;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
@@ -45,7 +44,7 @@ public class GameLogoActor extends Actor {
 	 * Preload the actor resources.
 	 */
 	static public void preload() {
-		Game.assets.load(LOGO_TEXTURE, Texture.class);
+		Game.atlas.preload(LOGO_TEXTURE);
 	}
 	
 	/**
@@ -74,8 +73,11 @@ public class GameLogoActor extends Actor {
 	public GameLogoActor() {
 		super(-1, -1);
 		
+		// update advances the bobbing timer only
+		this.parallel = true;
+		
 		// create the sprite
-		sprLogo = new Sprite(Game.assets.get(LOGO_TEXTURE, Texture.class));
+		sprLogo = Game.atlas.createSprite(LOGO_TEXTURE);
 		sprLogo.setOriginCenter();
 		sprLogo.setScale(.8f);
 	}
@@ -104,9 +106,7 @@ public class GameLogoActor extends Actor {
 		}
 		
 		// draw-up the sprite
-		batch.begin();
 		sprLogo.draw(batch);
-		batch.end();
 		
 		// RESET the shader usage
 		batch.setShader(null);
@@ -28,6 +28,7 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
 import vault.clockwork.Game;
 import vault.clockwork.scene.Actor;
 
@@ -53,6 +54,16 @@ public class GridBackgroundActor extends Actor {
 	 */
 	public float parallax = 1.f;
 	
+	/**
+	 * Identity projection of the screen-coords drawing.
+	 */
+	static private final Matrix4 IDENTITY = new Matrix4();
+	
+	/**
+	 * Projection of the batch before the background draw.
+	 */
+	private final Matrix4 oldProjection = new Matrix4();
+	
 	/**
 	 * Ctor.
 	 * @see Actor#Actor(int) 
@@ -83,8 +94,8 @@ public class GridBackgroundActor extends Actor {
 	@Override
 	public void draw(SpriteBatch batch) {
 		// change drawing projection to identity
-		Matrix4 oldProj = batch.getProjectionMatrix();
-		batch.setProjectionMatrix(new Matrix4());
+		oldProjection.set(batch.getProjectionMatrix());
+		batch.setProjectionMatrix(IDENTITY);
 		
 		float scale = Game.mainCamera.zoom,
 			w = (float)Gdx.graphics.getWidth() * pixelSize * scale, 
@@ -98,11 +109,19 @@ public class GridBackgroundActor extends Actor {
 		background.setV2(y - h/2);
 		
 		// fill-up the screen
-		batch.begin();
 		background.draw(batch);
-		batch.end();
 		
 		// reverse camera projection
-		batch.setProjectionMatrix(oldProj);
+		batch.setProjectionMatrix(oldProjection);
+	}
+	
+	/**
+	 * Background covers the whole screen, so it is never culled.
+	 * @see Actor#getBounds() 
+	 * @return <b>NULL</b>
+	 */
+	@Override
+	public Rectangle getBounds() {
+		return null;
 	}
 }
@@ -27,6 +27,8 @@ import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.Fixture;
@@ -41,9 +43,21 @@ import vault.clockwork.system.Physics;
  * Static ground physics actor.
  * @author Konrad Nowakowski https://github.com/konrad92
  */
-public class GroundActor extends ObstacleActor {
-	private final Body body;
-	private final Fixture fixture;
+public class GroundActor extends BodyActor {
+	/**
+	 * Half extents of the ground box, in the physics units.
+	 */
+	static public final float HALF_WIDTH = 100.f, HALF_HEIGHT = .2f;
+	
+	/**
+	 * Position of the ground body, in the physics units.
+	 */
+	static public final float BODY_X = 0.f, BODY_Y = -2.f;
+	
+	/**
+	 * Material of the ground fixture.
+	 */
+	static public final float FRICTION = .1f, RESTITUTION = .5f;
 	
 	/**
 	 * Sciezka do tekstury ziemii.
@@ -67,7 +81,7 @@ public class GroundActor extends ObstacleActor {
 	 * @param prop 
 	 */
 	public GroundActor(PropSerialized prop) {
-		this(prop.id);
+		this(prop.id, !prop.baked);
 		
 		// load position
 		setPosition(prop.position);
@@ -75,32 +89,30 @@ public class GroundActor extends ObstacleActor {
 	
 	/**
 	 * Ctor.
-	 * Create new physic ground body on the world.
+	 * Ground with the physics body.
 	 * @see Actor#Actor(int) 
 	 * @param id Turret unique id.
 	 */
 	public GroundActor(int id) {
-		super(id);
-		
-		// body shape
-		PolygonShape shape = new PolygonShape();
-		shape.setAsBox(100.f, .2f);
+		this(id, true);
+	}
+	
+	/**
+	 * Ctor.
+	 * Baked ground has no physics body, its collision is created
+	 * along the level static geometry.
+	 * @param id Turret unique id.
+	 * @param physics Create the physics body.
+	 */
+	public GroundActor(int id, boolean physics) {
+		super(id, physics);
 		
-		// create physics body
-		BodyDef bodyDef = new BodyDef();
+		// body definition, the position of the baked ground too
 		bodyDef.type = BodyDef.BodyType.StaticBody;
-		bodyDef.position.set(0, -2.f);
-		body = Game.physics.world.createBody(bodyDef);
-		fixture = body.createFixture(shape, 0.f);
-		fixture.setRestitution(.5f);
-		fixture.setFriction(0.1f);
-		fixture.setUserData(this);
-		
-		shape.dispose();
+		bodyDef.position.set(BODY_X, BODY_Y);
 		
 		// ground sprite
 		sprGround = new Sprite(Game.assets.get(GROUND_TEXTURE, Texture.class));
-		sprGround.getTexture().setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.Repeat);
 		
 		// dodanie dzwiekow do odegrania
 		impactSounds.add(
@@ -108,6 +120,32 @@ public class GroundActor extends ObstacleActor {
 		);
 	}
 	
+	/**
+	 * Repeat the ground texture and create the body, when not baked.
+	 * @see BodyActor#create() 
+	 */
+	@Override
+	public void create() {
+		sprGround.getTexture().setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.Repeat);
+		super.create();
+	}
+	
+	/**
+	 * @see BodyActor#attach(com.badlogic.gdx.physics.box2d.Body) 
+	 * @param body 
+	 */
+	@Override
+	protected void attach(Body body) {
+		PolygonShape shape = new PolygonShape();
+		shape.setAsBox(HALF_WIDTH, HALF_HEIGHT);
+		
+		Fixture fixture = body.createFixture(shape, 0.f);
+		fixture.setRestitution(RESTITUTION);
+		fixture.setFriction(FRICTION);
+		fixture.setUserData(this);
+		shape.dispose();
+	}
+	
 	/**
 	 * @see Actor#draw(com.badlogic.gdx.graphics.g2d.SpriteBatch) 
 	 * @param batch 
@@ -119,22 +157,28 @@ public class GroundActor extends ObstacleActor {
 		sprGround.setRegionWidth((int)region);
 		
 		sprGround.setPosition(
-			body.getPosition().x * Physics.SCALE_INV - sprGround.getWidth() * .5f,
-			body.getPosition().y * Physics.SCALE_INV - sprGround.getHeight() + 56.f
+			getBodyX() - sprGround.getWidth() * .5f,
+			getBodyY() - sprGround.getHeight() + 56.f
 		);
 		
 		// draw sprite
-		batch.begin();
 		sprGround.draw(batch);
-		batch.end();
 	}
 	
 	/**
-	 * Remove physic body from the world.
-	 * @see Actor#dispose() 
+	 * @see Actor#getBounds() 
+	 * @return Actor bounds.
 	 */
 	@Override
-	public void dispose() {
-		Game.physics.world.destroyBody(body);
+	public Rectangle getBounds() {
+		float x = getBodyX(),
+			y = getBodyY();
+		
+		return bounds.set(
+			x - sprGround.getWidth() * .5f,
+			y - sprGround.getHeight() + 56.f,
+			sprGround.getWidth(),
+			sprGround.getHeight()
+		);
 	}
 }
@@ -25,7 +25,6 @@ package vault.clockwork.actors;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
@@ -36,6 +35,7 @@ import vault.clockwork.Game;
 import vault.clockwork.controllers.CameraController;
 import vault.clockwork.editor.PropSerialized;
 import vault.clockwork.scene.Actor;
+import vault.clockwork.scene.ActorPool;
 import vault.clockwork.scene.Entity;
 import vault.clockwork.system.SceneController;
 
@@ -88,10 +88,10 @@ public class HandActor extends Actor {
 	 * Preload the actor resources.
 	 */
 	static public void preload() {
-		Game.assets.load(HAND_TEXTURE, Texture.class);
-		Game.assets.load(STAMINABAR_BG_TEXTURE, Texture.class);
-		Game.assets.load(STAMINABAR_FG_TEXTURE, Texture.class);
-		Game.assets.load(STAMINABAR_MD_TEXTURE, Texture.class);
+		Game.atlas.preload(HAND_TEXTURE);
+		Game.atlas.preload(STAMINABAR_BG_TEXTURE);
+		Game.atlas.preload(STAMINABAR_FG_TEXTURE);
+		Game.atlas.preload(STAMINABAR_MD_TEXTURE);
 	}
 	
 	/**
@@ -107,11 +107,38 @@ public class HandActor extends Actor {
 	private final Sprite sprStaminaFG;
 	private final Sprite sprStaminaMD;
 	
+	/**
+	 * Full width of the stamina level sprite region.
+	 */
+	private final int staminaWidth;
+	
 	/**
 	 * Paper ball actor assigned for cooldown process.
 	 */
 	private PaperBallActor paperBall;
 	
+	/**
+	 * Pool of the shot paper balls.
+	 * Registered with the scene, which disposes it on clear.
+	 */
+	private final ActorPool<PaperBallActor> paperBalls = new ActorPool<PaperBallActor>() {
+		@Override
+		protected PaperBallActor newObject() {
+			return new PaperBallActor(0);
+		}
+	};
+	
+	/**
+	 * Shoot force, reused by each shot.
+	 */
+	private final Vector2 force = new Vector2();
+	
+	/**
+	 * Pointer vectors, reused by each pointer query.
+	 */
+	private final Vector3 pointer3 = new Vector3();
+	private final Vector2 pointer = new Vector2(), handDirection = new Vector2();
+	
 	/**
 	 * Stamina level. Determines strength of the shoot.
 	 */
@@ -134,9 +161,7 @@ public class HandActor extends Actor {
 			);
 
 			// draw-up the hand sprite
-			batch.begin();
 			sprHand.draw(batch);
-			batch.end();
 		}
 	};
 	
@@ -209,18 +234,16 @@ public class HandActor extends Actor {
 			sprStaminaFG.setCenter(position.x, position.y + 200.f * scale);
 
 			// stamina level
-			float level = (float)sprStaminaMD.getTexture().getWidth() * Math.min(staminaLevel, 1.f);
+			float level = (float)staminaWidth * Math.min(staminaLevel, 1.f);
 			sprStaminaMD.setScale(Game.mainCamera.zoom);
 			sprStaminaMD.setPosition(position.x - sprStaminaBG.getWidth()*.5f, sprStaminaBG.getY());
 			sprStaminaMD.setSize(level, sprStaminaMD.getHeight());
 			sprStaminaMD.setRegionWidth((int)(level));
 
 			// draw-up the stamina sprites
-			batch.begin();
 			sprStaminaBG.draw(batch);
 			sprStaminaMD.draw(batch);
 			sprStaminaFG.draw(batch);
-			batch.end();
 		}
 	};
 	
@@ -229,16 +252,15 @@ public class HandActor extends Actor {
 	 */
 	private HandState currentState = null;
 	
+	/**
+	 * Center the camera on the hand, when placed by the level.
+	 */
+	private boolean centerCamera = false;
+	
 	public HandActor(PropSerialized prop) {
 		this(prop.id);
 		this.setPosition(prop.position);
-		
-		// centrowanie kamery
-		for(SceneController ctrl : Game.scene.controllers) {
-			if(ctrl instanceof CameraController) {
-				((CameraController)ctrl).camera.translate(position);
-			}
-		}
+		this.centerCamera = true;
 	}
 	
 	/**
@@ -249,20 +271,41 @@ public class HandActor extends Actor {
 		super(id, TYPE_PLAYER);
 		
 		// create hand sprite
-		sprHand = new Sprite(Game.assets.get(HAND_TEXTURE, Texture.class));
+		sprHand = Game.atlas.createSprite(HAND_TEXTURE);
 		sprHand.setOrigin(270.f, 94.f);
 		sprHand.setScale(.8f);
 		setPosition(Vector2.Y.cpy().scl(200.f));
 		
 		// create stamina bar sprites
-		sprStaminaBG = new Sprite(Game.assets.get(STAMINABAR_BG_TEXTURE, Texture.class));
-		sprStaminaFG = new Sprite(Game.assets.get(STAMINABAR_FG_TEXTURE, Texture.class));
-		sprStaminaMD = new Sprite(Game.assets.get(STAMINABAR_MD_TEXTURE, Texture.class));
+		sprStaminaBG = Game.atlas.createSprite(STAMINABAR_BG_TEXTURE);
+		sprStaminaFG = Game.atlas.createSprite(STAMINABAR_FG_TEXTURE);
+		sprStaminaMD = Game.atlas.createSprite(STAMINABAR_MD_TEXTURE);
+		staminaWidth = sprStaminaMD.getRegionWidth();
 		
 		// zmien stan rozgrywki
 		setState(STATE_READY);
 	}
 	
+	/**
+	 * Register the paper balls pool with the scene.
+	 * Level actors are instanced by the loader screen, so the camera is
+	 * centered here, once the stage controllers are on the scene.
+	 * @see Entity#create() 
+	 */
+	@Override
+	public void create() {
+		getScene().pools.add(paperBalls);
+		
+		// centrowanie kamery
+		if(centerCamera) {
+			for(SceneController ctrl : getScene().controllers) {
+				if(ctrl instanceof CameraController) {
+					((CameraController)ctrl).camera.translate(position);
+				}
+			}
+		}
+	}
+	
 	/**
 	 * Controll the hand by mouse pointer.
 	 * @see Actor#update(float) 
@@ -362,10 +405,10 @@ public class HandActor extends Actor {
 		}
 		
 		// kierunek i sila wystrzalu
-		Vector2 force = Vector2.X.cpy().setAngle(getRotation()).scl(staminaLevel * 500.f);
+		force.set(staminaLevel * 500.f, 0.f).setAngle(getRotation());
 		
-		// stworz kulke
-		paperBall = new PaperBallActor(0);
+		// wez kulke z puli
+		paperBall = paperBalls.obtain();
 		paperBall.setPosition(position);
 		paperBall.applyForce(force);
 		Game.scene.ACTION_1.add(paperBall);
@@ -373,16 +416,17 @@ public class HandActor extends Actor {
 	
 	/**
 	 * Get the pointer vector, from the hand to the cursor.
+	 * Returned vector is reused by the next call.
 	 * @return 
 	 */
 	public Vector2 getPointerVector() {
-		Vector3 rotateBy = Game.mainCamera.unproject(new Vector3(
+		Vector3 rotateBy = Game.mainCamera.unproject(pointer3.set(
 			Gdx.input.getX() - position.x / Game.mainCamera.zoom,
 			Gdx.input.getY() + position.y / Game.mainCamera.zoom,
 			0.f
 		));
 		
-		return new Vector2(rotateBy.x, rotateBy.y);
+		return pointer.set(rotateBy.x, rotateBy.y);
 	}
 	
 	/**
@@ -391,7 +435,7 @@ public class HandActor extends Actor {
 	 * @return 
 	 */
 	private float angleDifference(Vector2 by) {
-		return by.angle(Vector2.X.cpy().setAngle(sprHand.getRotation()));
+		return by.angle(handDirection.set(Vector2.X).setAngle(sprHand.getRotation()));
 	}
 	
 	/**
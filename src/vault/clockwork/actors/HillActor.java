@@ -24,14 +24,13 @@
 package vault.clockwork.actors;
 
 import com.badlogic.gdx.audio.Sound;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
-import com.badlogic.gdx.physics.box2d.Fixture;
-import com.badlogic.gdx.physics.box2d.PolygonShape;
 import vault.clockwork.Game;
 import vault.clockwork.Vault;
 import vault.clockwork.editor.PropSerialized;
@@ -41,41 +40,47 @@ import vault.clockwork.system.Physics;
  * Pagórek
  * @author Agnieszka Makowska https://github.com/Migemiley
  */
-public class HillActor extends ObstacleActor{
-	private Body body;
-	private Fixture fixture;
+public class HillActor extends BodyActor{
+	/**
+	 * Collision triangle, relative to the hill position.
+	 */
+	static public final float[] SHAPE = new float[] {
+		5.f, 20.f,
+		150.f, 20.f,
+		80.f, 55.f
+	};
+	
+	/**
+	 * Screen position of the body, returned by the getPosition.
+	 */
+	private final Vector2 position = new Vector2();
 	private final Sprite sprStone;
 
 	public HillActor(PropSerialized prop) {
-		this(prop.id);
+		this(prop.id, !prop.baked);
 		
 		// load position
 		setPosition(prop.position);
 	}
 	
 	public HillActor(int id){
-		super(id);
-		
-		float[] vertices = new float[] {
-		5.f * Physics.SCALE, 20.f * Physics.SCALE,
-		150.f * Physics.SCALE, 20.f * Physics.SCALE,
-		80.f * Physics.SCALE, 55.f * Physics.SCALE,
-		};
+		this(id, true);
+	}
+	
+	/**
+	 * Ctor.
+	 * @param id Unique actor id.
+	 * @param physics Create the physics body, baked hills have none.
+	 */
+	public HillActor(int id, boolean physics){
+		super(id, physics);
 		
-		PolygonShape stone = new PolygonShape();
-		stone.set(vertices);
-
-		BodyDef bodyDef = new BodyDef();
+		// body definition, the position of the baked hill too
 		bodyDef.type = BodyDef.BodyType.StaticBody;
 		bodyDef.position.set(-200.f * Physics.SCALE, -190.f * Physics.SCALE);
-		body = Game.physics.world.createBody(bodyDef);
-		fixture = body.createFixture(stone, 2.f);
-		fixture.setUserData(this);
-		
-		stone.dispose();
 		
 		// create the plank sprite
-		sprStone = new Sprite(Game.assets.get("assets/hill.png", Texture.class));
+		sprStone = Game.atlas.createSprite("assets/hill.png");
 		sprStone.setBounds(0.f, 0.f, 150.f, 60.f);
 		
 		
@@ -85,20 +90,33 @@ public class HillActor extends ObstacleActor{
 		);
 	}
 	
+	/**
+	 * @see BodyActor#attach(com.badlogic.gdx.physics.box2d.Body) 
+	 * @param body 
+	 */
+	@Override
+	protected void attach(Body body) {
+		attachPolygon(body, SHAPE, 2.f);
+	}
+	
 	@Override
 	public void draw(SpriteBatch batch) {
 //		sprStone.setCenter(
 //			body.getPosition().x * Physics.SCALE_INV,
 //			body.getPosition().y * Physics.SCALE_INV
 //		);
-		sprStone.setPosition(
-			body.getPosition().x * Physics.SCALE_INV,
-			body.getPosition().y * Physics.SCALE_INV
-		);
+		sprStone.setPosition(getBodyX(), getBodyY());
 		
-		batch.begin();
 		sprStone.draw(batch);
-		batch.end();
+	}
+	
+	/**
+	 * @see Actor#getBounds() 
+	 * @return Actor bounds.
+	 */
+	@Override
+	public Rectangle getBounds() {
+		return bounds.set(getBodyX(), getBodyY(), sprStone.getWidth(), sprStone.getHeight());
 	}
 	
 	/**
@@ -107,7 +125,7 @@ public class HillActor extends ObstacleActor{
 	 */
 	@Override
 	public Vector2 getPosition() {
-		return body.getTransform().getPosition().scl(Physics.SCALE_INV);
+		return position.set(getBodyX(), getBodyY());
 	}
 	
 	/**
@@ -116,7 +134,7 @@ public class HillActor extends ObstacleActor{
 	 */
 	@Override
 	public void setPosition(Vector2 newPosition) {
-		body.setTransform(newPosition.cpy().scl(Physics.SCALE), body.getTransform().getRotation());
+		setBodyPosition(newPosition.x, newPosition.y);
 	}
 	
 	/**
@@ -125,7 +143,7 @@ public class HillActor extends ObstacleActor{
 	 */
 	@Override
 	public float getRotation() {
-		return body.getTransform().getRotation();
+		return getBodyAngle();
 	}
 	
 	/**
@@ -134,12 +152,6 @@ public class HillActor extends ObstacleActor{
 	 */
 	@Override
 	public void setRotation(float newAngle) {
-		body.getTransform().setRotation(newAngle);
-	}
-	
-	@Override
-	public void dispose() {
-		Game.physics.world.destroyBody(body);
+		setBodyAngle(newAngle * MathUtils.degreesToRadians);
 	}
-	
 }
@@ -24,20 +24,43 @@
 package vault.clockwork.actors;
 
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.Array;
 import vault.clockwork.Game;
 import vault.clockwork.scene.Actor;
+import vault.clockwork.system.Audio;
+import vault.clockwork.system.Physics;
 
 /**
  * Aktor posiadajacy dzwieki do odegrania w czasie uderzenia.
  * @author Agnieszka Makowska https://github.com/Migemiley
  */
 public abstract class ObstacleActor extends Actor {
+	/**
+	 * Impulse of the impact played at the full volume.
+	 */
+	static public final float IMPACT_FULL_IMPULSE = 2.f;
+	
+	/**
+	 * Minimal time in seconds between the impact sounds of the actor.
+	 */
+	static public final float IMPACT_COOLDOWN = .1f;
+	
 	/**
 	 * Tablica dzwiekow do odegrania w czasie kolizji.
 	 */
 	protected final Array<Sound> impactSounds = new Array<>();
 	
+	/**
+	 * Priorytet dzwiekow uderzenia.
+	 */
+	protected int impactPriority = Audio.PRIORITY_NORMAL;
+	
+	/**
+	 * Audio time of the last impact sound.
+	 */
+	private float lastImpact = -IMPACT_COOLDOWN;
+	
 	/**
 	 * Ctor.
 	 * @param id Unikalny identyfikator aktora. 
@@ -50,16 +73,51 @@ public abstract class ObstacleActor extends Actor {
 	 * Odegranie losowego dzwieku uderzenia z tablicy.
 	 */
 	public void playImpactSound(){
-		if(!Game.config.sounds) {
-			return;
-		}
+		Sound impactSnd = this.pickImpactSound(1.f);
 		
-		// losuj dzwiek
-		Sound impactSnd = impactSounds.random();
+		// odegranie dzwieki jezeli istnieje
+		if(impactSnd != null) {
+			Game.audio.play(impactSnd, 1.f, impactPriority);
+		}
+	}
+	
+	/**
+	 * Odegranie losowego dzwieku uderzenia w miejscu kontaktu.
+	 * Glosnosc zalezy od impulsu uderzenia.
+	 * @param contact Contact event of the impact.
+	 */
+	public void playImpactSound(Physics.ContactEvent contact){
+		float volume = MathUtils.clamp(contact.impulse / IMPACT_FULL_IMPULSE, 0.f, 1.f);
+		Sound impactSnd = this.pickImpactSound(volume);
 		
 		// odegranie dzwieki jezeli istnieje
 		if(impactSnd != null) {
-			impactSnd.play();
+			Game.audio.play(impactSnd, volume,
+				contact.point.x * Physics.SCALE_INV,
+				contact.point.y * Physics.SCALE_INV,
+				impactPriority
+			);
 		}
 	}
+	
+	/**
+	 * Losuj dzwiek uderzenia, gdy aktor nie jest wyciszony.
+	 * @param volume Volume of the impact.
+	 * @return <b>NULL</b> when nothing to play.
+	 */
+	private Sound pickImpactSound(float volume) {
+		if(!Game.config.sounds || volume < Audio.MIN_VOLUME) {
+			return null;
+		}
+		
+		// cooldown of the actor
+		float time = Game.audio.getTime();
+		if(time - lastImpact < IMPACT_COOLDOWN) {
+			return null;
+		}
+		lastImpact = time;
+		
+		// losuj dzwiek
+		return impactSounds.random();
+	}
 }
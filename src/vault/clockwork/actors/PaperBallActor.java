@@ -24,19 +24,19 @@
 package vault.clockwork.actors;
 
 import com.badlogic.gdx.audio.Sound;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.CircleShape;
-import com.badlogic.gdx.physics.box2d.Contact;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.PolygonShape;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
 import vault.clockwork.Game;
 import vault.clockwork.Vault;
 import vault.clockwork.scene.Actor;
@@ -46,7 +46,7 @@ import vault.clockwork.system.Physics;
  *
  * @author Konrad Nowakowski https://github.com/konrad92
  */
-public class PaperBallActor extends ObstacleActor {
+public class PaperBallActor extends BodyActor {
 	/**
 	 * Klasa do rysowania trajektorii.
 	 */
@@ -62,14 +62,32 @@ public class PaperBallActor extends ObstacleActor {
 		 */
 		static public final float LENGTH = 10.f;
 		
+		/**
+		 * Ctor.
+		 * Pooled traces are assigned by the set method.
+		 */
+		public PathTrace() {
+		}
+		
 		/**
 		 * Ctor.
 		 * @param position
 		 * @param angle DEGREES
 		 */
 		public PathTrace(Vector2 position, float angle) {
+			this.set(position, angle);
+		}
+		
+		/**
+		 * Ustaw czesc trajektorii.
+		 * @param position
+		 * @param angle DEGREES
+		 * @return Chaining trace.
+		 */
+		public PathTrace set(Vector2 position, float angle) {
 			this.position.set(position);
 			this.angle = angle;
+			return this;
 		}
 		
 		/**
@@ -78,9 +96,12 @@ public class PaperBallActor extends ObstacleActor {
 		 * @param renderer 
 		 */
 		public void drawUp(ShapeRenderer renderer) {
+			float dx = MathUtils.cosDeg(angle) * LENGTH * .5f,
+				dy = MathUtils.sinDeg(angle) * LENGTH * .5f;
+			
 			renderer.line(
-				Vector2.X.cpy().setAngle(angle).scl(-LENGTH * .5f).add(position),
-				Vector2.X.cpy().setAngle(angle).scl(LENGTH * .5f).add(position)
+				position.x - dx, position.y - dy,
+				position.x + dx, position.y + dy
 			);
 		}
 	}
@@ -94,18 +115,23 @@ public class PaperBallActor extends ObstacleActor {
 	 * Preload the actor resources.
 	 */
 	static public void preload() {
-		Game.assets.load(PAPERBALL_TEXTURE, Texture.class);
+		Game.atlas.preload(PAPERBALL_TEXTURE);
 	}
 	
 	/**
-	 * Physics body.
+	 * The body single fixture.
 	 */
-	private final Body body;
+	private Fixture fixture;
 	
 	/**
-	 * The body single fixture.
+	 * Body of the pooled ball is asleep, woken up by the create.
 	 */
-	private final Fixture fixture;
+	private boolean asleep = false;
+	
+	/**
+	 * Force applied by the create, copied as the vector is reused.
+	 */
+	private final Vector2 force = new Vector2();
 	
 	/**
 	 * Paper ball sprite to be drawn.
@@ -117,6 +143,21 @@ public class PaperBallActor extends ObstacleActor {
 	 */
 	private final Array<PathTrace> paths = new Array<>();
 	
+	/**
+	 * Czesci trajektorii do ponownego uzycia.
+	 */
+	private final Pool<PathTrace> pathsPool = new Pool<PathTrace>() {
+		@Override
+		protected PathTrace newObject() {
+			return new PathTrace();
+		}
+	};
+	
+	/**
+	 * Screen position of the body, reused every update.
+	 */
+	private final Vector2 screenPosition = new Vector2();
+	
 	/**
 	 * Ctor.
 	 * Create new physic body on the world.
@@ -126,10 +167,8 @@ public class PaperBallActor extends ObstacleActor {
 	public PaperBallActor(int id) {
 		super(id);
 		
-		// body shape
-		//PolygonShape shape = new PolygonShape();
-		CircleShape shape = new CircleShape();
-		shape.setRadius(20.f * Physics.SCALE);
+		// update reads the acquired snapshot and appends its own trace
+		this.parallel = true;
 		
 		// make the circle
 		/*Vector2[] circleBuilt = new Vector2[8];
@@ -142,23 +181,13 @@ public class PaperBallActor extends ObstacleActor {
 		
 		shape.set(circleBuilt);*/
 		
-		// create physics body
-		BodyDef bodyDef = new BodyDef();
+		// physics body definition
 		bodyDef.type = BodyDef.BodyType.DynamicBody;
 		bodyDef.position.set((float)Math.random()*1.f, (float)Math.random()*1.f);
 		bodyDef.fixedRotation = true;
-		body = Game.physics.world.createBody(bodyDef);
-		
-		// make the fixtures
-		fixture = body.createFixture(shape, 5.f);
-		fixture.setRestitution(.4f);
-		fixture.setFriction(.35f);
-		fixture.setUserData(this);
-		
-		shape.dispose();
 		
 		// create the ball sprite
-		sprBall = new Sprite(Game.assets.get(PAPERBALL_TEXTURE, Texture.class));
+		sprBall = Game.atlas.createSprite(PAPERBALL_TEXTURE);
 		sprBall.setBounds(-25.f, -25.f, 50.f, 50.f);
 		sprBall.setOriginCenter();
 		
@@ -166,6 +195,56 @@ public class PaperBallActor extends ObstacleActor {
 		impactSounds.addAll(
 			Game.assets.get(Vault.SOUND_PAPERHIT, Sound.class)
 		);
+		
+		// trace path drawn with the shape renderer
+		this.batched = false;
+	}
+	
+	/**
+	 * Create the body, or wake up the body of the pooled ball.
+	 * Then apply the force given before the ball were added.
+	 * @see BodyActor#create() 
+	 */
+	@Override
+	public void create() {
+		if(asleep) {
+			asleep = false;
+			
+			int slot = bodySlot = Game.physics.reserve();
+			Game.physics.post(() -> {
+				body.setActive(true);
+				Game.physics.track(slot, body);
+			});
+			Game.physics.place(slot, bodyDef.position.x, bodyDef.position.y, bodyDef.angle);
+		} else {
+			super.create();
+		}
+		
+		if(!force.isZero()) {
+			float fx = force.x, fy = force.y;
+			Game.physics.post(() -> body.applyForceToCenter(fx, fy, true));
+			force.setZero();
+		}
+	}
+	
+	/**
+	 * @see BodyActor#attach(com.badlogic.gdx.physics.box2d.Body) 
+	 * @param body 
+	 */
+	@Override
+	protected void attach(Body body) {
+		// body shape
+		//PolygonShape shape = new PolygonShape();
+		CircleShape shape = new CircleShape();
+		shape.setRadius(20.f * Physics.SCALE);
+		
+		// make the fixtures
+		fixture = body.createFixture(shape, 5.f);
+		fixture.setRestitution(.4f);
+		fixture.setFriction(.35f);
+		fixture.setUserData(this);
+		
+		shape.dispose();
 	}
 	
 	/**
@@ -174,8 +253,9 @@ public class PaperBallActor extends ObstacleActor {
 	 */
 	@Override
 	public void update(float delta) {
-		if(paths.size == 0 || body.getPosition().scl(Physics.SCALE_INV).dst(paths.peek().position) > 25.f) {
-			paths.add(new PathTrace(body.getPosition().scl(Physics.SCALE_INV), body.getLinearVelocity().angle()));
+		screenPosition.set(getBodyX(), getBodyY());
+		if(paths.size == 0 || screenPosition.dst(paths.peek().position) > 25.f) {
+			paths.add(pathsPool.obtain().set(screenPosition, Game.physics.getDirection(bodySlot)));
 		}
 	}
 	
@@ -186,12 +266,12 @@ public class PaperBallActor extends ObstacleActor {
 	@Override
 	public void draw(SpriteBatch batch) {
 		sprBall.setCenter(
-			body.getPosition().x * Physics.SCALE_INV,
-			body.getPosition().y * Physics.SCALE_INV
+			Game.physics.getRenderX(bodySlot),
+			Game.physics.getRenderY(bodySlot)
 		);
 		
-		// obroc sprite, zamieniajac radiany body na zwykly kat
-		sprBall.setRotation(body.getAngle() * MathUtils.radiansToDegrees);
+		// obroc sprite, interpolowany kat jest juz w stopniach
+		sprBall.setRotation(Game.physics.getRenderAngle(bodySlot));
 		
 		// draw path
 		Game.scene.gizmo.begin(ShapeRenderer.ShapeType.Line);
@@ -207,13 +287,23 @@ public class PaperBallActor extends ObstacleActor {
 		batch.end();
 	}
 	
+	/**
+	 * Paper ball is never culled, as its trace path goes far behind.
+	 * @see Actor#getBounds() 
+	 * @return <b>NULL</b>
+	 */
+	@Override
+	public Rectangle getBounds() {
+		return null;
+	}
+	
 	/**
 	 * Remove actor on impact with WielokatActor.
 	 * @param actor
 	 * @param contact 
 	 */
 	@Override
-	public void onHit(Actor actor, Contact contact) {
+	public void onHit(Actor actor, Physics.ContactEvent contact) {
 		if(actor instanceof DustbinActor) {
 			if(Physics.OR(((DustbinActor)actor).fixture, contact)) {
 				this.remove();
@@ -221,26 +311,48 @@ public class PaperBallActor extends ObstacleActor {
 		}
 		
 		if(actor instanceof ObstacleActor){
-			((ObstacleActor)actor).playImpactSound();
+			((ObstacleActor)actor).playImpactSound(contact);
 		}
 	}
 	
 	/**
 	 * Nadaje sily aktorowi.
+	 * Force of the ball not added yet is applied by the create.
 	 * @param newForce 
 	 */
 	public void applyForce(Vector2 newForce) {
-		body.setTransform(body.getPosition(), (float)(Math.random()*Math.PI*2));
-		body.applyForceToCenter(newForce, true);
+		setBodyAngle(MathUtils.random(MathUtils.PI2));
+		
+		// sila kopiowana, wektor jest uzywany ponownie
+		if(bodySlot < 0) {
+			force.add(newForce);
+			return;
+		}
+		float fx = newForce.x, fy = newForce.y;
+		Game.physics.post(() -> body.applyForceToCenter(fx, fy, true));
 	}
 	
 	/**
-	 * Remove physic body from the world.
-	 * @see Actor#dispose() 
+	 * Put the paper ball body asleep, instead of destroying it.
+	 * @see Actor#reset() 
 	 */
 	@Override
-	public void dispose() {
-		Game.physics.world.destroyBody(body);
+	public void reset() {
+		asleep = true;
+		
+		// pooled balls are not tracked, the last position is kept
+		float x = getBodyX(), y = getBodyY();
+		bodySlot = Game.physics.untrack(bodySlot);
+		setBodyPosition(x, y);
+		Game.physics.post(() -> {
+			body.setActive(false);
+			body.setLinearVelocity(0.f, 0.f);
+			body.setAngularVelocity(0.f);
+		});
+		
+		// release the trace path
+		pathsPool.freeAll(paths);
+		paths.clear();
 	}
 	
 	/**
@@ -249,7 +361,7 @@ public class PaperBallActor extends ObstacleActor {
 	 */
 	@Override
 	public Vector2 getPosition() {
-		return body.getTransform().getPosition().scl(Physics.SCALE_INV);
+		return screenPosition.set(getBodyX(), getBodyY());
 	}
 	
 	/**
@@ -258,6 +370,6 @@ public class PaperBallActor extends ObstacleActor {
 	 */
 	@Override
 	public void setPosition(Vector2 newPosition) {
-		body.setTransform(newPosition.cpy().scl(Physics.SCALE), body.getTransform().getRotation());
+		setBodyPosition(newPosition.x, newPosition.y);
 	}
 }
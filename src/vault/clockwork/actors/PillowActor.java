@@ -24,14 +24,13 @@
 package vault.clockwork.actors;
 
 import com.badlogic.gdx.audio.Sound;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
-import com.badlogic.gdx.physics.box2d.Fixture;
-import com.badlogic.gdx.physics.box2d.PolygonShape;
 import vault.clockwork.Game;
 import vault.clockwork.Vault;
 import vault.clockwork.editor.PropSerialized;
@@ -41,15 +40,32 @@ import vault.clockwork.system.Physics;
  * Poduszka z większą zdolnością odbijania - Static
  * @author Agnieszka Makowska https://github.com/Migemiley
  */
-public class PillowActor extends ObstacleActor{
-	private final Body body;
-	private final Fixture fixture;
+public class PillowActor extends BodyActor{
+	/**
+	 * Screen position of the body, returned by the getPosition.
+	 */
+	private final Vector2 screenPosition = new Vector2();
+	
+	/**
+	 * Collision polygon, relative to the pillow position.
+	 */
+	static public final float[] SHAPE = new float[] {
+		0.f, 10.f,
+		30.f, 0.f,
+		90.f, 0.f,
+		120.f, 10.f,
+		120.f, 30.f,
+		90.f, 55.f,
+		30.f, 55.f,
+		0.f, 30.f
+	};
+	
 	private final Sprite sprPillow;
 	
 	private Vector2 position = new Vector2(1.f, 0.f);
 	
 	public PillowActor(PropSerialized prop) {
-		this(prop.id);
+		this(prop.id, !prop.baked);
 		
 		// load position
 		setPosition(prop.position);
@@ -60,33 +76,22 @@ public class PillowActor extends ObstacleActor{
 	 * @param id 
 	 */
 	public PillowActor(int id){
-		super(id);
-		
-		float[] vertices = new float[] {
-		0.f * Physics.SCALE, 10.f * Physics.SCALE,
-		30.f * Physics.SCALE, 0.f * Physics.SCALE,
-		90.f * Physics.SCALE, 0.f * Physics.SCALE,
-		120.f * Physics.SCALE, 10.f * Physics.SCALE,
-		120.f * Physics.SCALE, 30.f * Physics.SCALE,
-		90.f * Physics.SCALE, 55.f * Physics.SCALE,
-		30.f * Physics.SCALE, 55.f * Physics.SCALE,
-		0.f * Physics.SCALE, 30.f * Physics.SCALE,
-		};
-		
-		PolygonShape shape = new PolygonShape();
-		shape.set(vertices);
+		this(id, true);
+	}
+	
+	/**
+	 * Ctor.
+	 * @param id Unique actor id.
+	 * @param physics Create the physics body, baked ones have none.
+	 */
+	public PillowActor(int id, boolean physics){
+		super(id, physics);
 		
-		BodyDef bodyDef = new BodyDef();
 		bodyDef.type = BodyDef.BodyType.StaticBody;
 		bodyDef.position.set(200 * Physics.SCALE, -180 * Physics.SCALE);
-		body = Game.physics.world.createBody(bodyDef);
-		fixture = body.createFixture(shape, 2.f);
-		fixture.setUserData(this);
-		
-		shape.dispose();
 		
 		// create the plank sprite
-		sprPillow = new Sprite(Game.assets.get("assets/poducha.png", Texture.class));
+		sprPillow = Game.atlas.createSprite("assets/poducha.png");
 		sprPillow.setBounds(-42.f, -42.f, 120.f, 60.f);
 		sprPillow.setOriginCenter();
 		
@@ -96,6 +101,15 @@ public class PillowActor extends ObstacleActor{
 		);
 	}
 	
+	/**
+	 * @see BodyActor#attach(com.badlogic.gdx.physics.box2d.Body) 
+	 * @param body 
+	 */
+	@Override
+	protected void attach(Body body) {
+		attachPolygon(body, SHAPE, 2.f);
+	}
+	
 	@Override
 	public void draw(SpriteBatch batch) {
 //		sprPillow.setCenter(
@@ -104,13 +118,23 @@ public class PillowActor extends ObstacleActor{
 //		);
 		
 		sprPillow.setPosition(
-			body.getPosition().x * Physics.SCALE_INV,
-			body.getPosition().y * Physics.SCALE_INV
+			getBodyX(),
+			getBodyY()
 		);
 		
-		batch.begin();
 		sprPillow.draw(batch);
-		batch.end();
+	}
+	
+	/**
+	 * @see Actor#getBounds() 
+	 * @return Actor bounds.
+	 */
+	@Override
+	public Rectangle getBounds() {
+		float x = getBodyX(),
+			y = getBodyY();
+		
+		return bounds.set(x, y, sprPillow.getWidth(), sprPillow.getHeight());
 	}
 	
 	/**
@@ -119,7 +143,7 @@ public class PillowActor extends ObstacleActor{
 	 */
 	@Override
 	public Vector2 getPosition() {
-		return body.getTransform().getPosition().scl(Physics.SCALE_INV);
+		return screenPosition.set(getBodyX(), getBodyY());
 	}
 	
 	/**
@@ -128,7 +152,7 @@ public class PillowActor extends ObstacleActor{
 	 */
 	@Override
 	public void setPosition(Vector2 newPosition) {
-		body.setTransform(newPosition.cpy().scl(Physics.SCALE), body.getTransform().getRotation());
+		setBodyPosition(newPosition.x, newPosition.y);
 	}
 	
 	/**
@@ -137,7 +161,7 @@ public class PillowActor extends ObstacleActor{
 	 */
 	@Override
 	public float getRotation() {
-		return body.getTransform().getRotation();
+		return getBodyAngle();
 	}
 	
 	/**
@@ -146,12 +170,7 @@ public class PillowActor extends ObstacleActor{
 	 */
 	@Override
 	public void setRotation(float newAngle) {
-		body.getTransform().setRotation(newAngle);
-	}
-	
-	@Override
-	public void dispose() {
-		Game.physics.world.destroyBody(body);
+		setBodyAngle(newAngle * MathUtils.degreesToRadians);
 	}
 }
 
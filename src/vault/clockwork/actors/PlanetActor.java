@@ -23,9 +23,9 @@
  */
 package vault.clockwork.actors;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
@@ -39,9 +39,8 @@ import vault.clockwork.system.Physics;
  * Przeszkadzajka(deska) - Kinematic
  * @author Agnieszka Makowska https://github.com/Migemiley
  */
-public class PlanetActor extends ObstacleActor{
-	private final Body body;
-	private final Fixture fixture;
+public class PlanetActor extends BodyActor{
+	private Fixture fixture;
 	boolean raising;
 	float timer = 0.f;
         float velocity = 100.f;
@@ -49,6 +48,11 @@ public class PlanetActor extends ObstacleActor{
 	
 	private Vector2 position = new Vector2(0.f, 3.f);
 	
+	/**
+	 * Screen position of the body, returned by the getPosition.
+	 */
+	private final Vector2 screenPosition = new Vector2();
+	
 	/**
 	 * Ctor.
 	 * @param id 
@@ -56,31 +60,35 @@ public class PlanetActor extends ObstacleActor{
 	public PlanetActor(int id){
 		super(id);
 		
-		PolygonShape shape = new PolygonShape();
-		shape.setRadius(32.f * Physics.SCALE);
-		
-		BodyDef bodyDef = new BodyDef();
 		bodyDef.type = BodyDef.BodyType.KinematicBody;
 		
 		
 		bodyDef.position.set(1.f, 1.f);
-		body = Game.physics.world.createBody(bodyDef);
-		fixture = body.createFixture(shape, 2.f);
-		fixture.setUserData(this);
-		
-		shape.dispose();
 		
 		// create the plank sprite
-		sprPlanet = new Sprite(Game.assets.get("assets/planet.png", Texture.class));
+		sprPlanet = Game.atlas.createSprite("assets/planet.png");
 		sprPlanet.setBounds(-42.f, -42.f, 150.f, 150.f);
 		sprPlanet.setOriginCenter();
 		sprPlanet.setRotation(0.f);		
 	}
+	
+	/**
+	 * @see BodyActor#attach(com.badlogic.gdx.physics.box2d.Body) 
+	 * @param body 
+	 */
+	@Override
+	protected void attach(Body body) {
+		PolygonShape shape = new PolygonShape();
+		shape.setRadius(32.f * Physics.SCALE);
+		fixture = body.createFixture(shape, 2.f);
+		fixture.setUserData(this);
+		shape.dispose();
+	}
 
 	@Override
 	public void update(float delta) {
 		timer += delta;
-		body.setTransform(
+		Game.physics.place(bodySlot,
 			position.x - velocity * Physics.SCALE * (float)Math.sin(timer*0.02f * Math.PI)*90,
 			position.y + velocity * Physics.SCALE * (float)Math.sin(timer * 0.1f * Math.PI),
                         0.f
@@ -91,13 +99,23 @@ public class PlanetActor extends ObstacleActor{
 	@Override
 	public void draw(SpriteBatch batch) {
 		sprPlanet.setCenter(
-			body.getPosition().x * Physics.SCALE_INV,
-			body.getPosition().y * Physics.SCALE_INV
+			Game.physics.getRenderX(bodySlot),
+			Game.physics.getRenderY(bodySlot)
 		);
 		
-		batch.begin();
 		sprPlanet.draw(batch);
-		batch.end();
+	}
+	
+	/**
+	 * @see Actor#getBounds() 
+	 * @return Actor bounds.
+	 */
+	@Override
+	public Rectangle getBounds() {
+		float x = getBodyX(),
+			y = getBodyY();
+		
+		return bounds.setSize(sprPlanet.getWidth(), sprPlanet.getHeight()).setCenter(x, y);
 	}
 	
 	/**
@@ -106,7 +124,7 @@ public class PlanetActor extends ObstacleActor{
 	 */
 	@Override
 	public Vector2 getPosition() {
-		return body.getTransform().getPosition().scl(Physics.SCALE_INV);
+		return screenPosition.set(getBodyX(), getBodyY());
 	}
 	
 	/**
@@ -115,6 +133,6 @@ public class PlanetActor extends ObstacleActor{
 	 */
 	@Override
 	public void setPosition(Vector2 newPosition) {
-		body.setTransform(newPosition.cpy().scl(Physics.SCALE), body.getTransform().getRotation());
+		setBodyPosition(newPosition.x, newPosition.y);
 	}
 }
@@ -24,14 +24,13 @@
 package vault.clockwork.actors;
 
 import com.badlogic.gdx.audio.Sound;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
-import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.PolygonShape;
 import vault.clockwork.Game;
 import vault.clockwork.Vault;
@@ -44,9 +43,11 @@ import vault.clockwork.system.Physics;
  * Przeszkadzajka(deska) - Kinematic
  * @author Agnieszka Makowska https://github.com/Migemiley
  */
-public class PlankActor extends ObstacleActor{
-	private final Body body;
-	private final Fixture fixture;
+public class PlankActor extends BodyActor{
+	/**
+	 * Screen position of the body, returned by the getPosition.
+	 */
+	private final Vector2 position = new Vector2();
 	boolean raising;
 	float timer = 0.f;
         
@@ -58,6 +59,23 @@ public class PlankActor extends ObstacleActor{
 	
 	private float margin = 0.f;
 	
+	/**
+	 * Half size of the body box, in world units.
+	 */
+	private final float halfWidth, halfHeight;
+	
+	/**
+	 * Linear velocity set by the update, in world units.
+	 */
+	private final Vector2 velocity = new Vector2();
+	
+	/**
+	 * Set the velocities of the body, deferred by every update.
+	 */
+	private final Runnable move = () -> {
+		Game.physics.move(bodySlot, velocity.x, velocity.y, rotationSpeed);
+	};
+	
 	// ten konsturktor wywoluje edytor
 	// przekierowywujemy konstruktor, na inny poprzez konwersje typu danych
 	// w tym wypadku z PropSerialized do PlankProp, ponieważ PlankProp
@@ -93,23 +111,19 @@ public class PlankActor extends ObstacleActor{
 	 */
 	public PlankActor(int id, float x, float y){
 		super(id);
-                		
-		PolygonShape shape = new PolygonShape();
-		shape.setAsBox(x * Physics.SCALE, y * Physics.SCALE);
 		
-		BodyDef bodyDef = new BodyDef();
+		// update computes the velocities, the body is moved by the deferred command
+		this.parallel = true;
+                		
+		halfWidth = x * Physics.SCALE;
+		halfHeight = y * Physics.SCALE;
 		bodyDef.type = BodyDef.BodyType.KinematicBody;
-		body = Game.physics.world.createBody(bodyDef);
-		fixture = body.createFixture(shape, 2.f);
-		fixture.setUserData(this);
-		
-		shape.dispose();
 		
 		// calculate the margin
 		margin = (2*x)*.32f;
 		
 		// create the plank sprite
-		sprPlank = new Sprite(Game.assets.get("assets/longtrunk.png", Texture.class));
+		sprPlank = Game.atlas.createSprite("assets/longtrunk.png");
 		sprPlank.setBounds(0.f, 0.f, 2*x + margin, 2*y);
 		sprPlank.setOrigin(x, y);
 		
@@ -119,15 +133,23 @@ public class PlankActor extends ObstacleActor{
 		);
 	}
 
+	/**
+	 * @see BodyActor#attach(com.badlogic.gdx.physics.box2d.Body) 
+	 * @param body 
+	 */
+	@Override
+	protected void attach(Body body) {
+		PolygonShape shape = new PolygonShape();
+		shape.setAsBox(halfWidth, halfHeight);
+		body.createFixture(shape, 2.f).setUserData(this);
+		shape.dispose();
+	}
+
 	@Override
 	public void update(float delta) {
 		timer += delta;
-		body.setAngularVelocity(rotationSpeed);
-		
-		body.setLinearVelocity(
-			height * Physics.SCALE * moveDirection.x * (float)Math.sin(timer * Math.PI),
-			height * Physics.SCALE * moveDirection.y * (float)Math.sin(timer * Math.PI)
-		);
+		velocity.set(moveDirection).scl(height * Physics.SCALE * (float)Math.sin(timer * Math.PI));
+		Game.scene.defer(move);
 	}
 	
 	@Override
@@ -137,19 +159,29 @@ public class PlankActor extends ObstacleActor{
 			body.getPosition().y * Physics.SCALE_INV
 		);*/
 		sprPlank.setPosition(
-			body.getPosition().x * Physics.SCALE_INV - sprPlank.getOriginX(),
-			body.getPosition().y * Physics.SCALE_INV - sprPlank.getOriginY()
+			Game.physics.getRenderX(bodySlot) - sprPlank.getOriginX(),
+			Game.physics.getRenderY(bodySlot) - sprPlank.getOriginY()
 		);
 		
 		// tutaj zmieniamy obrot sprite
 		// dlaczego? a no przed samym rysowaniem samego sprite
 		// mnozymy przez MathUtils.radiansToDegrees, bo setROtation przyjmuje
 		//	obracanie sie w degrees, a getAngle pobiera wartosc w radians
-		sprPlank.setRotation(body.getAngle() * MathUtils.radiansToDegrees);
+		sprPlank.setRotation(Game.physics.getRenderAngle(bodySlot));
 		
-		batch.begin();
 		sprPlank.draw(batch);
-		batch.end();
+	}
+	
+	/**
+	 * @see Actor#getBounds() 
+	 * @return Actor bounds.
+	 */
+	@Override
+	public Rectangle getBounds() {
+		float x = getBodyX(),
+			y = getBodyY();
+		
+		return getBounds(sprPlank, x, y);
 	}
 	
 	/**
@@ -158,7 +190,7 @@ public class PlankActor extends ObstacleActor{
 	 */
 	@Override
 	public Vector2 getPosition() {
-		return body.getTransform().getPosition().scl(Physics.SCALE_INV);
+		return position.set(getBodyX(), getBodyY());
 	}
 	
 	/**
@@ -167,7 +199,7 @@ public class PlankActor extends ObstacleActor{
 	 */
 	@Override
 	public void setPosition(Vector2 newPosition) {
-		body.setTransform(newPosition.cpy().scl(Physics.SCALE), body.getTransform().getRotation());
+		setBodyPosition(newPosition.x, newPosition.y);
 	}
 	
 	/**
@@ -176,7 +208,7 @@ public class PlankActor extends ObstacleActor{
 	 */
 	@Override
 	public float getRotation() {
-		return body.getTransform().getRotation();
+		return getBodyAngle();
 	}
 	
 	/**
@@ -185,11 +217,6 @@ public class PlankActor extends ObstacleActor{
 	 */
 	@Override
 	public void setRotation(float newAngle) {
-		body.setTransform(body.getPosition(), newAngle * MathUtils.degreesToRadians);
-	}
-	
-	@Override
-	public void dispose() {
-		Game.physics.world.destroyBody(body);
+		setBodyAngle(newAngle * MathUtils.degreesToRadians);
 	}
 }
@@ -24,13 +24,13 @@
 package vault.clockwork.actors;
 
 import com.badlogic.gdx.audio.Sound;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
-import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.PolygonShape;
 import vault.clockwork.Game;
 import vault.clockwork.Vault;
@@ -40,28 +40,21 @@ import vault.clockwork.system.Physics;
  * Drewniany klocek (DynamicBody)
  * @author Agnieszka Makowska https://github.com/Migemiley
  */
-public class PlankBlockActor extends ObstacleActor{
-	private Body body;
-	private Fixture fixture;
+public class PlankBlockActor extends BodyActor{
+	/**
+	 * Screen position of the body, returned by the getPosition.
+	 */
+	private final Vector2 position = new Vector2();
 	private final Sprite sprBlock;
 
 	public PlankBlockActor(int id){
 		super(id);
 		
-		PolygonShape shape = new PolygonShape();
-		shape.setAsBox(50.f * Physics.SCALE, 50.f * Physics.SCALE);
-		
-		BodyDef bodyDef = new BodyDef();
 		bodyDef.type = BodyDef.BodyType.DynamicBody;
 		bodyDef.position.set(350.f * Physics.SCALE, -130.f * Physics.SCALE);
-		body = Game.physics.world.createBody(bodyDef);
-		fixture = body.createFixture(shape, 25.f);
-		fixture.setUserData(this);
-		
-		shape.dispose();
 		
 		// create the plank sprite
-		sprBlock = new Sprite(Game.assets.get("assets/shorttrunk.png", Texture.class));
+		sprBlock = Game.atlas.createSprite("assets/shorttrunk.png");
 		sprBlock.setBounds(0.f, 0.f, 100.f, 100.f);
 		
 		// dodanie dzwiekow do odegrania
@@ -70,16 +63,38 @@ public class PlankBlockActor extends ObstacleActor{
 		);
 	}
 	
+	/**
+	 * @see BodyActor#attach(com.badlogic.gdx.physics.box2d.Body) 
+	 * @param body 
+	 */
+	@Override
+	protected void attach(Body body) {
+		PolygonShape shape = new PolygonShape();
+		shape.setAsBox(50.f * Physics.SCALE, 50.f * Physics.SCALE);
+		body.createFixture(shape, 25.f).setUserData(this);
+		shape.dispose();
+	}
+	
 	@Override
 	public void draw(SpriteBatch batch) {
 		sprBlock.setCenter(
-			body.getPosition().x * Physics.SCALE_INV,
-			body.getPosition().y * Physics.SCALE_INV
+			Game.physics.getRenderX(bodySlot),
+			Game.physics.getRenderY(bodySlot)
 		);
 		
-		batch.begin();
 		sprBlock.draw(batch);
-		batch.end();
+	}
+	
+	/**
+	 * @see Actor#getBounds() 
+	 * @return Actor bounds.
+	 */
+	@Override
+	public Rectangle getBounds() {
+		float x = getBodyX(),
+			y = getBodyY();
+		
+		return bounds.setSize(sprBlock.getWidth(), sprBlock.getHeight()).setCenter(x, y);
 	}
 	
 	/**
@@ -88,7 +103,7 @@ public class PlankBlockActor extends ObstacleActor{
 	 */
 	@Override
 	public Vector2 getPosition() {
-		return body.getTransform().getPosition().scl(Physics.SCALE_INV);
+		return position.set(getBodyX(), getBodyY());
 	}
 	
 	/**
@@ -97,7 +112,7 @@ public class PlankBlockActor extends ObstacleActor{
 	 */
 	@Override
 	public void setPosition(Vector2 newPosition) {
-		body.setTransform(newPosition.cpy().scl(Physics.SCALE), body.getTransform().getRotation());
+		setBodyPosition(newPosition.x, newPosition.y);
 	}
 	
 	/**
@@ -106,7 +121,7 @@ public class PlankBlockActor extends ObstacleActor{
 	 */
 	@Override
 	public float getRotation() {
-		return body.getTransform().getRotation();
+		return getBodyAngle();
 	}
 	
 	/**
@@ -115,12 +130,7 @@ public class PlankBlockActor extends ObstacleActor{
 	 */
 	@Override
 	public void setRotation(float newAngle) {
-		body.getTransform().setRotation(newAngle);
-	}
-	
-	@Override
-	public void dispose() {
-		Game.physics.world.destroyBody(body);
+		setBodyAngle(newAngle * MathUtils.degreesToRadians);
 	}
 	
 }
\ No newline at end of file
@@ -24,14 +24,13 @@
 package vault.clockwork.actors;
 
 import com.badlogic.gdx.audio.Sound;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
-import com.badlogic.gdx.physics.box2d.Fixture;
-import com.badlogic.gdx.physics.box2d.PolygonShape;
 import vault.clockwork.Game;
 import vault.clockwork.Vault;
 import vault.clockwork.editor.PropSerialized;
@@ -41,46 +40,52 @@ import vault.clockwork.system.Physics;
  * 
  * @author Agnieszka Makowska https://github.com/Migemiley
  */
-public class RockActor extends ObstacleActor{
-	private Body body;
-	private Fixture fixture;
+public class RockActor extends BodyActor{
+	/**
+	 * Screen position of the body, returned by the getPosition.
+	 */
+	private final Vector2 position = new Vector2();
+	
+	/**
+	 * Collision polygon, relative to the rock position.
+	 */
+	static public final float[] SHAPE = new float[] {
+		10.f, 10.f,
+		170.f, 10.f,
+		180.f, 30.f,
+		170.f, 70.f,
+		110.f, 70.f,
+		100.f, 90.f,
+		70.f, 90.f,
+		10.f, 50.f
+	};
+	
 	private final Sprite sprStone;
 	
 	public RockActor(PropSerialized prop) {
-		this(prop.id);
+		this(prop.id, !prop.baked);
 		
 		// load position
 		setPosition(prop.position);
 	}
 	
 	public RockActor(int id){
-		super(id);
-		
-		float[] vertices = new float[] {
-		10.f * Physics.SCALE, 10.f * Physics.SCALE,
-		170.f * Physics.SCALE, 10.f * Physics.SCALE,
-		180.f * Physics.SCALE, 30.f * Physics.SCALE,
-		170.f * Physics.SCALE, 70.f * Physics.SCALE,
-		110.f * Physics.SCALE, 70.f * Physics.SCALE,
-		100.f * Physics.SCALE, 90.f * Physics.SCALE,
-		70.f * Physics.SCALE, 90.f * Physics.SCALE,
-		10.f * Physics.SCALE, 50.f * Physics.SCALE,
-		};
+		this(id, true);
+	}
+	
+	/**
+	 * Ctor.
+	 * @param id Unique actor id.
+	 * @param physics Create the physics body, baked ones have none.
+	 */
+	public RockActor(int id, boolean physics){
+		super(id, physics);
 		
-		PolygonShape stone = new PolygonShape();
-		stone.set(vertices);
-
-		BodyDef bodyDef = new BodyDef();
 		bodyDef.type = BodyDef.BodyType.StaticBody;
 		bodyDef.position.set(0.f * Physics.SCALE, -190.f * Physics.SCALE);
-		body = Game.physics.world.createBody(bodyDef);
-		fixture = body.createFixture(stone, 2.f);
-		fixture.setUserData(this);
-		
-		stone.dispose();
 		
 		// create the plank sprite
-		sprStone = new Sprite(Game.assets.get("assets/rock.png", Texture.class));
+		sprStone = Game.atlas.createSprite("assets/rock.png");
 		sprStone.setBounds(0.f, 0.f, 190.f, 100.f);
 		
 		
@@ -90,6 +95,15 @@ public class RockActor extends ObstacleActor{
 		);
 	}
 	
+	/**
+	 * @see BodyActor#attach(com.badlogic.gdx.physics.box2d.Body) 
+	 * @param body 
+	 */
+	@Override
+	protected void attach(Body body) {
+		attachPolygon(body, SHAPE, 2.f);
+	}
+	
 	@Override
 	public void draw(SpriteBatch batch) {
 //		sprStone.setCenter(
@@ -97,13 +111,23 @@ public class RockActor extends ObstacleActor{
 //			body.getPosition().y * Physics.SCALE_INV
 //		);
 		sprStone.setPosition(
-			body.getPosition().x * Physics.SCALE_INV,
-			body.getPosition().y * Physics.SCALE_INV
+			getBodyX(),
+			getBodyY()
 		);
 		
-		batch.begin();
 		sprStone.draw(batch);
-		batch.end();
+	}
+	
+	/**
+	 * @see Actor#getBounds() 
+	 * @return Actor bounds.
+	 */
+	@Override
+	public Rectangle getBounds() {
+		float x = getBodyX(),
+			y = getBodyY();
+		
+		return bounds.set(x, y, sprStone.getWidth(), sprStone.getHeight());
 	}
 	
 	/**
@@ -112,7 +136,7 @@ public class RockActor extends ObstacleActor{
 	 */
 	@Override
 	public Vector2 getPosition() {
-		return body.getTransform().getPosition().scl(Physics.SCALE_INV);
+		return position.set(getBodyX(), getBodyY());
 	}
 	
 	/**
@@ -121,7 +145,7 @@ public class RockActor extends ObstacleActor{
 	 */
 	@Override
 	public void setPosition(Vector2 newPosition) {
-		body.setTransform(newPosition.cpy().scl(Physics.SCALE), body.getTransform().getRotation());
+		setBodyPosition(newPosition.x, newPosition.y);
 	}
 	
 	/**
@@ -130,7 +154,7 @@ public class RockActor extends ObstacleActor{
 	 */
 	@Override
 	public float getRotation() {
-		return body.getTransform().getRotation();
+		return getBodyAngle();
 	}
 	
 	/**
@@ -139,12 +163,7 @@ public class RockActor extends ObstacleActor{
 	 */
 	@Override
 	public void setRotation(float newAngle) {
-		body.getTransform().setRotation(newAngle);
-	}
-	
-	@Override
-	public void dispose() {
-		Game.physics.world.destroyBody(body);
+		setBodyAngle(newAngle * MathUtils.degreesToRadians);
 	}
 	
 }
@@ -0,0 +1,96 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.actors;
+
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import vault.clockwork.Game;
+import vault.clockwork.Vault;
+import vault.clockwork.editor.StaticGeometry;
+import vault.clockwork.system.Physics;
+
+/**
+ * Static collision geometry of the compiled level.
+ * All baked shapes are the fixtures of the single static body,
+ * so the baked props are created with no bodies of their own.
+ * Fixtures are hit as the actor, with the impact sounds of the baked props.
+ * @see vault.clockwork.editor.LevelCompiler
+ * @author Konrad Nowakowski https://github.com/konrad92
+ */
+public class StaticGeometryActor extends BodyActor {
+	/**
+	 * Baked geometry, the fixtures of the body.
+	 */
+	private final StaticGeometry geometry;
+	
+	/**
+	 * Ctor.
+	 * @param id Unique actor id.
+	 * @param geometry Baked geometry of the level.
+	 */
+	public StaticGeometryActor(int id, StaticGeometry geometry) {
+		super(id);
+		this.geometry = geometry;
+		
+		bodyDef.type = BodyDef.BodyType.StaticBody;
+		
+		// dzwieki uderzenia, jak deski i pagorki
+		impactSounds.add(
+			Game.assets.get(Vault.SOUND_WOODBOUNCE, Sound.class)
+		);
+	}
+	
+	/**
+	 * Create the fixtures of all the baked shapes.
+	 * @see BodyActor#attach(com.badlogic.gdx.physics.box2d.Body) 
+	 * @param body 
+	 */
+	@Override
+	protected void attach(Body body) {
+		// shapes in the physics units
+		PolygonShape shape = new PolygonShape();
+		FixtureDef fixtureDef = new FixtureDef();
+		fixtureDef.shape = shape;
+		
+		float[][] vertices = new float[StaticGeometry.MAX_VERTICES + 1][];
+		for(StaticGeometry.Shape baked : geometry.shapes) {
+			int count = baked.vertices.length / 2;
+			if(vertices[count] == null) {
+				vertices[count] = new float[count * 2];
+			}
+			for(int i = 0; i < baked.vertices.length; i++) {
+				vertices[count][i] = baked.vertices[i] * Physics.SCALE;
+			}
+			shape.set(vertices[count]);
+			
+			fixtureDef.friction = baked.friction;
+			fixtureDef.restitution = baked.restitution;
+			body.createFixture(fixtureDef).setUserData(this);
+		}
+		shape.dispose();
+	}
+}
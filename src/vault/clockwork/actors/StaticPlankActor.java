@@ -24,14 +24,13 @@
 package vault.clockwork.actors;
 
 import com.badlogic.gdx.audio.Sound;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
-import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.PolygonShape;
 import vault.clockwork.Game;
 import vault.clockwork.Vault;
@@ -43,9 +42,16 @@ import vault.clockwork.system.Physics;
  * Przeszkadzajka(deska) - Static
  * @author Agnieszka Makowska https://github.com/Migemiley
  */
-public class StaticPlankActor extends ObstacleActor{
-	private final Body body;
-	private final Fixture fixture;
+public class StaticPlankActor extends BodyActor{
+	/**
+	 * Half size of the body box, in world units.
+	 */
+	private final float halfWidth, halfHeight;
+	
+	/**
+	 * Screen position of the body, returned by the getPosition.
+	 */
+	private final Vector2 screenPosition = new Vector2();
 	private final Sprite sprPlank;
 	
 	private Vector2 position = new Vector2(1.f, 0.f);
@@ -56,7 +62,7 @@ public class StaticPlankActor extends ObstacleActor{
 	}
 	
 	public StaticPlankActor(StaticPlankProp prop) {
-		this(prop.id, prop.width, prop.height, 0);
+		this(prop.id, prop.width, prop.height, 0, !prop.baked);
 		
 		setPosition(prop.position);
 		setRotation(prop.angle);
@@ -67,23 +73,29 @@ public class StaticPlankActor extends ObstacleActor{
 	 * @param id 
 	 */
 	public StaticPlankActor(int id, float x, float y, float angle){
-		super(id);
-		
-		PolygonShape shape = new PolygonShape();
-		shape.setAsBox(x * Physics.SCALE, y * Physics.SCALE);
+		this(id, x, y, angle, true);
+	}
+	
+	/**
+	 * Ctor.
+	 * @param id Unique actor id.
+	 * @param x Half of the plank width.
+	 * @param y Half of the plank height.
+	 * @param angle Rotation in radians.
+	 * @param physics Create the physics body, baked planks have none.
+	 */
+	public StaticPlankActor(int id, float x, float y, float angle, boolean physics){
+		super(id, physics);
 		
-		BodyDef bodyDef = new BodyDef();
+		// body definition, the transform of the baked plank too
+		halfWidth = x * Physics.SCALE;
+		halfHeight = y * Physics.SCALE;
 		bodyDef.type = BodyDef.BodyType.StaticBody;
 		bodyDef.position.set(400 * Physics.SCALE, 100 * Physics.SCALE);
 		bodyDef.angle = angle;
-		body = Game.physics.world.createBody(bodyDef);
-		fixture = body.createFixture(shape, 2.f);
-		fixture.setUserData(this);
-		
-		shape.dispose();
 		
 		// create the plank sprite
-		sprPlank = new Sprite(Game.assets.get("assets/mediumtrunk.png", Texture.class));
+		sprPlank = Game.atlas.createSprite("assets/mediumtrunk.png");
 		sprPlank.setBounds(0.f, 0.f, x*2, y*2);
 		sprPlank.setOrigin(x, y);
 		
@@ -93,18 +105,33 @@ public class StaticPlankActor extends ObstacleActor{
 		);
 	}
 	
+	/**
+	 * @see BodyActor#attach(com.badlogic.gdx.physics.box2d.Body) 
+	 * @param body 
+	 */
+	@Override
+	protected void attach(Body body) {
+		PolygonShape shape = new PolygonShape();
+		shape.setAsBox(halfWidth, halfHeight);
+		body.createFixture(shape, 2.f).setUserData(this);
+		shape.dispose();
+	}
 	
 	@Override
 	public void draw(SpriteBatch batch) {
-		sprPlank.setCenter(
-			body.getPosition().x * Physics.SCALE_INV,
-			body.getPosition().y * Physics.SCALE_INV
-		);
-		sprPlank.setRotation(body.getAngle() * MathUtils.radiansToDegrees);
+		sprPlank.setCenter(getBodyX(), getBodyY());
+		sprPlank.setRotation(getRotation() * MathUtils.radiansToDegrees);
 		
-		batch.begin();
 		sprPlank.draw(batch);
-		batch.end();
+	}
+	
+	/**
+	 * @see Actor#getBounds() 
+	 * @return Actor bounds.
+	 */
+	@Override
+	public Rectangle getBounds() {
+		return getBounds(sprPlank, getBodyX(), getBodyY());
 	}
 	
 	/**
@@ -113,7 +140,7 @@ public class StaticPlankActor extends ObstacleActor{
 	 */
 	@Override
 	public Vector2 getPosition() {
-		return body.getTransform().getPosition().scl(Physics.SCALE_INV);
+		return screenPosition.set(getBodyX(), getBodyY());
 	}
 	
 	/**
@@ -122,7 +149,7 @@ public class StaticPlankActor extends ObstacleActor{
 	 */
 	@Override
 	public void setPosition(Vector2 newPosition) {
-		body.setTransform(newPosition.cpy().scl(Physics.SCALE), body.getTransform().getRotation());
+		setBodyPosition(newPosition.x, newPosition.y);
 	}
 	
 	/**
@@ -131,7 +158,7 @@ public class StaticPlankActor extends ObstacleActor{
 	 */
 	@Override
 	public float getRotation() {
-		return body.getTransform().getRotation();
+		return getBodyAngle();
 	}
 	
 	/**
@@ -140,14 +167,9 @@ public class StaticPlankActor extends ObstacleActor{
 	 */
 	@Override
 	public void setRotation(float newAngle) {
-		body.setTransform(body.getPosition(), newAngle * MathUtils.degreesToRadians);
+		setBodyAngle(newAngle * MathUtils.degreesToRadians);
 		//body.getTransform().setRotation(newAngle * MathUtils.degreesToRadians);
 	}
-	
-	@Override
-	public void dispose() {
-		Game.physics.world.destroyBody(body);
-	}
 }
 
 	
@@ -24,14 +24,13 @@
 package vault.clockwork.actors;
 
 import com.badlogic.gdx.audio.Sound;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
-import com.badlogic.gdx.physics.box2d.Fixture;
-import com.badlogic.gdx.physics.box2d.PolygonShape;
 import vault.clockwork.Game;
 import vault.clockwork.Vault;
 import vault.clockwork.editor.PropSerialized;
@@ -41,46 +40,52 @@ import vault.clockwork.system.Physics;
  * Kamyk
  * @author Agnieszka Makowska https://github.com/Migemiley
  */
-public class StoneActor extends ObstacleActor{
-	private Body body;
-	private Fixture fixture;
+public class StoneActor extends BodyActor{
+	/**
+	 * Screen position of the body, returned by the getPosition.
+	 */
+	private final Vector2 position = new Vector2();
+	
+	/**
+	 * Collision polygon, relative to the stone position.
+	 */
+	static public final float[] SHAPE = new float[] {
+		60.f, 0.f,
+		140.f, 0.f,
+		160.f, 20.f,
+		160.f, 60.f,
+		120.f, 115.f,
+		80.f, 120.f,
+		30.f, 105.f,
+		0.f, 55.f
+	};
+	
 	private final Sprite sprStone;
 	
 	public StoneActor(PropSerialized prop) {
-		this(prop.id);
+		this(prop.id, !prop.baked);
 		
 		// load position
 		setPosition(prop.position);
 	}
 	
 	public StoneActor(int id){
-		super(id);
-		
-		float[] vertices = new float[] {
-		60.f * Physics.SCALE, 0.f * Physics.SCALE,
-		140.f * Physics.SCALE, 0.f * Physics.SCALE,
-		160.f * Physics.SCALE, 20.f * Physics.SCALE,
-		160.f * Physics.SCALE, 60.f * Physics.SCALE,
-		120.f * Physics.SCALE, 115.f * Physics.SCALE,
-		80.f * Physics.SCALE, 120.f * Physics.SCALE,
-		30.f * Physics.SCALE, 105.f * Physics.SCALE,
-		0.f * Physics.SCALE, 55.f * Physics.SCALE,
-		};
+		this(id, true);
+	}
+	
+	/**
+	 * Ctor.
+	 * @param id Unique actor id.
+	 * @param physics Create the physics body, baked ones have none.
+	 */
+	public StoneActor(int id, boolean physics){
+		super(id, physics);
 		
-		PolygonShape stone = new PolygonShape();
-		stone.set(vertices);
-
-		BodyDef bodyDef = new BodyDef();
 		bodyDef.type = BodyDef.BodyType.StaticBody;
 		bodyDef.position.set(-550.f * Physics.SCALE, -190.f * Physics.SCALE);
-		body = Game.physics.world.createBody(bodyDef);
-		fixture = body.createFixture(stone, 2.f);
-		fixture.setUserData(this);
-		
-		stone.dispose();
 		
 		// create the plank sprite
-		sprStone = new Sprite(Game.assets.get("assets/stone.png", Texture.class));
+		sprStone = Game.atlas.createSprite("assets/stone.png");
 		sprStone.setBounds(0.f, 0.f, 160.f, 120.f);
 		
 		// dodanie dzwiekow do odegrania
@@ -89,6 +94,15 @@ public class StoneActor extends ObstacleActor{
 		);
 	}
 	
+	/**
+	 * @see BodyActor#attach(com.badlogic.gdx.physics.box2d.Body) 
+	 * @param body 
+	 */
+	@Override
+	protected void attach(Body body) {
+		attachPolygon(body, SHAPE, 2.f);
+	}
+	
 	@Override
 	public void draw(SpriteBatch batch) {
 //		sprStone.setCenter(
@@ -96,13 +110,23 @@ public class StoneActor extends ObstacleActor{
 //			body.getPosition().y * Physics.SCALE_INV
 //		);
 		sprStone.setPosition(
-			body.getPosition().x * Physics.SCALE_INV,
-			body.getPosition().y * Physics.SCALE_INV
+			getBodyX(),
+			getBodyY()
 		);
 		
-		batch.begin();
 		sprStone.draw(batch);
-		batch.end();
+	}
+	
+	/**
+	 * @see Actor#getBounds() 
+	 * @return Actor bounds.
+	 */
+	@Override
+	public Rectangle getBounds() {
+		float x = getBodyX(),
+			y = getBodyY();
+		
+		return bounds.set(x, y, sprStone.getWidth(), sprStone.getHeight());
 	}
 	
 	/**
@@ -111,7 +135,7 @@ public class StoneActor extends ObstacleActor{
 	 */
 	@Override
 	public Vector2 getPosition() {
-		return body.getTransform().getPosition().scl(Physics.SCALE_INV);
+		return position.set(getBodyX(), getBodyY());
 	}
 	
 	/**
@@ -120,7 +144,7 @@ public class StoneActor extends ObstacleActor{
 	 */
 	@Override
 	public void setPosition(Vector2 newPosition) {
-		body.setTransform(newPosition.cpy().scl(Physics.SCALE), body.getTransform().getRotation());
+		setBodyPosition(newPosition.x, newPosition.y);
 	}
 	
 	/**
@@ -129,7 +153,7 @@ public class StoneActor extends ObstacleActor{
 	 */
 	@Override
 	public float getRotation() {
-		return body.getTransform().getRotation();
+		return getBodyAngle();
 	}
 	
 	/**
@@ -138,12 +162,7 @@ public class StoneActor extends ObstacleActor{
 	 */
 	@Override
 	public void setRotation(float newAngle) {
-		body.getTransform().setRotation(newAngle);
-	}
-	
-	@Override
-	public void dispose() {
-		Game.physics.world.destroyBody(body);
+		setBodyAngle(newAngle * MathUtils.degreesToRadians);
 	}
 	
 }
@@ -24,14 +24,14 @@
 package vault.clockwork.actors;
 
 import com.badlogic.gdx.audio.Sound;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.CircleShape;
-import com.badlogic.gdx.physics.box2d.Contact;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import vault.clockwork.Game;
 import vault.clockwork.editor.PropSerialized;
@@ -42,9 +42,11 @@ import vault.clockwork.system.Physics;
  *
  * @author Konrad Nowakowski https://github.com/konrad92
  */
-public class TurretActor extends ObstacleActor {
-	private final Body body;
-	private final Fixture fixture;
+public class TurretActor extends BodyActor {
+	/**
+	 * Screen position of the body, returned by the getPosition.
+	 */
+	private final Vector2 position = new Vector2();
 	
 	private final Sprite sprBall;
 	
@@ -61,30 +63,22 @@ public class TurretActor extends ObstacleActor {
 	
 	/**
 	 * Ctor.
-	 * Create new physic body on the world.
+	 * Body of the turret is created by the create, on the game thread.
 	 * @see Actor#Actor(int) 
 	 * @param id Turret unique id.
 	 */
 	public TurretActor(int id) {
 		super(id);
 		
-		// body shape
-		CircleShape shape = new CircleShape();
-		shape.setRadius(32.f * Physics.SCALE);
+		// update is empty, the body is stepped by the physics
+		this.parallel = true;
 		
-		// create physics body
-		BodyDef bodyDef = new BodyDef();
+		// body definition
 		bodyDef.type = BodyDef.BodyType.DynamicBody;
 		bodyDef.position.set((float)Math.random()*1.f, (float)Math.random()*1.f);
-		body = Game.physics.world.createBody(bodyDef);
-		fixture = body.createFixture(shape, 2.f);
-		fixture.setRestitution(.4f);
-		fixture.setUserData(this);
-		
-		shape.dispose();
 		
 		// create the ball sprite
-		sprBall = new Sprite(Game.assets.get("assets/dragonball.png", Texture.class));
+		sprBall = Game.atlas.createSprite("assets/dragonball.png");
 		sprBall.setBounds(-42.f, -42.f, 84.f, 84.f);
 		sprBall.setOriginCenter();
 		
@@ -94,6 +88,21 @@ public class TurretActor extends ObstacleActor {
 		);
 	}
 	
+	/**
+	 * @see BodyActor#attach(com.badlogic.gdx.physics.box2d.Body) 
+	 * @param body 
+	 */
+	@Override
+	protected void attach(Body body) {
+		CircleShape shape = new CircleShape();
+		shape.setRadius(32.f * Physics.SCALE);
+		
+		Fixture fixture = body.createFixture(shape, 2.f);
+		fixture.setRestitution(.4f);
+		fixture.setUserData(this);
+		shape.dispose();
+	}
+	
 	/**
 	 * @see Actor#update(float) 
 	 * @param delta 
@@ -109,13 +118,23 @@ public class TurretActor extends ObstacleActor {
 	@Override
 	public void draw(SpriteBatch batch) {
 		sprBall.setCenter(
-			body.getPosition().x * Physics.SCALE_INV,
-			body.getPosition().y * Physics.SCALE_INV
+			Game.physics.getRenderX(bodySlot),
+			Game.physics.getRenderY(bodySlot)
 		);
 		
-		batch.begin();
 		sprBall.draw(batch);
-		batch.end();
+	}
+	
+	/**
+	 * @see Actor#getBounds() 
+	 * @return Actor bounds.
+	 */
+	@Override
+	public Rectangle getBounds() {
+		float x = getBodyX(),
+			y = getBodyY();
+		
+		return bounds.setSize(sprBall.getWidth(), sprBall.getHeight()).setCenter(x, y);
 	}
 	
 	/**
@@ -124,32 +143,23 @@ public class TurretActor extends ObstacleActor {
 	 * @param contact 
 	 */
 	@Override
-	public void onHit(Actor actor, Contact contact) {
+	public void onHit(Actor actor, Physics.ContactEvent contact) {
 		if(actor instanceof WielokatActor || actor instanceof DustbinActor) {
 			//this.remove();
 		}
 		
 		if(actor instanceof ObstacleActor ){
-			((ObstacleActor)actor).playImpactSound();
+			((ObstacleActor)actor).playImpactSound(contact);
 		}
 	}
 	
-	/**
-	 * Remove physic body from the world.
-	 * @see Actor#dispose() 
-	 */
-	@Override
-	public void dispose() {
-		Game.physics.world.destroyBody(body);
-	}
-	
 	/**
 	 * @see Actor#getPosition() 
 	 * @return 
 	 */
 	@Override
 	public Vector2 getPosition() {
-		return body.getTransform().getPosition().scl(Physics.SCALE_INV);
+		return position.set(getBodyX(), getBodyY());
 	}
 	
 	/**
@@ -158,7 +168,7 @@ public class TurretActor extends ObstacleActor {
 	 */
 	@Override
 	public void setPosition(Vector2 newPosition) {
-		body.setTransform(newPosition.cpy().scl(Physics.SCALE), body.getTransform().getRotation());
+		setBodyPosition(newPosition.x, newPosition.y);
 	}
 	
 	/**
@@ -167,7 +177,7 @@ public class TurretActor extends ObstacleActor {
 	 */
 	@Override
 	public float getRotation() {
-		return body.getTransform().getRotation();
+		return getBodyAngle();
 	}
 	
 	/**
@@ -176,6 +186,6 @@ public class TurretActor extends ObstacleActor {
 	 */
 	@Override
 	public void setRotation(float newAngle) {
-		body.getTransform().setRotation(newAngle);
+		setBodyAngle(newAngle * MathUtils.degreesToRadians);
 	}
 }
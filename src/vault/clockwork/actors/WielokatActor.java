@@ -36,14 +36,18 @@ import vault.clockwork.system.Physics;
  *
  * @author Agnieszka Makowska https://github.com/Migemiley
  */
-public class WielokatActor extends ObstacleActor{
-	private Body body;
+public class WielokatActor extends BodyActor{
 	private Fixture fixture;
+	
+	/**
+	 * Vertices of the body shape, in world units.
+	 */
+	private final float[] vertices;
 
 	public WielokatActor(int id){
 		super(id);
 		
-		float[] vertices = new float[] {
+		vertices = new float[] {
 		20.f * Physics.SCALE, 0.f * Physics.SCALE,
 		70.f * Physics.SCALE, 0.f * Physics.SCALE,
 		75.f * Physics.SCALE, 20.f * Physics.SCALE,
@@ -54,17 +58,8 @@ public class WielokatActor extends ObstacleActor{
 		5.f * Physics.SCALE, 20.f * Physics.SCALE,
 		};
 		
-		PolygonShape wielokat = new PolygonShape();
-		wielokat.set(vertices);
-
-		BodyDef bodyDef = new BodyDef();
 		bodyDef.type = BodyDef.BodyType.StaticBody;
 		bodyDef.position.set(0.f * Physics.SCALE, -180.f * Physics.SCALE);
-		body = Game.physics.world.createBody(bodyDef);
-		fixture = body.createFixture(wielokat, 2.f);
-		fixture.setUserData(this);
-		
-		wielokat.dispose();
 		
 		// dodanie dzwiekow do odegrania
 		impactSounds.add(
@@ -72,9 +67,18 @@ public class WielokatActor extends ObstacleActor{
 		);
 	}
 	
+	/**
+	 * @see BodyActor#attach(com.badlogic.gdx.physics.box2d.Body) 
+	 * @param body 
+	 */
 	@Override
-	public void dispose() {
-		Game.physics.world.destroyBody(body);
+	protected void attach(Body body) {
+		PolygonShape wielokat = new PolygonShape();
+		wielokat.set(vertices);
+		fixture = body.createFixture(wielokat, 2.f);
+		fixture.setUserData(this);
+		
+		wielokat.dispose();
 	}
 	
 }
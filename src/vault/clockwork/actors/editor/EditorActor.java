@@ -42,6 +42,9 @@ public class EditorActor extends Actor {
 	public EditorActor(int id, EditorController editor) {
 		super(id, TYPE_EDITOR);
 		this.editor = editor;
+		
+		// mixes the batch with the shape rendering
+		this.batched = false;
 	}
 	
 	/**
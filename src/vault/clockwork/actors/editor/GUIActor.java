@@ -42,6 +42,9 @@ public class GUIActor extends Actor {
 	public GUIActor(int id, GUIController gui) {
 		super(id);
 		this.gui = gui;
+		
+		// mixes the batch with the shape rendering
+		this.batched = false;
 	}
 	
 	/**
@@ -32,7 +32,6 @@ import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.math.Vector2;
 import vault.clockwork.Game;
 import vault.clockwork.scene.Actor;
 import vault.clockwork.system.Debug;
@@ -117,14 +116,10 @@ public class CameraController extends InputAdapter implements SceneController {
 	 */
 	@Override
 	public void postPerform() {
-		// rounded coords
-		Vector2 rounded = new Vector2(
-			(float)Math.floor(camera.position.x),
-			(float)Math.floor(camera.position.y)
-		);
-		
-		// append log information
-		Debug.info.append("World coord: ").append(rounded).append(" \n");
+		// append log information, rounded coords
+		Debug.info.append("World coord: (")
+			.append((int)Math.floor(camera.position.x)).append(',')
+			.append((int)Math.floor(camera.position.y)).append(") \n");
 	}
 
 	/**
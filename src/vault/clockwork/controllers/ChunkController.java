@@ -0,0 +1,360 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.controllers;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.TimeUtils;
+import vault.clockwork.Game;
+import vault.clockwork.editor.PropActor;
+import vault.clockwork.editor.PropSerialized;
+import vault.clockwork.scene.Actor;
+import vault.clockwork.system.Debug;
+import vault.clockwork.system.SceneController;
+
+/**
+ * Streams the level chunks along the camera.
+ * Streamed props are grouped into the square chunks by their positions.
+ * Chunks within the load distance of the camera view are instanced,
+ * chunks beyond the unload distance are removed, so the actors count
+ * follows the view, not the level size. Collision of the streamed props
+ * is baked, so it stays resident for the bodies resting on it.
+ * @see PropSerialized#isStreamed() 
+ * @author Konrad Nowakowski https://github.com/konrad92
+ */
+public class ChunkController implements SceneController {
+	/**
+	 * Time budget of the chunks loading in the frame, in nanoseconds.
+	 * Chunks within the camera view are loaded regardless.
+	 */
+	static public final long LOAD_BUDGET = 2000000L;
+	
+	/**
+	 * Level chunk.
+	 */
+	static public class Chunk {
+		/**
+		 * Chunk coords, in the chunks.
+		 */
+		public final int x, y;
+		
+		/**
+		 * Props of the chunk.
+		 */
+		public final Array<PropSerialized> props = new Array<>();
+		
+		/**
+		 * Actors of the loaded chunk.
+		 */
+		public final Array<Actor> actors = new Array<>();
+		
+		/**
+		 * Chunk actors are on the scene.
+		 */
+		public boolean loaded = false;
+		
+		/**
+		 * Ctor.
+		 * @param x Chunk coord.
+		 * @param y Chunk coord.
+		 */
+		public Chunk(int x, int y) {
+			this.x = x;
+			this.y = y;
+		}
+	}
+	
+	/**
+	 * Size of the chunks.
+	 */
+	public final float size;
+	
+	/**
+	 * Camera the chunks are streamed along.
+	 */
+	private final OrthographicCamera camera;
+	
+	/**
+	 * Chunks with the props, by the packed coords.
+	 */
+	private final IntMap<Chunk> chunks = new IntMap<>();
+	
+	/**
+	 * Loaded chunks.
+	 */
+	private final Array<Chunk> loaded = new Array<>();
+	
+	/**
+	 * Camera view bounds, updated every frame.
+	 */
+	private float left, bottom, right, top;
+	
+	/**
+	 * Ctor.
+	 * @param camera Camera the chunks are streamed along.
+	 * @param size Size of the chunks.
+	 */
+	public ChunkController(OrthographicCamera camera, float size) {
+		this.camera = camera;
+		this.size = size;
+	}
+	
+	/**
+	 * Add the streamed prop to its chunk.
+	 * @param prop Streamed prop.
+	 */
+	public void add(PropSerialized prop) {
+		this.add(getCell(prop.position.x, size), getCell(prop.position.y, size), prop);
+	}
+	
+	/**
+	 * Add the streamed prop to the chunk, eg. of the compiled level index.
+	 * @param x Chunk coordinate.
+	 * @param y Chunk coordinate.
+	 * @param prop Streamed prop.
+	 */
+	public void add(int x, int y, PropSerialized prop) {
+		Chunk chunk = chunks.get(key(x, y));
+		if(chunk == null) {
+			chunk = new Chunk(x, y);
+			chunks.put(key(x, y), chunk);
+		}
+		chunk.props.add(prop);
+	}
+	
+	/**
+	 * Count of the chunks.
+	 * @return Chunks with the props.
+	 */
+	public int size() {
+		return chunks.size;
+	}
+	
+	/**
+	 * Count of the loaded chunks.
+	 * @return Chunks with the actors on the scene.
+	 */
+	public int getLoaded() {
+		return loaded.size;
+	}
+	
+	/**
+	 * Load and unload the chunks along the camera view.
+	 */
+	public void stream() {
+		float width = camera.viewportWidth * camera.zoom * .5f,
+			height = camera.viewportHeight * camera.zoom * .5f;
+		left = camera.position.x - width;
+		right = camera.position.x + width;
+		bottom = camera.position.y - height;
+		top = camera.position.y + height;
+		
+		// unload the chunks gone away
+		float unload = Math.max(Game.config.chunkUnload, Game.config.chunkLoad);
+		for(int i = loaded.size - 1; i >= 0; i--) {
+			Chunk chunk = loaded.get(i);
+			if(!this.isNear(chunk, unload)) {
+				this.unload(chunk);
+				loaded.removeIndex(i);
+			}
+		}
+		
+		// load the chunks come near, the visible ones at once
+		float load = Game.config.chunkLoad;
+		int x0 = MathUtils.floor((left - load) / size),
+			x1 = MathUtils.floor((right + load) / size),
+			y0 = MathUtils.floor((bottom - load) / size),
+			y1 = MathUtils.floor((top + load) / size);
+		
+		long start = TimeUtils.nanoTime();
+		for(int y = y0; y <= y1; y++) {
+			for(int x = x0; x <= x1; x++) {
+				Chunk chunk = chunks.get(key(x, y));
+				if(chunk == null || chunk.loaded) {
+					continue;
+				}
+				
+				if(this.isNear(chunk, 0.f) || TimeUtils.nanoTime() - start < LOAD_BUDGET) {
+					this.load(chunk);
+					loaded.add(chunk);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Instance the chunk actors onto the scene.
+	 * @param chunk Chunk to load.
+	 */
+	private void load(Chunk chunk) {
+		for(PropSerialized prop : chunk.props) {
+			PropActor actor = prop.instance();
+			if(actor != null) {
+				Game.scene.getLayer(prop.layer).add((Actor)actor);
+				chunk.actors.add((Actor)actor);
+			}
+		}
+		chunk.loaded = true;
+	}
+	
+	/**
+	 * Remove the chunk actors from the scene.
+	 * Actors are disposed by their layers, along with the bodies.
+	 * @param chunk Chunk to unload.
+	 */
+	private void unload(Chunk chunk) {
+		for(Actor actor : chunk.actors) {
+			actor.remove();
+		}
+		chunk.actors.clear();
+		chunk.loaded = false;
+	}
+	
+	/**
+	 * Chunk is near the camera view.
+	 * @param chunk Chunk to check.
+	 * @param distance Distance from the view.
+	 * @return <b>TRUE</b> when the chunk overlaps the view extended by the distance.
+	 */
+	private boolean isNear(Chunk chunk, float distance) {
+		float x = chunk.x * size,
+			y = chunk.y * size;
+		
+		return x < right + distance && x + size > left - distance
+			&& y < top + distance && y + size > bottom - distance;
+	}
+	
+	/**
+	 * Chunk coordinate of the position.
+	 * @param coord Position on the axis.
+	 * @param size Size of the chunks.
+	 * @return Chunk coordinate.
+	 */
+	static public int getCell(float coord, float size) {
+		return MathUtils.floor(coord / size);
+	}
+	
+	/**
+	 * Packed coords of the chunk.
+	 * @param x Chunk coord.
+	 * @param y Chunk coord.
+	 * @return Key of the chunk.
+	 */
+	static private int key(int x, int y) {
+		return (x & 0xFFFF) | (y << 16);
+	}
+	
+	/**
+	 * @see SceneController#prePerform() 
+	 */
+	@Override
+	public void prePerform() {
+	}
+	
+	/**
+	 * Append the streaming information.
+	 * @see SceneController#postPerform() 
+	 */
+	@Override
+	public void postPerform() {
+		Debug.info.append("Chunks: ")
+			.append(loaded.size).append('/').append(chunks.size).append(" \n");
+	}
+	
+	/**
+	 * Stream the chunks ahead of the layers update, so the loaded actors
+	 * are on the scene in the same frame.
+	 * @see SceneController#preUpdate(float) 
+	 * @param delta 
+	 */
+	@Override
+	public void preUpdate(float delta) {
+		this.stream();
+	}
+	
+	/**
+	 * @see SceneController#postUpdate(float) 
+	 * @param delta 
+	 */
+	@Override
+	public void postUpdate(float delta) {
+	}
+	
+	/**
+	 * @see SceneController#preDraw(com.badlogic.gdx.graphics.g2d.SpriteBatch) 
+	 * @param batch 
+	 */
+	@Override
+	public void preDraw(SpriteBatch batch) {
+	}
+	
+	/**
+	 * @see SceneController#postDraw(com.badlogic.gdx.graphics.g2d.SpriteBatch) 
+	 * @param batch 
+	 */
+	@Override
+	public void postDraw(SpriteBatch batch) {
+	}
+	
+	/**
+	 * Draw-up the loaded chunks.
+	 * @see SceneController#preDebug(com.badlogic.gdx.graphics.glutils.ShapeRenderer) 
+	 * @param gizmo 
+	 */
+	@Override
+	public void preDebug(ShapeRenderer gizmo) {
+		gizmo.begin(ShapeRenderer.ShapeType.Line);
+		gizmo.setColor(0.f, 1.f, 0.3f, 0.5f);
+		for(Chunk chunk : loaded) {
+			gizmo.rect(chunk.x * size, chunk.y * size, size, size);
+		}
+		gizmo.end();
+	}
+	
+	/**
+	 * @see SceneController#postDebug(com.badlogic.gdx.graphics.glutils.ShapeRenderer) 
+	 */
+	@Override
+	public void postDebug(ShapeRenderer gizmo) {
+	}
+	
+	/**
+	 * Drop the chunks.
+	 * Actors of the loaded chunks are disposed by the scene clear.
+	 * @see Disposable#dispose() 
+	 */
+	@Override
+	public void dispose() {
+		for(Chunk chunk : loaded) {
+			chunk.actors.clear();
+			chunk.loaded = false;
+		}
+		loaded.clear();
+		chunks.clear();
+	}
+}
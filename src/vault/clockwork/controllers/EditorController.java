@@ -32,11 +32,9 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Array;
 import java.lang.reflect.Field;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 import vault.clockwork.Game;
-import vault.clockwork.Vault;
 import vault.clockwork.editor.PropHolder;
+import vault.clockwork.editor.PropRegistry;
 import vault.clockwork.editor.PropSerialized;
 import vault.clockwork.editor.gui.ButtonAction;
 import vault.clockwork.editor.gui.GUIButtonElement;
@@ -98,23 +96,21 @@ public class EditorController extends InputAdapter implements SceneController {
 		this.loadPropHolder();
 		
 		// add editor buttons
-		Array<Class<? extends PropSerialized>> propClasses = Vault.PROP_CLASSES;
+		Array<Class<? extends PropSerialized>> propClasses = PropRegistry.getListed();
 		
 		// create button action
 		ButtonAction createAction = new ButtonAction() {
 			@Override
 			public void actionPerformed(GUIButtonElement button, Object userData) {
 				CreatePropAction pair = (CreatePropAction)userData;
-				try {
-					PropSerialized serialized = pair.propClass.newInstance();
+				PropSerialized serialized = PropRegistry.newProp(pair.propClass);
+				if(serialized != null) {
 					serialized.position.set(
 						Game.mainCamera.position.x,
 						Game.mainCamera.position.y
 					);
 					
 					pair.ctrl.propHolder.props.add(serialized);
-				} catch (InstantiationException | IllegalAccessException ex) {
-					Logger.getLogger(EditorController.class.getName()).log(Level.SEVERE, null, ex);
 				}
 			}
 		};
@@ -62,6 +62,11 @@ public class GUIController extends InputAdapter implements SceneController {
 	 */
 	public final OrthographicCamera camera = new OrthographicCamera();
 	
+	/**
+	 * Projections saved during the GUI drawing.
+	 */
+	private final Matrix4 gizmoProj = new Matrix4(), batchProj = new Matrix4();
+	
 	/**
 	 * Focused GUI element holder.
 	 */
@@ -224,8 +229,8 @@ public class GUIController extends InputAdapter implements SceneController {
 		camera.update();
 		
 		// save old projection
-		Matrix4 gizmoProj = gizmo.getProjectionMatrix().cpy();
-		Matrix4 batchProj = batch.getProjectionMatrix().cpy();
+		gizmoProj.set(gizmo.getProjectionMatrix());
+		batchProj.set(batch.getProjectionMatrix());
 		
 		// draw the GUI elements
 		gizmo.setProjectionMatrix(camera.combined);
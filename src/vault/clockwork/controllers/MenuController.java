@@ -26,7 +26,6 @@ package vault.clockwork.controllers;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
@@ -47,7 +46,7 @@ public class MenuController implements SceneController {
 	private OrthographicCamera camera;
 	
 	public MenuController() {
-		sprMenu = new Sprite(Game.assets.get(Vault.MENU_BACK_TO_MENU, Texture.class));
+		sprMenu = Game.atlas.createSprite(Vault.MENU_BACK_TO_MENU);
 		
 		camera = new OrthographicCamera();
 	}
@@ -0,0 +1,123 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.editor;
+
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.Array;
+import vault.clockwork.Game;
+
+/**
+ * Assets used by the level.
+ * Gathered from the props dependencies, and stored in the compiled level,
+ * so the stage loads only the assets of its props.
+ * @see PropSerialized#dependencies(vault.clockwork.editor.AssetManifest) 
+ * @author Konrad Nowakowski https://github.com/konrad92
+ */
+public class AssetManifest {
+	/**
+	 * Sprites, packed into the atlas when small enough.
+	 */
+	public Array<String> sprites = new Array<>();
+	
+	/**
+	 * Standalone textures, eg. the backgrounds with repeat wrapping.
+	 */
+	public Array<String> textures = new Array<>();
+	
+	/**
+	 * Sounds.
+	 */
+	public Array<String> sounds = new Array<>();
+	
+	/**
+	 * Add the sprite.
+	 * @param filename Sprite filename.
+	 * @return Chaining manifest.
+	 */
+	public AssetManifest sprite(String filename) {
+		return add(sprites, filename);
+	}
+	
+	/**
+	 * Add the standalone texture.
+	 * @param filename Texture filename.
+	 * @return Chaining manifest.
+	 */
+	public AssetManifest texture(String filename) {
+		return add(textures, filename);
+	}
+	
+	/**
+	 * Add the sound.
+	 * @param filename Sound filename.
+	 * @return Chaining manifest.
+	 */
+	public AssetManifest sound(String filename) {
+		return add(sounds, filename);
+	}
+	
+	/**
+	 * Add the asset once.
+	 * @param assets Assets of the kind.
+	 * @param filename Asset filename.
+	 * @return Chaining manifest.
+	 */
+	private AssetManifest add(Array<String> assets, String filename) {
+		if(filename != null && !assets.contains(filename, false)) {
+			assets.add(filename);
+		}
+		return this;
+	}
+	
+	/**
+	 * Queue the assets onto the assets manager.
+	 */
+	public void load() {
+		for(String filename : sprites) {
+			Game.atlas.preload(filename);
+		}
+		for(String filename : textures) {
+			Game.assets.load(filename, Texture.class);
+		}
+		for(String filename : sounds) {
+			Game.assets.load(filename, Sound.class);
+		}
+	}
+	
+	/**
+	 * Gather the assets of the props.
+	 * @param props Level props.
+	 * @return New manifest.
+	 */
+	static public AssetManifest of(PropHolder props) {
+		AssetManifest manifest = new AssetManifest();
+		if(props != null) {
+			for(PropSerialized prop : props) {
+				prop.dependencies(manifest);
+			}
+		}
+		return manifest;
+	}
+}
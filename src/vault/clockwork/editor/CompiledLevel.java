@@ -0,0 +1,409 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.editor;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Compiled level.
+ * Packed by the level compiler, so the stage takes the assets, the static
+ * geometry, the chunks index and the props sorted by ID with no parse,
+ * sort or bake of its own. Little-endian:
+ * <pre>
+ * int MAGIC, short VERSION, short flags, long modified, long length, int hash, int chunkSize
+ * 3 * (int count, count * (short length, UTF-8 bytes))
+ * int shapes, shapes * (int owner, float friction, float restitution, byte vertices, vertices * (float x, float y))
+ * int cells, cells * (int x, int y, int count, count * int prop)
+ * props of the binary level format
+ * </pre>
+ * Header keeps the stamp of the source level, the compiled level is
+ * rebuilt when the source changes. Signature is written last, so the
+ * broken write is never taken for the compiled level.
+ * @see LevelCompiler
+ * @see LevelFile
+ * @author Konrad Nowakowski https://github.com/konrad92
+ */
+public class CompiledLevel {
+	/**
+	 * Extension of the compiled levels, appended to the level filename.
+	 */
+	static public final String EXTENSION = ".cwc";
+	
+	/**
+	 * File signature, "CWLC".
+	 */
+	static public final int MAGIC = 0x434C5743;
+	
+	/**
+	 * Version of the format.
+	 * Compiled levels of the other versions are rebuilt.
+	 */
+	static public final short VERSION = 1;
+	
+	/**
+	 * Size of the header, in bytes.
+	 */
+	static public final int HEADER_SIZE = 32;
+	
+	/**
+	 * Offset of the source stamp in the header.
+	 */
+	static private final int STAMP_OFFSET = 8;
+	
+	/**
+	 * Streamed props of the level chunk.
+	 */
+	static public class Cell {
+		/**
+		 * Chunk coordinates.
+		 */
+		public final int x, y;
+		
+		/**
+		 * Indices of the props, in the level order.
+		 */
+		public final IntArray props = new IntArray();
+		
+		/**
+		 * Ctor.
+		 * @param x Chunk coordinate.
+		 * @param y Chunk coordinate.
+		 */
+		public Cell(int x, int y) {
+			this.x = x;
+			this.y = y;
+		}
+	}
+	
+	/**
+	 * File of the compiled level, when read.
+	 */
+	public FileHandle file;
+	
+	/**
+	 * Stamp of the source level, the last modification time,
+	 * the length and the CRC32 of the file.
+	 */
+	public long modified, length;
+	public int hash;
+	
+	/**
+	 * Size of the indexed chunks, <b>0</b> when not indexed.
+	 */
+	public int chunkSize = 0;
+	
+	/**
+	 * Assets used by the level.
+	 */
+	public AssetManifest manifest = new AssetManifest();
+	
+	/**
+	 * Static collision of the baked props.
+	 */
+	public final StaticGeometry geometry = new StaticGeometry();
+	
+	/**
+	 * Index of the streamed props, by the chunks.
+	 */
+	public final Array<Cell> cells = new Array<>();
+	
+	/**
+	 * Level props, sorted by ID.
+	 */
+	public PropHolder props = new PropHolder();
+	
+	/**
+	 * Write out the bytes, when the buffer is full.
+	 */
+	static private class Output {
+		/**
+		 * Channel to write.
+		 */
+		private final FileChannel channel;
+		
+		/**
+		 * Stream buffer.
+		 */
+		private final ByteBuffer buffer = ByteBuffer.allocate(LevelFile.STREAM_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		
+		/**
+		 * Ctor.
+		 * @param channel Channel to write.
+		 */
+		private Output(FileChannel channel) {
+			this.channel = channel;
+		}
+		
+		/**
+		 * Make room for the bytes.
+		 * @param bytes Count of the bytes to write.
+		 * @return Stream buffer.
+		 * @throws IOException On write fails.
+		 */
+		private ByteBuffer ensure(int bytes) throws IOException {
+			if(buffer.remaining() < bytes) {
+				this.flush();
+			}
+			return buffer;
+		}
+		
+		/**
+		 * Put the strings, with the count.
+		 * @param strings Strings to write.
+		 * @throws IOException On write fails, or the string too long.
+		 */
+		private void putStrings(Array<String> strings) throws IOException {
+			this.ensure(4).putInt(strings.size);
+			for(String string : strings) {
+				byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+				if(bytes.length > 0xFFFF) {
+					throw new IOException("String too long: " + string.substring(0, 32));
+				}
+				this.ensure(2 + bytes.length).putShort((short)bytes.length).put(bytes);
+			}
+		}
+		
+		/**
+		 * Write out the buffered bytes.
+		 * @throws IOException On write fails.
+		 */
+		private void flush() throws IOException {
+			buffer.flip();
+			while(buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			buffer.clear();
+		}
+	}
+	
+	/**
+	 * Write the compiled level.
+	 * @param level Compiled level.
+	 * @param file File to write.
+	 * @throws IOException On write fails.
+	 */
+	static public void write(CompiledLevel level, FileHandle file) throws IOException {
+		file.parent().mkdirs();
+		try(FileChannel channel = FileChannel.open(file.file().toPath(),
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			Output out = new Output(channel);
+			
+			// header, with no signature yet
+			out.ensure(HEADER_SIZE)
+				.putInt(0)
+				.putShort(VERSION)
+				.putShort((short)0)
+				.putLong(level.modified)
+				.putLong(level.length)
+				.putInt(level.hash)
+				.putInt(level.chunkSize);
+			
+			// assets manifest
+			out.putStrings(level.manifest.sprites);
+			out.putStrings(level.manifest.textures);
+			out.putStrings(level.manifest.sounds);
+			
+			// static geometry
+			out.ensure(4).putInt(level.geometry.size());
+			for(StaticGeometry.Shape shape : level.geometry.shapes) {
+				out.ensure(13 + shape.vertices.length * 4)
+					.putInt(shape.owner)
+					.putFloat(shape.friction)
+					.putFloat(shape.restitution)
+					.put((byte)(shape.vertices.length / 2));
+				for(float vertex : shape.vertices) {
+					out.buffer.putFloat(vertex);
+				}
+			}
+			
+			// chunks index
+			out.ensure(4).putInt(level.cells.size);
+			for(Cell cell : level.cells) {
+				out.ensure(12).putInt(cell.x).putInt(cell.y).putInt(cell.props.size);
+				for(int i = 0; i < cell.props.size; i++) {
+					out.ensure(4).putInt(cell.props.get(i));
+				}
+			}
+			out.flush();
+			
+			// props, then the signature
+			LevelFile.write(level.props, channel);
+			ByteBuffer magic = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(0, MAGIC);
+			channel.write(magic, 0);
+		}
+	}
+	
+	/**
+	 * Read the compiled level.
+	 * @param file File to read.
+	 * @param full Read all the level, otherwise the header and the manifest only.
+	 * @return Compiled level.
+	 * @throws IOException On read fails, or not supported file.
+	 */
+	static public CompiledLevel read(FileHandle file, boolean full) throws IOException {
+		ReadableByteChannel channel = file.file().exists()
+			? FileChannel.open(file.file().toPath(), StandardOpenOption.READ)
+			: Channels.newChannel(file.read());
+		
+		try(ReadableByteChannel in = channel) {
+			ByteBuffer buffer = ByteBuffer.allocateDirect(LevelFile.STREAM_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			buffer.flip();
+			
+			CompiledLevel level = new CompiledLevel();
+			level.file = file;
+			read(in, buffer, level, full);
+			return level;
+		} catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException ex) {
+			throw new IOException("Corrupted compiled level: " + file.path(), ex);
+		}
+	}
+	
+	/**
+	 * Read the compiled level data.
+	 * @param channel Channel of the level data.
+	 * @param buffer Stream buffer.
+	 * @param level Level to fill.
+	 * @param full Read all the level, otherwise the header and the manifest only.
+	 * @throws IOException On read fails, or not supported data.
+	 */
+	static private void read(ReadableByteChannel channel, ByteBuffer buffer,
+			CompiledLevel level, boolean full) throws IOException {
+		// check the header
+		if(!LevelFile.fill(channel, buffer, HEADER_SIZE) || buffer.getInt() != MAGIC) {
+			throw new IOException("Not a compiled level");
+		}
+		short version = buffer.getShort();
+		if(version != VERSION) {
+			throw new IOException("Compiled level version " + version + " not supported");
+		}
+		buffer.getShort();
+		level.modified = buffer.getLong();
+		level.length = buffer.getLong();
+		level.hash = buffer.getInt();
+		level.chunkSize = buffer.getInt();
+		
+		// assets manifest
+		readStrings(channel, buffer, level.manifest.sprites);
+		readStrings(channel, buffer, level.manifest.textures);
+		readStrings(channel, buffer, level.manifest.sounds);
+		if(!full) {
+			return;
+		}
+		
+		// static geometry
+		LevelFile.require(channel, buffer, 4);
+		for(int i = LevelFile.count(channel, buffer, 13, Integer.MAX_VALUE); i > 0; i--) {
+			LevelFile.require(channel, buffer, 13);
+			StaticGeometry.Shape shape = new StaticGeometry.Shape();
+			shape.owner = buffer.getInt();
+			shape.friction = buffer.getFloat();
+			shape.restitution = buffer.getFloat();
+			shape.vertices = new float[(buffer.get() & 0xFF) * 2];
+			LevelFile.require(channel, buffer, shape.vertices.length * 4);
+			for(int j = 0; j < shape.vertices.length; j++) {
+				shape.vertices[j] = buffer.getFloat();
+			}
+			level.geometry.shapes.add(shape);
+		}
+		
+		// chunks index
+		LevelFile.require(channel, buffer, 4);
+		for(int i = LevelFile.count(channel, buffer, 12, Integer.MAX_VALUE); i > 0; i--) {
+			LevelFile.require(channel, buffer, 12);
+			Cell cell = new Cell(buffer.getInt(), buffer.getInt());
+			for(int j = LevelFile.count(channel, buffer, 4, Integer.MAX_VALUE); j > 0; j--) {
+				LevelFile.require(channel, buffer, 4);
+				cell.props.add(buffer.getInt());
+			}
+			level.cells.add(cell);
+		}
+		
+		// props, sorted by the compiler
+		LevelFile.read(channel, buffer, level.props.props::add);
+		
+		// mark the baked props, the indices are checked
+		int count = level.props.props.size;
+		for(StaticGeometry.Shape shape : level.geometry.shapes) {
+			if(shape.owner < 0 || shape.owner >= count) {
+				throw new IOException("Shape of the missing prop: " + shape.owner);
+			}
+			level.props.props.get(shape.owner).baked = true;
+		}
+		for(Cell cell : level.cells) {
+			for(int i = 0; i < cell.props.size; i++) {
+				if(cell.props.get(i) < 0 || cell.props.get(i) >= count) {
+					throw new IOException("Chunk of the missing prop: " + cell.props.get(i));
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Read the strings, with the count.
+	 * @param channel Channel of the level data.
+	 * @param buffer Stream buffer.
+	 * @param strings Strings to fill.
+	 * @throws IOException On read fails.
+	 */
+	static private void readStrings(ReadableByteChannel channel, ByteBuffer buffer,
+			Array<String> strings) throws IOException {
+		LevelFile.require(channel, buffer, 4);
+		byte[] bytes = new byte[256];
+		for(int i = LevelFile.count(channel, buffer, 2, Integer.MAX_VALUE); i > 0; i--) {
+			LevelFile.require(channel, buffer, 2);
+			int length = buffer.getShort() & 0xFFFF;
+			if(bytes.length < length) {
+				bytes = new byte[length];
+			}
+			LevelFile.require(channel, buffer, length);
+			buffer.get(bytes, 0, length);
+			strings.add(new String(bytes, 0, length, StandardCharsets.UTF_8));
+		}
+	}
+	
+	/**
+	 * Update the source modification time of the compiled level,
+	 * eg. when the source is touched with no changes.
+	 * @param file Compiled level file.
+	 * @param modified Modification time of the source.
+	 * @throws IOException On write fails.
+	 */
+	static void restamp(FileHandle file, long modified) throws IOException {
+		try(FileChannel channel = FileChannel.open(file.file().toPath(), StandardOpenOption.WRITE)) {
+			ByteBuffer stamp = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(0, modified);
+			channel.write(stamp, STAMP_OFFSET);
+		}
+	}
+}
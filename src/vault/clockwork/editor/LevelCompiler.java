@@ -0,0 +1,266 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.editor;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.LongMap;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import vault.clockwork.Config;
+import vault.clockwork.Game;
+import vault.clockwork.controllers.ChunkController;
+
+/**
+ * Offline level compiler.
+ * The editable level is compiled into the packed level, with the props
+ * sorted by ID, the assets manifest, the baked static geometry and
+ * the chunks index of the streamed props:
+ * <pre>
+ * LevelCompiler assets/levels/a
+ * LevelCompiler assets/levels/a cache/a.cwc 1024
+ * </pre>
+ * Stage compiles its level on demand by the loader thread, when
+ * the compiled level is missing or older than its source. Compiled levels
+ * of the stage are kept in the local cache, with the assets manifest.
+ * @see CompiledLevel
+ * @author Konrad Nowakowski https://github.com/konrad92
+ */
+public class LevelCompiler {
+	/**
+	 * Size of the buffer hashing the source level.
+	 */
+	static public final int HASH_BUFFER = 8192;
+	
+	/**
+	 * Local catalogue of the compiled levels of the stage.
+	 */
+	static public final String CACHE_PATH = "cache/";
+	
+	/**
+	 * Compile the level.
+	 * @param args Source filename, optional target filename and chunks size.
+	 */
+	public static void main(String[] args) {
+		if(args.length < 1) {
+			java.lang.System.err.println("Usage: LevelCompiler <source> [target] [chunkSize]");
+			java.lang.System.exit(1);
+		}
+		
+		FileHandle source = new FileHandle(args[0]),
+			target = new FileHandle(args.length > 1 ? args[1] : args[0] + CompiledLevel.EXTENSION);
+		int chunkSize = args.length > 2 ? Integer.parseInt(args[2]) : new Config().chunkSize;
+		
+		if(compile(source, target, chunkSize) == null) {
+			java.lang.System.err.println("Compilation of " + args[0] + " failed");
+			java.lang.System.exit(1);
+		}
+	}
+	
+	/**
+	 * Compile the level props.
+	 * Props are sorted in place, and the baked ones are marked.
+	 * @param holder Level props.
+	 * @param chunkSize Size of the indexed chunks, <b>0</b> for no index.
+	 * @return Compiled level, with no source stamp.
+	 */
+	static public CompiledLevel compile(PropHolder holder, int chunkSize) {
+		CompiledLevel level = new CompiledLevel();
+		level.chunkSize = Math.max(chunkSize, 0);
+		level.props = holder;
+		
+		// instantiation order
+		holder.sort();
+		level.manifest = AssetManifest.of(holder);
+		
+		LongMap<CompiledLevel.Cell> cells = new LongMap<>();
+		for(int i = 0; i < holder.props.size; i++) {
+			PropSerialized prop = holder.props.get(i);
+			
+			// static collision
+			int shapes = level.geometry.size();
+			level.geometry.owner = i;
+			prop.baked = prop.bake(level.geometry);
+			if(!prop.baked) {
+				level.geometry.shapes.truncate(shapes);
+			}
+			
+			// chunk of the streamed prop
+			if(level.chunkSize > 0 && prop.isStreamed()) {
+				int x = ChunkController.getCell(prop.position.x, level.chunkSize),
+					y = ChunkController.getCell(prop.position.y, level.chunkSize);
+				long key = ((long)x << 32) | (y & 0xFFFFFFFFL);
+				
+				CompiledLevel.Cell cell = cells.get(key);
+				if(cell == null) {
+					cell = new CompiledLevel.Cell(x, y);
+					cells.put(key, cell);
+				}
+				cell.props.add(i);
+			}
+		}
+		level.geometry.owner = -1;
+		
+		// cells in the rows, for the same output of the same level
+		for(CompiledLevel.Cell cell : cells.values()) {
+			level.cells.add(cell);
+		}
+		level.cells.sort((a, b) -> a.y != b.y ? Integer.compare(a.y, b.y) : Integer.compare(a.x, b.x));
+		return level;
+	}
+	
+	/**
+	 * Compile the level file.
+	 * Source is stamped before the read, so the changes made meanwhile
+	 * trigger the next compile.
+	 * @param source Editable level to read.
+	 * @param target Compiled level to write.
+	 * @param chunkSize Size of the indexed chunks, <b>0</b> for no index.
+	 * @return Compiled level, as written. <b>NULL</b> on fail.
+	 */
+	static public CompiledLevel compile(FileHandle source, FileHandle target, int chunkSize) {
+		if(!source.exists() || source.isDirectory()) {
+			return null;
+		}
+		
+		try {
+			long modified = source.lastModified(),
+				length = source.length();
+			int hash = hash(source);
+			
+			PropHolder holder = PropHolder.load(source);
+			if(holder == null) {
+				return null;
+			}
+			
+			CompiledLevel level = compile(holder, chunkSize);
+			level.modified = modified;
+			level.length = length;
+			level.hash = hash;
+			CompiledLevel.write(level, target);
+			level.file = target;
+			return level;
+		} catch(IOException ex) {
+			Logger.getLogger(LevelCompiler.class.getName()).log(Level.SEVERE, null, ex);
+		}
+		return null;
+	}
+	
+	/**
+	 * Up-to-date compiled level of the stage.
+	 * Reads only the header and checks the stamp, so it is cheap enough
+	 * for the game thread. Outdated level is compiled by the loader.
+	 * @see #compile(java.lang.String) 
+	 * @param filename Level filename.
+	 * @return Header and manifest of the compiled level, read the rest
+	 * by the loader. <b>NULL</b> when the level is not compiled or outdated.
+	 */
+	static public CompiledLevel current(String filename) {
+		FileHandle source = Gdx.files.internal(filename),
+			target = getTarget(filename);
+		if(!target.exists()) {
+			return null;
+		}
+		
+		try {
+			CompiledLevel level = CompiledLevel.read(target, false);
+			if(isCurrent(level, source, Math.max(Game.config.chunkSize, 0))) {
+				return level;
+			}
+		} catch(IOException ex) {
+			Logger.getLogger(LevelCompiler.class.getName()).log(Level.WARNING, null, ex);
+		}
+		return null;
+	}
+	
+	/**
+	 * Compile the level of the stage, for the configured chunks size.
+	 * Performed by the loader thread.
+	 * @see PropLoader#compile(java.lang.String, boolean, boolean) 
+	 * @param filename Level filename.
+	 * @return Whole compiled level. <b>NULL</b> on fail.
+	 */
+	static public CompiledLevel compile(String filename) {
+		return compile(Gdx.files.internal(filename), getTarget(filename),
+			Math.max(Game.config.chunkSize, 0));
+	}
+	
+	/**
+	 * Compiled level file of the stage.
+	 * @param filename Level filename.
+	 * @return Compiled level in the local cache.
+	 */
+	static public FileHandle getTarget(String filename) {
+		return Gdx.files.local(CACHE_PATH + filename + CompiledLevel.EXTENSION);
+	}
+	
+	/**
+	 * Compiled level is up-to-date with its source.
+	 * Touched source with the same content is not compiled again,
+	 * only the stamp of the compiled level is updated.
+	 * @param level Header of the compiled level.
+	 * @param source Editable level.
+	 * @param chunkSize Configured size of the chunks.
+	 * @return <b>TRUE</b> when up-to-date.
+	 * @throws IOException On read or write fails.
+	 */
+	static private boolean isCurrent(CompiledLevel level, FileHandle source, int chunkSize) throws IOException {
+		if(!source.exists() || level.chunkSize != chunkSize || level.length != source.length()) {
+			return false;
+		}
+		
+		long modified = source.lastModified();
+		if(level.modified == modified) {
+			return true;
+		}
+		
+		// compare the content
+		if(level.hash != hash(source)) {
+			return false;
+		}
+		CompiledLevel.restamp(level.file, modified);
+		level.modified = modified;
+		return true;
+	}
+	
+	/**
+	 * CRC32 of the file.
+	 * @param file File to hash.
+	 * @return Hash of the file content.
+	 * @throws IOException On read fails.
+	 */
+	static public int hash(FileHandle file) throws IOException {
+		CRC32 crc = new CRC32();
+		byte[] buffer = new byte[HASH_BUFFER];
+		try(InputStream in = file.read()) {
+			for(int read; (read = in.read(buffer)) > 0; ) {
+				crc.update(buffer, 0, read);
+			}
+		}
+		return (int)crc.getValue();
+	}
+}
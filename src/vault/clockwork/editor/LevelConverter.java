@@ -0,0 +1,65 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.editor;
+
+import com.badlogic.gdx.files.FileHandle;
+
+/**
+ * Level converter between the JSON and the binary levels.
+ * Formats are picked by the extensions, so it converts the both ways:
+ * <pre>
+ * LevelConverter assets/levels/a assets/levels/a.cwl
+ * LevelConverter assets/levels/a.cwl cache/a.json
+ * </pre>
+ * @see LevelFile
+ * @author Konrad Nowakowski https://github.com/konrad92
+ */
+public class LevelConverter {
+	/**
+	 * Convert the level.
+	 * @param args Source and target filenames.
+	 */
+	public static void main(String[] args) {
+		if(args.length < 2) {
+			java.lang.System.err.println("Usage: LevelConverter <source> <target>");
+			java.lang.System.exit(1);
+		}
+		
+		if(!convert(new FileHandle(args[0]), new FileHandle(args[1]))) {
+			java.lang.System.err.println("Conversion of " + args[0] + " failed");
+			java.lang.System.exit(1);
+		}
+	}
+	
+	/**
+	 * Convert the level.
+	 * @param source Level to read.
+	 * @param target Level to write.
+	 * @return <b>TRUE</b> on success.
+	 */
+	public static boolean convert(FileHandle source, FileHandle target) {
+		PropHolder props = PropHolder.load(source);
+		return props != null && PropHolder.save(props, target);
+	}
+}
@@ -0,0 +1,488 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.editor;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * Binary level format.
+ * Fixed header, string table and the per-class prop records, little-endian:
+ * <pre>
+ * int MAGIC, short VERSION, short flags, int strings, int props
+ * strings * (short length, UTF-8 bytes)
+ * props * (short class string, short length, record)
+ * </pre>
+ * Shorts are unsigned, strings in the records are the indices of the table.
+ * Records are written and read by the props themselves, with no reflection.
+ * Props are created by the PropRegistry factories.
+ * Record length allows to skip the unknown classes and the trailing fields.
+ * Levels are streamed through the fixed buffers, so the memory used by
+ * the reading and the writing does not grow with the level.
+ * @author Konrad Nowakowski https://github.com/konrad92
+ */
+public class LevelFile {
+	/**
+	 * Extension of the binary levels.
+	 */
+	static public final String EXTENSION = ".cwl";
+	
+	/**
+	 * File signature, "CWLV".
+	 */
+	static public final int MAGIC = 0x564C5743;
+	
+	/**
+	 * Version of the format.
+	 */
+	static public final short VERSION = 1;
+	
+	/**
+	 * Size of the header, in bytes.
+	 */
+	static public final int HEADER_SIZE = 16;
+	
+	/**
+	 * String index of the <b>NULL</b> strings, and the strings table limit.
+	 */
+	static public final int NULL_STRING = 0xFFFF;
+	
+	/**
+	 * Size of the stream buffers, fits the longest string and record.
+	 */
+	static public final int STREAM_SIZE = 1 << 17;
+	
+	/**
+	 * Writer of the prop record.
+	 * Strings are gathered into the string table.
+	 */
+	static public class Output {
+		/**
+		 * Records of the props, grown on demand.
+		 */
+		private ByteBuffer buffer = ByteBuffer.allocate(4096).order(ByteOrder.LITTLE_ENDIAN);
+		
+		/**
+		 * Strings table, and the indices of the strings.
+		 */
+		private final Array<String> strings = new Array<>();
+		private final ObjectIntMap<String> indices = new ObjectIntMap<>();
+		
+		/**
+		 * Put the integer field.
+		 * @param value Value to write.
+		 */
+		public void putInt(int value) {
+			this.ensure(4);
+			buffer.putInt(value);
+		}
+		
+		/**
+		 * Put the float field.
+		 * @param value Value to write.
+		 */
+		public void putFloat(float value) {
+			this.ensure(4);
+			buffer.putFloat(value);
+		}
+		
+		/**
+		 * Put the string field, as the index of the string table.
+		 * @param value Value to write, may be <b>NULL</b>.
+		 */
+		public void putString(String value) {
+			this.ensure(2);
+			buffer.putShort((short)(value == null ? NULL_STRING : this.index(value)));
+		}
+		
+		/**
+		 * Put the prop record.
+		 * @param prop Prop to write.
+		 * @throws IOException On the record too long.
+		 */
+		private void record(PropSerialized prop) throws IOException {
+			this.putString(prop.getClass().getName());
+			this.ensure(2);
+			int start = buffer.position();
+			buffer.putShort((short)0);
+			
+			prop.write(this);
+			
+			int length = buffer.position() - start - 2;
+			if(length > 0xFFFF) {
+				throw new IOException("Prop record too long: " + prop.getClass().getName());
+			}
+			buffer.putShort(start, (short)length);
+		}
+		
+		/**
+		 * Write out the buffered bytes.
+		 * @param channel Channel to write.
+		 * @throws IOException On write fails.
+		 */
+		private void flush(WritableByteChannel channel) throws IOException {
+			buffer.flip();
+			while(buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			buffer.clear();
+		}
+		
+		/**
+		 * Index of the string in the table, added when missing.
+		 * @param value String to find.
+		 * @return Index of the string.
+		 */
+		private int index(String value) {
+			int index = indices.get(value, -1);
+			if(index < 0) {
+				index = strings.size;
+				strings.add(value);
+				indices.put(value, index);
+			}
+			return index;
+		}
+		
+		/**
+		 * Make room for the bytes.
+		 * @param bytes Count of the bytes to write.
+		 */
+		private void ensure(int bytes) {
+			if(buffer.remaining() < bytes) {
+				ByteBuffer grown = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes))
+					.order(ByteOrder.LITTLE_ENDIAN);
+				buffer.flip();
+				grown.put(buffer);
+				buffer = grown;
+			}
+		}
+	}
+	
+	/**
+	 * Reader of the prop record.
+	 */
+	static public class Input {
+		/**
+		 * Level data, limited to the current record.
+		 */
+		private final ByteBuffer buffer;
+		
+		/**
+		 * Strings table.
+		 */
+		private final String[] strings;
+		
+		/**
+		 * Ctor.
+		 * @param buffer Level data.
+		 * @param strings Strings table.
+		 */
+		private Input(ByteBuffer buffer, String[] strings) {
+			this.buffer = buffer;
+			this.strings = strings;
+		}
+		
+		/**
+		 * Get the integer field.
+		 * @return Read value.
+		 */
+		public int getInt() {
+			return buffer.getInt();
+		}
+		
+		/**
+		 * Get the float field.
+		 * @return Read value.
+		 */
+		public float getFloat() {
+			return buffer.getFloat();
+		}
+		
+		/**
+		 * Get the string field.
+		 * @return Read value, may be <b>NULL</b>.
+		 */
+		public String getString() {
+			int index = buffer.getShort() & 0xFFFF;
+			return index == NULL_STRING ? null : strings[index];
+		}
+		
+		/**
+		 * Record has more fields, written by the newer version.
+		 * @return <b>TRUE</b> when more fields to read.
+		 */
+		public boolean hasRemaining() {
+			return buffer.hasRemaining();
+		}
+	}
+	
+	/**
+	 * Write the level.
+	 * Props are iterated twice, first for the string table of the header,
+	 * then for the records written out in the chunks.
+	 * @param props Level props.
+	 * @param file File to write.
+	 * @throws IOException On write fails.
+	 */
+	static public void write(Iterable<? extends PropSerialized> props, FileHandle file) throws IOException {
+		file.parent().mkdirs();
+		try(FileChannel channel = FileChannel.open(file.file().toPath(),
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			write(props, channel);
+		}
+	}
+	
+	/**
+	 * Write the level data, at the channel position.
+	 * @param props Level props.
+	 * @param channel Channel to write.
+	 * @throws IOException On write fails.
+	 */
+	static void write(Iterable<? extends PropSerialized> props, WritableByteChannel channel) throws IOException {
+		Output out = new Output();
+		
+		// gather the string table, records are dropped
+		int count = 0;
+		for(PropSerialized prop : props) {
+			out.record(prop);
+			out.buffer.clear();
+			count++;
+		}
+		if(out.strings.size >= NULL_STRING) {
+			throw new IOException("Too many strings: " + out.strings.size);
+		}
+		int strings = out.strings.size;
+		
+		// header with the string table
+		out.ensure(HEADER_SIZE);
+		out.buffer.putInt(MAGIC);
+		out.buffer.putShort(VERSION);
+		out.buffer.putShort((short)0);
+		out.buffer.putInt(strings);
+		out.buffer.putInt(count);
+		for(int i = 0; i < strings; i++) {
+			byte[] string = out.strings.get(i).getBytes(StandardCharsets.UTF_8);
+			if(string.length > 0xFFFF) {
+				throw new IOException("String too long: " + out.strings.get(i).substring(0, 32));
+			}
+			out.ensure(2 + string.length);
+			out.buffer.putShort((short)string.length);
+			out.buffer.put(string);
+			if(out.buffer.position() >= STREAM_SIZE) {
+				out.flush(channel);
+			}
+		}
+		
+		// prop records
+		for(PropSerialized prop : props) {
+			out.record(prop);
+			count--;
+			if(out.buffer.position() >= STREAM_SIZE) {
+				out.flush(channel);
+			}
+		}
+		if(count != 0 || out.strings.size != strings) {
+			throw new IOException("Level props changed while writing");
+		}
+		out.flush(channel);
+	}
+	
+	/**
+	 * Read the level.
+	 * @param file File to read.
+	 * @return Level props, in the file order.
+	 * @throws IOException On read fails, or not supported file.
+	 */
+	static public PropHolder read(FileHandle file) throws IOException {
+		PropHolder holder = new PropHolder();
+		read(file, holder.props::add);
+		return holder;
+	}
+	
+	/**
+	 * Read the level props one by one.
+	 * @param file File to read.
+	 * @param consumer Consumer of the props, in the file order.
+	 * @return Count of the read props.
+	 * @throws IOException On read fails, or not supported file.
+	 */
+	static public int read(FileHandle file, Consumer<? super PropSerialized> consumer) throws IOException {
+		// packed files are read by the stream
+		ReadableByteChannel channel = file.file().exists()
+			? FileChannel.open(file.file().toPath(), StandardOpenOption.READ)
+			: Channels.newChannel(file.read());
+		
+		try(ReadableByteChannel in = channel) {
+			ByteBuffer buffer = ByteBuffer.allocateDirect(STREAM_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			buffer.flip();
+			return read(in, buffer, consumer);
+		} catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException ex) {
+			throw new IOException("Corrupted level: " + file.path(), ex);
+		}
+	}
+	
+	/**
+	 * Read the level data.
+	 * @param channel Channel of the level data.
+	 * @param buffer Stream buffer.
+	 * @param consumer Consumer of the props.
+	 * @return Count of the read props.
+	 * @throws IOException On read fails, or not supported data.
+	 */
+	static int read(ReadableByteChannel channel, ByteBuffer buffer,
+			Consumer<? super PropSerialized> consumer) throws IOException {
+		// check the header
+		if(!fill(channel, buffer, HEADER_SIZE) || buffer.getInt() != MAGIC) {
+			throw new IOException("Not a level file");
+		}
+		short version = buffer.getShort();
+		if(version > VERSION) {
+			throw new IOException("Level version " + version + " not supported");
+		}
+		buffer.getShort();
+		
+		// string table, the counts are checked before the allocation
+		String[] strings = new String[count(channel, buffer, 2, NULL_STRING - 1)];
+		int count = count(channel, buffer, 4, Integer.MAX_VALUE);
+		byte[] bytes = new byte[256];
+		for(int i = 0; i < strings.length; i++) {
+			require(channel, buffer, 2);
+			int length = buffer.getShort() & 0xFFFF;
+			if(bytes.length < length) {
+				bytes = new byte[length];
+			}
+			require(channel, buffer, length);
+			buffer.get(bytes, 0, length);
+			strings[i] = new String(bytes, 0, length, StandardCharsets.UTF_8);
+		}
+		
+		// prop records
+		Input in = new Input(buffer, strings);
+		int read = 0;
+		for(int i = 0; i < count; i++) {
+			require(channel, buffer, 4);
+			String type = in.getString();
+			int length = buffer.getShort() & 0xFFFF;
+			require(channel, buffer, length);
+			
+			int limit = buffer.limit(),
+				end = buffer.position() + length;
+			PropSerialized prop = type != null ? PropRegistry.newProp(type) : null;
+			if(prop != null) {
+				buffer.limit(end);
+				prop.read(in);
+				buffer.limit(limit);
+				consumer.accept(prop);
+				read++;
+			}
+			buffer.position(end);
+		}
+		
+		return read;
+	}
+	
+	/**
+	 * Read the count of the elements.
+	 * Every element takes at least the given bytes, so the count is
+	 * rejected when the rest of the data could not hold it.
+	 * @param channel Channel of the level data.
+	 * @param buffer Stream buffer, with the count buffered.
+	 * @param bytes Least size of the element, in bytes.
+	 * @param max Most elements allowed by the format.
+	 * @return Count of the elements.
+	 * @throws IOException On the negative or too large count.
+	 */
+	static int count(ReadableByteChannel channel, ByteBuffer buffer, int bytes, int max) throws IOException {
+		int count = buffer.getInt();
+		if(count < 0 || count > max || (long)count * bytes > remaining(channel, buffer)) {
+			throw new IOException("Corrupted level");
+		}
+		return count;
+	}
+	
+	/**
+	 * Count of the data bytes left, buffered or not read yet.
+	 * Size of the packed files stream is not known, so it is unlimited
+	 * and the data is checked by the reading only.
+	 * @param channel Channel of the level data.
+	 * @param buffer Stream buffer.
+	 * @return Bytes left.
+	 * @throws IOException On the size query fails.
+	 */
+	static long remaining(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+		if(channel instanceof SeekableByteChannel) {
+			SeekableByteChannel file = (SeekableByteChannel)channel;
+			return file.size() - file.position() + buffer.remaining();
+		}
+		return Long.MAX_VALUE;
+	}
+	
+	/**
+	 * Read the bytes into the stream buffer, when not buffered yet.
+	 * @param channel Channel of the level data.
+	 * @param buffer Stream buffer.
+	 * @param bytes Count of the bytes needed.
+	 * @return <b>FALSE</b> on the end of the data.
+	 * @throws IOException On read fails.
+	 */
+	static boolean fill(ReadableByteChannel channel, ByteBuffer buffer, int bytes) throws IOException {
+		if(buffer.remaining() >= bytes) {
+			return true;
+		}
+		
+		buffer.compact();
+		while(buffer.position() < bytes && channel.read(buffer) >= 0) {
+			// read the rest
+		}
+		buffer.flip();
+		return buffer.remaining() >= bytes;
+	}
+	
+	/**
+	 * Read the bytes into the stream buffer.
+	 * @param channel Channel of the level data.
+	 * @param buffer Stream buffer.
+	 * @param bytes Count of the bytes needed.
+	 * @throws IOException On read fails, or the end of the data.
+	 */
+	static void require(ReadableByteChannel channel, ByteBuffer buffer, int bytes) throws IOException {
+		if(!fill(channel, buffer, bytes)) {
+			throw new EOFException("Unexpected end of the level");
+		}
+	}
+}
@@ -0,0 +1,196 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.editor;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonValue;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * JSON codec of the prop class.
+ * Codecs are generated by the PropCodecGenerator, so the levels are read
+ * and written with no reflection. Layout is the one of the Json reflection,
+ * <code>class</code> field followed by the prop fields.
+ * @see PropCodecGenerator
+ * @param <T> Prop type.
+ * @author Konrad Nowakowski https://github.com/konrad92
+ */
+public abstract class PropCodec<T extends PropSerialized> implements Json.Serializer<T> {
+	/**
+	 * Prop class of the codec.
+	 */
+	public final Class<T> type;
+	
+	/**
+	 * Fields signature of the prop class, when the codec were generated.
+	 * @see #signature(java.lang.Class) 
+	 */
+	public final String fields;
+	
+	/**
+	 * Ctor.
+	 * @param type Prop class of the codec.
+	 * @param fields Fields signature of the prop class.
+	 */
+	public PropCodec(Class<T> type, String fields) {
+		this.type = type;
+		this.fields = fields;
+	}
+	
+	/**
+	 * Codec matches the current fields of the prop class.
+	 * @return <b>FALSE</b> when the prop changed since the generation.
+	 */
+	public boolean isCurrent() {
+		return fields.equals(signature(type));
+	}
+	
+	/**
+	 * Register the codecs with the json coder/decoder.
+	 * Stale codecs are skipped, so their props fall back to the reflection.
+	 * @param json Json coder/decoder.
+	 * @param codecs Codecs to register.
+	 */
+	static public void register(Json json, PropCodec<?>... codecs) {
+		for(PropCodec<?> codec : codecs) {
+			if(codec.isCurrent()) {
+				register(json, codec);
+			} else {
+				Logger.getLogger(PropCodec.class.getName()).log(Level.WARNING,
+					"Stale codec of {0}, run the PropCodecGenerator", codec.type.getName());
+			}
+		}
+	}
+	
+	/**
+	 * Register the codec with the json coder/decoder.
+	 * @param <T> Prop type.
+	 * @param json Json coder/decoder.
+	 * @param codec Codec to register.
+	 */
+	static private <T extends PropSerialized> void register(Json json, PropCodec<T> codec) {
+		json.setSerializer(codec.type, codec);
+	}
+	
+	/**
+	 * Serialized fields of the class, in the order of the Json reflection.
+	 * Super class fields go first, static and transient ones are skipped.
+	 * @param type Class to scan.
+	 * @return Serialized fields.
+	 */
+	static public Array<Field> getFields(Class<?> type) {
+		Array<Class<?>> hierarchy = new Array<>();
+		for(Class<?> next = type; next != Object.class; next = next.getSuperclass()) {
+			hierarchy.add(next);
+		}
+		
+		Array<Field> fields = new Array<>();
+		for(int i = hierarchy.size - 1; i >= 0; i--) {
+			for(Field field : hierarchy.get(i).getDeclaredFields()) {
+				int modifiers = field.getModifiers();
+				if(Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+					continue;
+				}
+				fields.add(field);
+			}
+		}
+		return fields;
+	}
+	
+	/**
+	 * Fields signature of the class.
+	 * Names and types of the serialized fields, eg. <code>id:int,layer:int</code>.
+	 * @param type Class to scan.
+	 * @return Fields signature.
+	 */
+	static public String signature(Class<?> type) {
+		StringBuilder signature = new StringBuilder();
+		for(Field field : getFields(type)) {
+			if(signature.length() > 0) {
+				signature.append(',');
+			}
+			signature.append(field.getName()).append(':').append(field.getType().getSimpleName());
+		}
+		return signature.toString();
+	}
+	
+	/**
+	 * Write the vector field.
+	 * @param json Json coder.
+	 * @param name Field name.
+	 * @param vector Vector to write, or <b>NULL</b>.
+	 */
+	static protected void writeVector(Json json, String name, Vector2 vector) {
+		if(vector == null) {
+			json.writeValue(name, (Object)null);
+			return;
+		}
+		
+		json.writeObjectStart(name);
+		json.writeValue("x", vector.x);
+		json.writeValue("y", vector.y);
+		json.writeObjectEnd();
+	}
+	
+	/**
+	 * Read the vector field.
+	 * @param data Prop object.
+	 * @param name Field name.
+	 * @param vector Current vector, assigned in place.
+	 * @return Vector of the field.
+	 */
+	static protected Vector2 readVector(JsonValue data, String name, Vector2 vector) {
+		JsonValue value = data.get(name);
+		if(value == null) {
+			return vector;
+		} else if(value.isNull()) {
+			return null;
+		}
+		
+		if(vector == null) {
+			vector = new Vector2();
+		}
+		return vector.set(value.getFloat("x", 0.f), value.getFloat("y", 0.f));
+	}
+	
+	/**
+	 * Read the string field.
+	 * @param data Prop object.
+	 * @param name Field name.
+	 * @param string Current string.
+	 * @return String of the field.
+	 */
+	static protected String readString(JsonValue data, String name, String string) {
+		JsonValue value = data.get(name);
+		if(value == null) {
+			return string;
+		}
+		return value.isNull() ? null : value.asString();
+	}
+}
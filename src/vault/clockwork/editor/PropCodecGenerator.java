@@ -0,0 +1,227 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.editor;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Generator of the prop codecs.
+ * Writes the codec of every registered prop, and the PropCodecs listing
+ * them, into the codecs package. Run it after changing the prop fields:
+ * <pre>
+ * PropCodecGenerator src
+ * </pre>
+ * Props with the fields not supported by the codecs are skipped,
+ * so they are coded by the Json reflection.
+ * @see PropCodec
+ * @author Konrad Nowakowski https://github.com/konrad92
+ */
+public class PropCodecGenerator {
+	/**
+	 * Package of the generated codecs.
+	 */
+	static public final String PACKAGE = "vault.clockwork.editor.codecs";
+	
+	/**
+	 * Generate the codecs.
+	 * @param args Sources directory, <code>src</code> by default.
+	 */
+	public static void main(String[] args) {
+		FileHandle sources = new FileHandle(args.length > 0 ? args[0] : "src");
+		FileHandle target = sources.child(PACKAGE.replace('.', '/'));
+		target.mkdirs();
+		
+		Array<Class<? extends PropSerialized>> generated = new Array<>();
+		for(Class<? extends PropSerialized> type : PropRegistry.getRegistered()) {
+			String codec = generate(type, header(sources, type));
+			if(codec == null) {
+				java.lang.System.err.println("Skipped " + type.getName() + ", coded by the reflection");
+				continue;
+			}
+			
+			target.child(type.getSimpleName() + "Codec.java").writeString(codec, false);
+			generated.add(type);
+		}
+		
+		target.child("PropCodecs.java").writeString(listing(generated, header(sources, PropCodec.class)), false);
+		java.lang.System.out.println("Generated " + generated.size + " codecs in " + target.path());
+	}
+	
+	/**
+	 * Generate the codec source of the prop.
+	 * @param type Prop class.
+	 * @param header Source header.
+	 * @return Codec source, or <b>NULL</b> when the prop fields are not supported.
+	 */
+	static public String generate(Class<? extends PropSerialized> type, String header) {
+		String name = type.getSimpleName();
+		StringBuilder write = new StringBuilder(), read = new StringBuilder();
+		
+		for(Field field : PropCodec.getFields(type)) {
+			int modifiers = field.getModifiers();
+			if(!Modifier.isPublic(modifiers)) {
+				return null;
+			}
+			
+			String fieldName = field.getName();
+			Class<?> fieldType = field.getType();
+			if(fieldType == Vector2.class) {
+				write.append(String.format("\t\twriteVector(json, \"%1$s\", prop.%1$s);\n", fieldName));
+				read.append(Modifier.isFinal(modifiers)
+					? String.format("\t\treadVector(data, \"%1$s\", prop.%1$s);\n", fieldName)
+					: String.format("\t\tprop.%1$s = readVector(data, \"%1$s\", prop.%1$s);\n", fieldName));
+				continue;
+			} else if(Modifier.isFinal(modifiers)) {
+				return null;
+			}
+			
+			String getter;
+			if(fieldType == String.class) {
+				read.append(String.format("\t\tprop.%1$s = readString(data, \"%1$s\", prop.%1$s);\n", fieldName));
+			} else if((getter = getter(fieldType)) != null) {
+				read.append(String.format("\t\tprop.%1$s = data.%2$s(\"%1$s\", prop.%1$s);\n", fieldName, getter));
+			} else {
+				return null;
+			}
+			write.append(String.format("\t\tjson.writeValue(\"%1$s\", prop.%1$s);\n", fieldName));
+		}
+		
+		return header
+			+ "package " + PACKAGE + ";\n"
+			+ "\n"
+			+ "import com.badlogic.gdx.utils.Json;\n"
+			+ "import com.badlogic.gdx.utils.JsonValue;\n"
+			+ "import " + PropCodec.class.getName() + ";\n"
+			+ "import " + type.getName() + ";\n"
+			+ "\n"
+			+ "/**\n"
+			+ " * JSON codec of the " + name + ".\n"
+			+ " * Generated by the PropCodecGenerator, do not edit.\n"
+			+ " */\n"
+			+ "public class " + name + "Codec extends PropCodec<" + name + "> {\n"
+			+ "\t/**\n"
+			+ "\t * Ctor.\n"
+			+ "\t */\n"
+			+ "\tpublic " + name + "Codec() {\n"
+			+ "\t\tsuper(" + name + ".class, \"" + PropCodec.signature(type) + "\");\n"
+			+ "\t}\n"
+			+ "\t\n"
+			+ "\t/**\n"
+			+ "\t * @see Json.Serializer#write(com.badlogic.gdx.utils.Json, java.lang.Object, java.lang.Class) \n"
+			+ "\t */\n"
+			+ "\t@Override\n"
+			+ "\tpublic void write(Json json, " + name + " prop, Class knownType) {\n"
+			+ "\t\tjson.writeObjectStart(" + name + ".class, knownType);\n"
+			+ write
+			+ "\t\tjson.writeObjectEnd();\n"
+			+ "\t}\n"
+			+ "\t\n"
+			+ "\t/**\n"
+			+ "\t * @see Json.Serializer#read(com.badlogic.gdx.utils.Json, com.badlogic.gdx.utils.JsonValue, java.lang.Class) \n"
+			+ "\t */\n"
+			+ "\t@Override\n"
+			+ "\tpublic " + name + " read(Json json, JsonValue data, Class type) {\n"
+			+ "\t\t" + name + " prop = new " + name + "();\n"
+			+ read
+			+ "\t\treturn prop;\n"
+			+ "\t}\n"
+			+ "}\n";
+	}
+	
+	/**
+	 * Generate the listing of the codecs.
+	 * @param types Props with the generated codecs.
+	 * @param header Source header.
+	 * @return Listing source.
+	 */
+	static public String listing(Array<Class<? extends PropSerialized>> types, String header) {
+		StringBuilder codecs = new StringBuilder();
+		for(Class<? extends PropSerialized> type : types) {
+			codecs.append(codecs.length() > 0 ? ",\n" : "")
+				.append("\t\t\tnew ").append(type.getSimpleName()).append("Codec()");
+		}
+		
+		return header
+			+ "package " + PACKAGE + ";\n"
+			+ "\n"
+			+ "import " + PropCodec.class.getName() + ";\n"
+			+ "\n"
+			+ "/**\n"
+			+ " * Generated codecs of the props.\n"
+			+ " * Generated by the PropCodecGenerator, do not edit.\n"
+			+ " */\n"
+			+ "public class PropCodecs {\n"
+			+ "\t/**\n"
+			+ "\t * New instances of the codecs.\n"
+			+ "\t * @return Codecs of the props.\n"
+			+ "\t */\n"
+			+ "\tstatic public PropCodec<?>[] all() {\n"
+			+ "\t\treturn new PropCodec<?>[] {\n"
+			+ codecs + "\n"
+			+ "\t\t};\n"
+			+ "\t}\n"
+			+ "}\n";
+	}
+	
+	/**
+	 * JsonValue getter of the primitive field.
+	 * @param type Field type.
+	 * @return Getter name, or <b>NULL</b> when not supported.
+	 */
+	static private String getter(Class<?> type) {
+		if(type == int.class) {
+			return "getInt";
+		} else if(type == long.class) {
+			return "getLong";
+		} else if(type == float.class) {
+			return "getFloat";
+		} else if(type == double.class) {
+			return "getDouble";
+		} else if(type == boolean.class) {
+			return "getBoolean";
+		}
+		return null;
+	}
+	
+	/**
+	 * License header of the class source, copied to the generated sources.
+	 * @param sources Sources directory.
+	 * @param type Class of the source.
+	 * @return Source header, empty when the source is not found.
+	 */
+	static private String header(FileHandle sources, Class<?> type) {
+		FileHandle source = sources.child(type.getName().replace('.', '/') + ".java");
+		if(!source.exists()) {
+			return "";
+		}
+		
+		String text = source.readString("UTF-8");
+		int end = text.indexOf("package ");
+		return end > 0 ? text.substring(0, end) : "";
+	}
+}
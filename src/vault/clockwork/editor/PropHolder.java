@@ -30,13 +30,24 @@ import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonWriter;
 import java.util.Comparator;
+import java.io.IOException;
 import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import vault.clockwork.editor.codecs.PropCodecs;
 
 /**
  *
  * @author Konrad Nowakowski <konrad.x92@gmail.com>
  */
 public class PropHolder implements Iterable<PropSerialized> {
+	/**
+	 * Json coder/decoder of the levels, one per thread.
+	 * Levels are loaded by the loader threads.
+	 */
+	static private final ThreadLocal<Json> json = ThreadLocal.withInitial(() -> newJson(true));
+	
 	/**
 	 * All props on the scene.
 	 */
@@ -85,13 +96,47 @@ public class PropHolder implements Iterable<PropSerialized> {
 	 * @return Newly instanced PropHolder. Or NULL on loading fails.
 	 */
 	public static PropHolder load(String filename) {
-		FileHandle fileHandle = Gdx.files.internal(filename);
+		return load(Gdx.files.internal(filename));
+	}
+	
+	/**
+	 * Returns the prop holder instance from the file.
+	 * @see #stream(com.badlogic.gdx.files.FileHandle, java.util.function.Consumer) 
+	 * @param fileHandle Editor props file to read.
+	 * @return Newly instanced PropHolder. Or NULL on loading fails.
+	 */
+	public static PropHolder load(FileHandle fileHandle) {
+		PropHolder holder = new PropHolder();
+		return stream(fileHandle, holder.props::add) ? holder : null;
+	}
+	
+	/**
+	 * Read the props from the file one by one.
+	 * Levels are streamed, so the props not kept by the consumer
+	 * are not held in the memory.
+	 * Binary levels are picked by the extension, JSON otherwise.
+	 * @see LevelFile#EXTENSION
+	 * @see PropStream
+	 * @param fileHandle Editor props file to read.
+	 * @param consumer Consumer of the props, in the file order.
+	 * @return TRUE on successfuly read, FALSE otherwise.
+	 */
+	public static boolean stream(FileHandle fileHandle, Consumer<? super PropSerialized> consumer) {
+		// read the props if able
+		if(!fileHandle.exists() || fileHandle.isDirectory()) {
+			return false;
+		}
 		
-		// load the prop holder if able
-		if(fileHandle.exists() && !fileHandle.isDirectory()) {
-			return getJson().fromJson(PropHolder.class, Gdx.files.internal(filename));
-		} else {
-			return null;
+		try {
+			if(isBinary(fileHandle)) {
+				LevelFile.read(fileHandle, consumer);
+			} else {
+				PropStream.read(fileHandle, getJson(), consumer);
+			}
+			return true;
+		} catch (IOException ex) {
+			Logger.getLogger(PropHolder.class.getName()).log(Level.SEVERE, null, ex);
+			return false;
 		}
 	}
 	
@@ -102,25 +147,68 @@ public class PropHolder implements Iterable<PropSerialized> {
 	 * @return TRUE on successfuly save, FALSE otherwise.
 	 */
 	public static boolean save(PropHolder propHolder, String filename) {
-		FileHandle fileHandle = Gdx.files.local(filename);
-		
+		return save(propHolder, Gdx.files.local(filename));
+	}
+	
+	/**
+	 * Save the editor props to the file.
+	 * Props are written out one by one, binary levels are picked by
+	 * the extension, JSON otherwise.
+	 * @see LevelFile#EXTENSION
+	 * @see PropStream
+	 * @param propHolder Prop holder to save.
+	 * @param fileHandle Editor props file to write.
+	 * @return TRUE on successfuly save, FALSE otherwise.
+	 */
+	public static boolean save(PropHolder propHolder, FileHandle fileHandle) {
 		// save the prop holder if able
-		if(!fileHandle.isDirectory()) {
-			fileHandle.writeString(getJson().prettyPrint(propHolder), false);
+		if(fileHandle.isDirectory()) {
+			return false;
+		}
+		
+		try {
+			if(isBinary(fileHandle)) {
+				LevelFile.write(propHolder, fileHandle);
+			} else {
+				PropStream.write(propHolder, fileHandle, getJson());
+			}
 			return true;
-		} else {
+		} catch (IOException ex) {
+			Logger.getLogger(PropHolder.class.getName()).log(Level.SEVERE, null, ex);
 			return false;
 		}
 	}
 	
 	/**
-	 * Returns the json parser instance.
-	 * @return Newly instanced json coder/decoder.
+	 * File is the binary level.
+	 * @param fileHandle File to check.
+	 * @return <b>TRUE</b> for the binary level extension.
+	 */
+	public static boolean isBinary(FileHandle fileHandle) {
+		return fileHandle.name().endsWith(LevelFile.EXTENSION);
+	}
+	
+	/**
+	 * Returns the json parser instance of the thread.
+	 * @return Json coder/decoder.
 	 */
 	private static Json getJson() {
+		return json.get();
+	}
+	
+	/**
+	 * Create the json parser of the levels.
+	 * @see PropCodec
+	 * @param codecs Code the props with the generated codecs, instead of the reflection.
+	 * @return Newly instanced json coder/decoder.
+	 */
+	public static Json newJson(boolean codecs) {
 		Json json = new Json(JsonWriter.OutputType.javascript);
 		json.setUsePrototypes(false);
 		json.setIgnoreUnknownFields(true);
+		if(codecs) {
+			PropCodec.register(json, PropCodecs.all());
+		}
 		return json;
 	}
 }
@@ -0,0 +1,335 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.editor;
+
+import com.badlogic.gdx.utils.Array;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import vault.clockwork.Game;
+
+/**
+ * Level loader.
+ * Parses and sorts the props on the background thread, then instances
+ * them on another one once the assets are loaded. Actors constructors
+ * are thread-safe, their bodies are created by the scene on the game
+ * thread.
+ * Compiled levels are read with the props sorted already, the outdated
+ * ones are compiled by the background thread first.
+ * @author Konrad Nowakowski https://github.com/konrad92
+ */
+public class PropLoader {
+	/**
+	 * Level filename.
+	 */
+	public final String filename;
+	
+	/**
+	 * Streamed props are left to the chunks streaming, not instanced.
+	 * @see PropSerialized#isStreamed() 
+	 */
+	public final boolean streaming;
+	
+	/**
+	 * Assets of the manifest gathered by the background thread are still to be queued.
+	 */
+	private boolean queueing;
+	
+	/**
+	 * Parse of the level, performed by the background thread.
+	 */
+	private final FutureTask<CompiledLevel> parsing;
+	
+	/**
+	 * Parsed level, with no geometry and chunks index when not compiled.
+	 */
+	private CompiledLevel level;
+	
+	/**
+	 * Parsed props, sorted by ID.
+	 */
+	private Array<PropSerialized> props;
+	
+	/**
+	 * Instanced actors, in the props order.
+	 */
+	private PropActor[] actors;
+	
+	/**
+	 * Instancing of the props, performed by the background thread.
+	 */
+	private FutureTask<Void> instancing;
+	
+	/**
+	 * Count of the instanced props, written by the instancing thread.
+	 */
+	private volatile int instanced = 0;
+	
+	/**
+	 * Ctor.
+	 * Starts the level parse at once.
+	 * @param filename Level filename to load.
+	 */
+	public PropLoader(String filename) {
+		this(filename, false);
+	}
+	
+	/**
+	 * Ctor.
+	 * Starts the level parse at once.
+	 * @param filename Level filename to load.
+	 * @param streaming Leave the streamed props not instanced.
+	 */
+	public PropLoader(String filename, boolean streaming) {
+		this(filename, streaming, false);
+	}
+	
+	/**
+	 * Ctor.
+	 * Starts the level parse at once.
+	 * @param filename Level filename to load.
+	 * @param streaming Leave the streamed props not instanced.
+	 * @param manifest Gather the assets manifest by the parse and queue
+	 *        its assets.
+	 */
+	public PropLoader(String filename, boolean streaming, boolean manifest) {
+		this(filename, streaming, manifest, () -> parse(filename, manifest));
+	}
+	
+	/**
+	 * Ctor.
+	 * Starts the compiled level read at once.
+	 * @see LevelCompiler#current(java.lang.String) 
+	 * @param compiled Header of the compiled level.
+	 * @param streaming Leave the streamed props not instanced.
+	 */
+	public PropLoader(CompiledLevel compiled, boolean streaming) {
+		this(compiled.file.path(), streaming, false, () -> CompiledLevel.read(compiled.file, true));
+	}
+	
+	/**
+	 * Ctor.
+	 * Parse along the assets loading.
+	 * @param filename Level filename to load.
+	 * @param streaming Leave the streamed props not instanced.
+	 * @param manifest Queue the assets of the parsed level manifest.
+	 * @param task Parse of the level.
+	 */
+	private PropLoader(String filename, boolean streaming, boolean manifest, Callable<CompiledLevel> task) {
+		this.filename = filename;
+		this.streaming = streaming;
+		this.queueing = manifest;
+		this.parsing = new FutureTask<>(task);
+		this.start(parsing, "level ");
+	}
+	
+	/**
+	 * Loader of the outdated level.
+	 * The level is compiled by the background thread, off the game thread,
+	 * the source level is parsed when the compile fails.
+	 * @see LevelCompiler#compile(java.lang.String) 
+	 * @param filename Level filename to load.
+	 * @param streaming Leave the streamed props not instanced.
+	 * @param manifest Queue the assets of the compiled level, or of
+	 *        the manifest gathered by the parse.
+	 * @return Level loader.
+	 */
+	static public PropLoader compile(String filename, boolean streaming, boolean manifest) {
+		return new PropLoader(filename, streaming, manifest, () -> {
+			CompiledLevel compiled = LevelCompiler.compile(filename);
+			return compiled != null ? compiled : parse(filename, manifest);
+		});
+	}
+	
+	/**
+	 * Parse the source level.
+	 * @param filename Level filename to load.
+	 * @param manifest Gather the assets manifest.
+	 * @return Parsed level, with no geometry and chunks index.
+	 * <b>NULL</b> on fail.
+	 */
+	static private CompiledLevel parse(String filename, boolean manifest) {
+		PropHolder holder = PropHolder.load(filename);
+		if(holder == null) {
+			return null;
+		}
+		
+		CompiledLevel parsed = new CompiledLevel();
+		if(manifest) {
+			parsed.manifest = AssetManifest.of(holder);
+		}
+		holder.sort();
+		parsed.props = holder;
+		return parsed;
+	}
+	
+	/**
+	 * Run the task by the background thread.
+	 * @param task Task to run.
+	 * @param name Thread name prefix.
+	 */
+	private void start(Runnable task, String name) {
+		Thread thread = new Thread(task, name + filename);
+		thread.setDaemon(true);
+		thread.start();
+	}
+	
+	/**
+	 * Start the instancing, once the level is parsed.
+	 * Performed when the assets of the props are loaded, the assets of
+	 * the gathered manifest are loaded here first.
+	 * @return <b>TRUE</b> when all the props are instanced.
+	 */
+	public boolean update() {
+		// wait for the parse
+		if(props == null) {
+			if(!parsing.isDone()) {
+				return false;
+			}
+			this.parsed();
+		}
+		
+		// the manifest gathered or compiled by the background thread
+		if(queueing) {
+			level.manifest.load();
+			queueing = false;
+		}
+		if(instancing == null && !Game.assets.update()) {
+			return false;
+		}
+		
+		if(instancing == null) {
+			instancing = new FutureTask<>(this::instance, null);
+			this.start(instancing, "props ");
+		}
+		return instancing.isDone();
+	}
+	
+	/**
+	 * Wait for the parse and the instancing.
+	 * Instanced by the calling thread, when not started yet.
+	 */
+	public void finish() {
+		if(props == null) {
+			this.parsed();
+		}
+		
+		if(instancing == null) {
+			instancing = new FutureTask<>(this::instance, null);
+			instancing.run();
+		}
+		
+		try {
+			instancing.get();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			Logger.getLogger(PropLoader.class.getName()).log(Level.SEVERE, null, ex);
+		} catch (ExecutionException ex) {
+			Logger.getLogger(PropLoader.class.getName()).log(Level.SEVERE, null, ex);
+		}
+	}
+	
+	/**
+	 * Instance the props, in the ID order.
+	 * Streamed props are left to the chunks, when streaming.
+	 */
+	private void instance() {
+		for(int i = 0; i < props.size; i++) {
+			PropSerialized prop = props.get(i);
+			if(!streaming || !prop.isStreamed()) {
+				actors[i] = prop.instance();
+			}
+			instanced = i + 1;
+		}
+	}
+	
+	/**
+	 * Progress of the instancing.
+	 * @return Progress from 0 to 1.
+	 */
+	public float getProgress() {
+		if(props == null) {
+			return 0.f;
+		}
+		return props.size == 0 ? 1.f : (float)instanced / props.size;
+	}
+	
+	/**
+	 * Count of the parsed props.
+	 * @return Props count, <b>0</b> until parsed.
+	 */
+	public int size() {
+		return props == null ? 0 : props.size;
+	}
+	
+	/**
+	 * Parsed prop.
+	 * @param index Index of the prop, in the ID order.
+	 * @return Serialized prop.
+	 */
+	public PropSerialized getProp(int index) {
+		return props.get(index);
+	}
+	
+	/**
+	 * Parsed level, with the static geometry and the chunks index
+	 * when compiled.
+	 * @return Level, <b>NULL</b> until parsed.
+	 */
+	public CompiledLevel getLevel() {
+		return level;
+	}
+	
+	/**
+	 * Instanced actor of the prop.
+	 * @param index Index of the prop, in the ID order.
+	 * @return Actor, or <b>NULL</b> when not instanced.
+	 */
+	public PropActor getActor(int index) {
+		return actors[index];
+	}
+	
+	/**
+	 * Take the parsed props, waiting for the parse if needed.
+	 * Broken or missing level gives no props.
+	 */
+	private void parsed() {
+		try {
+			level = parsing.get();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			Logger.getLogger(PropLoader.class.getName()).log(Level.SEVERE, null, ex);
+		} catch (ExecutionException ex) {
+			Logger.getLogger(PropLoader.class.getName()).log(Level.SEVERE, null, ex);
+		}
+		
+		if(level == null) {
+			level = new CompiledLevel();
+		}
+		props = level.props.props;
+		actors = new PropActor[props.size];
+	}
+}
@@ -0,0 +1,242 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.editor;
+
+import com.badlogic.gdx.utils.Array;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandleProxies;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import vault.clockwork.editor.props.GameProps;
+
+/**
+ * Registry of the props and their factories.
+ * Props are registered by the providers found by the ServiceLoader.
+ * Actor constructors are resolved once per actor class into the factories,
+ * so the instancing involves no reflection.
+ * @see PropProvider
+ * @author Konrad Nowakowski https://github.com/konrad92
+ */
+public class PropRegistry {
+	/**
+	 * Props listed by the editor, in the registration order.
+	 * Guarded by the registry lock.
+	 */
+	static private final Array<Class<? extends PropSerialized>> listed = new Array<>();
+	
+	/**
+	 * All registered props, in the registration order.
+	 * Unknown classes read by the loader threads are appended under the
+	 * registry lock.
+	 */
+	static private final Array<Class<? extends PropSerialized>> registered = new Array<>();
+	
+	/**
+	 * Factories of the props, by the class names.
+	 * Read by the loader threads, with no lock.
+	 */
+	static private final ConcurrentHashMap<String, Supplier<? extends PropSerialized>> props
+		= new ConcurrentHashMap<>();
+	
+	/**
+	 * Factories of the actors, by the actor classes.
+	 * Resolved on the first instance, from any thread.
+	 */
+	static private final ConcurrentHashMap<Class<? extends PropActor>, Function<PropSerialized, PropActor>> actors
+		= new ConcurrentHashMap<>();
+	
+	/**
+	 * Factory of the actors with no prop constructor.
+	 */
+	static private final Function<PropSerialized, PropActor> MISSING = prop -> null;
+	
+	/**
+	 * Lookup of the constructors.
+	 */
+	static private final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+	
+	/**
+	 * Register the props of the providers.
+	 */
+	static {
+		for(PropProvider provider : ServiceLoader.load(PropProvider.class)) {
+			provider.register();
+		}
+		
+		// services resource not on the classpath
+		if(props.isEmpty()) {
+			new GameProps().register();
+		}
+	}
+	
+	/**
+	 * Register the prop listed by the editor.
+	 * @param <T> Prop type.
+	 * @param type Prop class.
+	 * @param factory Prop factory.
+	 */
+	static public <T extends PropSerialized> void register(Class<T> type, Supplier<T> factory) {
+		register(type, factory, true);
+	}
+	
+	/**
+	 * Register the prop.
+	 * Performed at the startup, and by the loader threads for the classes
+	 * not registered, so the lists are appended under the lock.
+	 * @param <T> Prop type.
+	 * @param type Prop class.
+	 * @param factory Prop factory.
+	 * @param editable Prop listed by the editor.
+	 */
+	static public synchronized <T extends PropSerialized> void register(Class<T> type, Supplier<T> factory, boolean editable) {
+		if(props.put(type.getName(), factory) == null) {
+			registered.add(type);
+			if(editable) {
+				listed.add(type);
+			}
+		}
+	}
+	
+	/**
+	 * Props listed by the editor.
+	 * @return Copy of the list, taken under the lock.
+	 */
+	static public synchronized Array<Class<? extends PropSerialized>> getListed() {
+		return new Array<>(listed);
+	}
+	
+	/**
+	 * All registered props.
+	 * @return Copy of the list, taken under the lock.
+	 */
+	static public synchronized Array<Class<? extends PropSerialized>> getRegistered() {
+		return new Array<>(registered);
+	}
+	
+	/**
+	 * Create the new prop.
+	 * @param <T> Prop type.
+	 * @param type Prop class.
+	 * @return New prop, or <b>NULL</b> when the class is unknown.
+	 */
+	static public <T extends PropSerialized> T newProp(Class<T> type) {
+		return type.cast(newProp(type.getName()));
+	}
+	
+	/**
+	 * Create the new prop by the class name.
+	 * Not registered classes are resolved once, by the no-args constructor.
+	 * @param type Class name of the prop.
+	 * @return New prop, or <b>NULL</b> when the class is unknown.
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	static public PropSerialized newProp(String type) {
+		Supplier<? extends PropSerialized> factory = props.get(type);
+		if(factory == null) {
+			try {
+				Class<? extends PropSerialized> propClass = Class.forName(type).asSubclass(PropSerialized.class);
+				factory = lambda(Supplier.class, "get", MethodType.methodType(Object.class),
+					LOOKUP.findConstructor(propClass, MethodType.methodType(void.class)),
+					MethodType.methodType(propClass));
+				register(propClass, (Supplier)factory, false);
+			} catch (ReflectiveOperationException | ClassCastException ex) {
+				Logger.getLogger(PropRegistry.class.getName()).log(Level.WARNING, "Unknown prop: " + type, ex);
+				return null;
+			}
+		}
+		return factory.get();
+	}
+	
+	/**
+	 * Instance the actor of the prop.
+	 * @param prop Serialized prop.
+	 * @return New actor, or <b>NULL</b> when the actor is not created.
+	 */
+	static public PropActor instance(PropSerialized prop) {
+		Function<PropSerialized, PropActor> factory = actors.computeIfAbsent(
+			prop.getActorClass(), PropRegistry::resolve
+		);
+		
+		try {
+			return factory.apply(prop);
+		} catch (RuntimeException ex) {
+			Logger.getLogger(PropRegistry.class.getName()).log(Level.SEVERE, null, ex);
+			return null;
+		}
+	}
+	
+	/**
+	 * Resolve the actor factory, by its prop constructor.
+	 * @param actorClass Actor class.
+	 * @return Actor factory.
+	 */
+	static private Function<PropSerialized, PropActor> resolve(Class<? extends PropActor> actorClass) {
+		try {
+			MethodHandle ctor = LOOKUP.findConstructor(actorClass,
+				MethodType.methodType(void.class, PropSerialized.class));
+			return lambda(Function.class, "apply", MethodType.methodType(Object.class, Object.class),
+				ctor, MethodType.methodType(actorClass, PropSerialized.class));
+		} catch (ReflectiveOperationException ex) {
+			Logger.getLogger(PropRegistry.class.getName()).log(Level.SEVERE, null, ex);
+			return MISSING;
+		}
+	}
+	
+	/**
+	 * Spin the lambda of the method handle.
+	 * Falls back to the bound handle, when the lambda is not allowed.
+	 * @param <T> Functional interface type.
+	 * @param type Functional interface.
+	 * @param method Name of the interface method.
+	 * @param erased Erased type of the interface method.
+	 * @param target Method handle to call.
+	 * @param instantiated Type enforced by the lambda.
+	 * @return Lambda instance.
+	 * @throws ReflectiveOperationException On resolving fails.
+	 */
+	@SuppressWarnings("unchecked")
+	static private <T> T lambda(Class<T> type, String method, MethodType erased,
+			MethodHandle target, MethodType instantiated) throws ReflectiveOperationException {
+		try {
+			CallSite site = LambdaMetafactory.metafactory(LOOKUP, method,
+				MethodType.methodType(type), erased, target, instantiated);
+			return (T)site.getTarget().invoke();
+		} catch (ReflectiveOperationException ex) {
+			throw ex;
+		} catch (Throwable ex) {
+			Logger.getLogger(PropRegistry.class.getName()).log(Level.FINE, null, ex);
+		}
+		
+		// not accessible for the lambda, eg. the nested classes
+		return MethodHandleProxies.asInterfaceInstance(type, target);
+	}
+}
@@ -25,9 +25,6 @@ package vault.clockwork.editor;
 
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Vector2;
-import java.lang.reflect.InvocationTargetException;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 /**
  * Editor base property.
@@ -50,6 +47,14 @@ public abstract class PropSerialized {
 	 */
 	public Vector2 position = new Vector2();
 	
+	/**
+	 * Collision of the prop is baked into the level static geometry,
+	 * so the actor is created with no physics body.
+	 * Assigned by the compiled level load, never serialized.
+	 * @see #bake(vault.clockwork.editor.StaticGeometry) 
+	 */
+	transient public boolean baked = false;
+	
 	/**
 	 * Draw-up the collision or bounding shape etc.
 	 * @param gizmo
@@ -62,28 +67,71 @@ public abstract class PropSerialized {
 	 */
 	public abstract Class<? extends PropActor> getActorClass();
 	
+	/**
+	 * Prop actor is streamed along the camera.
+	 * Streamed actors are created when their level chunk comes near
+	 * the camera, and removed when it goes away, so they should keep
+	 * no state and not be referenced by the other actors.
+	 * Props with the static collision are streamed only when baked, as
+	 * their bodies would go with the chunk, and the dynamic bodies
+	 * resting on them fall through.
+	 * @see vault.clockwork.controllers.ChunkController
+	 * @return <b>TRUE</b> when the actor may be streamed.
+	 */
+	public boolean isStreamed() {
+		return false;
+	}
+	
+	/**
+	 * Bake the static collision of the prop actor.
+	 * Shapes are added in the world space, the same as the actor body
+	 * would create, only by the actors supporting the baked props.
+	 * @param geometry Static geometry of the level.
+	 * @return <b>TRUE</b> when the collision is baked.
+	 */
+	public boolean bake(StaticGeometry geometry) {
+		return false;
+	}
+	
+	/**
+	 * Declare the assets used by the prop actor.
+	 * Gathered into the level manifest, so the stage loads only the
+	 * assets of its props.
+	 * @param manifest Manifest of the level.
+	 */
+	public void dependencies(AssetManifest manifest) {
+		// dummy method
+	}
+	
+	/**
+	 * Write the prop fields to the binary level record.
+	 * Props write their own fields after the super call.
+	 * @param out Record of the prop.
+	 */
+	public void write(LevelFile.Output out) {
+		out.putInt(id);
+		out.putInt(layer);
+		out.putFloat(position.x);
+		out.putFloat(position.y);
+	}
+	
+	/**
+	 * Read the prop fields from the binary level record.
+	 * Fields in the order of the write.
+	 * @param in Record of the prop.
+	 */
+	public void read(LevelFile.Input in) {
+		id = in.getInt();
+		layer = in.getInt();
+		position.set(in.getFloat(), in.getFloat());
+	}
+	
 	/**
 	 * Instance the prop actor.
-	 * @return 
+	 * @see PropRegistry#instance(vault.clockwork.editor.PropSerialized) 
+	 * @return New actor, or <b>NULL</b> when the actor is not created.
 	 */
 	public PropActor instance() {
-		try {
-			// create the new instance
-			return getActorClass().getConstructor(PropSerialized.class).newInstance(this);
-		} catch (InstantiationException ex) {
-			Logger.getLogger(PropSerialized.class.getName()).log(Level.SEVERE, null, ex);
-		} catch (IllegalAccessException ex) {
-			Logger.getLogger(PropSerialized.class.getName()).log(Level.SEVERE, null, ex);
-		} catch (IllegalArgumentException ex) {
-			Logger.getLogger(PropSerialized.class.getName()).log(Level.SEVERE, null, ex);
-		} catch (InvocationTargetException ex) {
-			Logger.getLogger(PropSerialized.class.getName()).log(Level.SEVERE, null, ex);
-		} catch (NoSuchMethodException ex) {
-			Logger.getLogger(PropSerialized.class.getName()).log(Level.SEVERE, null, ex);
-		} catch (SecurityException ex) {
-			Logger.getLogger(PropSerialized.class.getName()).log(Level.SEVERE, null, ex);
-		}
-		
-		return null;
+		return PropRegistry.instance(this);
 	}
 }
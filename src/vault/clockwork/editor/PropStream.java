@@ -0,0 +1,450 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.editor;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.SerializationException;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * Streaming reader and writer of the JSON levels.
+ * Props are parsed one at a time from the buffered channel and handed to
+ * the consumer, so the document of the whole level is never built.
+ * Memory used by the stream is bounded by the largest prop, not the level.
+ * @see PropHolder#stream(com.badlogic.gdx.files.FileHandle, java.util.function.Consumer) 
+ * @author Konrad Nowakowski https://github.com/konrad92
+ */
+public class PropStream {
+	/**
+	 * Size of the stream buffers, in characters.
+	 */
+	static public final int BUFFER_SIZE = 8192;
+	
+	/**
+	 * Name of the props field.
+	 */
+	static public final String PROPS = "props";
+	
+	/**
+	 * Stream of the level characters.
+	 */
+	private final Reader reader;
+	
+	/**
+	 * Characters read from the stream.
+	 */
+	private final char[] buffer = new char[BUFFER_SIZE];
+	private int position = 0, limit = 0;
+	
+	/**
+	 * Value scanned from the stream, grown to the largest value.
+	 */
+	private char[] value = new char[512];
+	private int length = 0;
+	
+	/**
+	 * Parser of the scanned props.
+	 */
+	private final JsonReader parser = new JsonReader();
+	
+	/**
+	 * Ctor.
+	 * @param reader Stream of the level characters.
+	 */
+	private PropStream(Reader reader) {
+		this.reader = reader;
+	}
+	
+	/**
+	 * Read the props of the level.
+	 * @param file Level to read.
+	 * @param json Json decoder of the props.
+	 * @param consumer Consumer of the props, in the file order.
+	 * @return Count of the read props.
+	 * @throws IOException On read fails, or malformed level.
+	 */
+	static public int read(FileHandle file, Json json, Consumer<? super PropSerialized> consumer) throws IOException {
+		// packed files are read by the stream
+		ReadableByteChannel channel = file.file().exists()
+			? FileChannel.open(file.file().toPath(), StandardOpenOption.READ)
+			: Channels.newChannel(file.read());
+		
+		try(Reader reader = Channels.newReader(channel, StandardCharsets.UTF_8.newDecoder(), BUFFER_SIZE)) {
+			return new PropStream(reader).read(json, consumer);
+		} catch (SerializationException ex) {
+			throw new IOException("Malformed level: " + file.path(), ex);
+		}
+	}
+	
+	/**
+	 * Write the props of the level.
+	 * Props are pretty printed one by one, in the layout of the Json#prettyPrint.
+	 * @param props Props to write.
+	 * @param file Level to write.
+	 * @param json Json coder of the props.
+	 * @return Count of the written props.
+	 * @throws IOException On write fails.
+	 */
+	static public int write(Iterable<? extends PropSerialized> props, FileHandle file, Json json) throws IOException {
+		file.parent().mkdirs();
+		FileChannel channel = FileChannel.open(file.file().toPath(),
+			StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+		
+		int count = 0;
+		try(Writer writer = Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), BUFFER_SIZE)) {
+			StringWriter prop = new StringWriter(512);
+			writer.write("{\n" + PROPS + ": [");
+			for(PropSerialized serialized : props) {
+				prop.getBuffer().setLength(0);
+				json.toJson(serialized, PropSerialized.class, prop);
+				
+				writer.write(count++ > 0 ? ",\n\t" : "\n\t");
+				indent(prop.getBuffer(), writer, 1);
+			}
+			writer.write(count > 0 ? "\n]\n}" : "]\n}");
+		}
+		return count;
+	}
+	
+	/**
+	 * Pretty print the compact JSON value.
+	 * @param value Compact JSON value.
+	 * @param writer Writer of the printed value.
+	 * @param depth Indentation of the value.
+	 * @throws IOException On write fails.
+	 */
+	static private void indent(CharSequence value, Writer writer, int depth) throws IOException {
+		boolean quoted = false;
+		for(int i = 0, length = value.length(); i < length; i++) {
+			char c = value.charAt(i);
+			if(quoted) {
+				writer.write(c);
+				if(c == '\\') {
+					writer.write(value.charAt(++i));
+				} else if(c == '"') {
+					quoted = false;
+				}
+				continue;
+			}
+			
+			switch(c) {
+				case '"':
+					quoted = true;
+					writer.write(c);
+					break;
+				case ':':
+					writer.write(": ");
+					break;
+				case ',':
+					writer.write(c);
+					newline(writer, depth);
+					break;
+				case '{':
+				case '[':
+					writer.write(c);
+					if(i + 1 < length && isClosing(value.charAt(i + 1))) {
+						// empty values stay in the line
+						writer.write(value.charAt(++i));
+					} else {
+						newline(writer, ++depth);
+					}
+					break;
+				case '.':
+					// whole numbers without the fraction, as the Json#prettyPrint
+					if(i > 0 && Character.isDigit(value.charAt(i - 1))
+							&& i + 1 < length && value.charAt(i + 1) == '0'
+							&& (i + 2 == length || value.charAt(i + 2) == ',' || isClosing(value.charAt(i + 2)))) {
+						i++;
+						break;
+					}
+				default:
+					writer.write(c);
+			}
+			
+			// closing goes to the own line
+			if(!quoted && i + 1 < length && isClosing(value.charAt(i + 1))) {
+				newline(writer, --depth);
+				writer.write(value.charAt(++i));
+				
+				// consecutive closings
+				while(i + 1 < length && isClosing(value.charAt(i + 1))) {
+					newline(writer, --depth);
+					writer.write(value.charAt(++i));
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Character closes the object or the array.
+	 * @param c Character to check.
+	 * @return <b>TRUE</b> for the closing bracket.
+	 */
+	static private boolean isClosing(char c) {
+		return c == '}' || c == ']';
+	}
+	
+	/**
+	 * Write the new line.
+	 * @param writer Writer of the line.
+	 * @param depth Indentation of the line.
+	 * @throws IOException On write fails.
+	 */
+	static private void newline(Writer writer, int depth) throws IOException {
+		writer.write('\n');
+		for(int i = 0; i < depth; i++) {
+			writer.write('\t');
+		}
+	}
+	
+	/**
+	 * Read the level object.
+	 * Fields other than the props are skipped.
+	 * @param json Json decoder of the props.
+	 * @param consumer Consumer of the props.
+	 * @return Count of the read props.
+	 * @throws IOException On read fails, or malformed level.
+	 */
+	private int read(Json json, Consumer<? super PropSerialized> consumer) throws IOException {
+		if(skip() != '{') {
+			throw new IOException("Malformed level, object expected");
+		}
+		
+		int count = 0;
+		for(int c = skip(); c != '}'; c = skip()) {
+			if(c == ',') {
+				continue;
+			}
+			
+			// field name
+			scan(c);
+			String name = length > 1 && value[0] == '"'
+				? new String(value, 1, length - 2)
+				: new String(value, 0, length);
+			if(skip() != ':') {
+				throw new IOException("Malformed level, field expected");
+			}
+			
+			c = skip();
+			if(c == '[' && name.equals(PROPS)) {
+				count += readProps(json, consumer);
+			} else {
+				scan(c);
+			}
+		}
+		return count;
+	}
+	
+	/**
+	 * Read the props array.
+	 * @param json Json decoder of the props.
+	 * @param consumer Consumer of the props.
+	 * @return Count of the read props.
+	 * @throws IOException On read fails, or malformed level.
+	 */
+	private int readProps(Json json, Consumer<? super PropSerialized> consumer) throws IOException {
+		int count = 0;
+		for(int c = skip(); c != ']'; c = skip()) {
+			if(c == ',') {
+				continue;
+			}
+			
+			scan(c);
+			if(c != '{') {
+				// not a prop
+				continue;
+			}
+			
+			JsonValue data = parser.parse(value, 0, length);
+			PropSerialized prop = json.readValue(PropSerialized.class, null, data);
+			if(prop != null) {
+				consumer.accept(prop);
+				count++;
+			}
+		}
+		return count;
+	}
+	
+	/**
+	 * Scan the value into the value buffer.
+	 * @param c First character of the value.
+	 * @throws IOException On read fails, or malformed level.
+	 */
+	private void scan(int c) throws IOException {
+		length = 0;
+		store(c);
+		
+		switch(c) {
+			case '"':
+				quoted();
+				return;
+			case '{':
+			case '[':
+				for(int depth = 1; depth > 0; ) {
+					c = next();
+					switch(c) {
+						case -1:
+							throw new EOFException("Unexpected end of the level");
+						case '/':
+							comment();
+							continue;
+						case '"':
+							store(c);
+							quoted();
+							continue;
+						case '{':
+						case '[':
+							depth++;
+							break;
+						case '}':
+						case ']':
+							depth--;
+							break;
+					}
+					store(c);
+				}
+				return;
+			case -1:
+			case '}':
+			case ']':
+			case ':':
+			case ',':
+				throw new IOException("Malformed level, value expected");
+		}
+		
+		// unquoted value, up to the delimiter
+		for(c = next(); c >= 0; c = next()) {
+			if(c == ',' || c == ':' || c == '}' || c == ']' || c == '/' || Character.isWhitespace(c)) {
+				position--;
+				return;
+			}
+			store(c);
+		}
+	}
+	
+	/**
+	 * Scan the rest of the quoted string, with the closing quote.
+	 * @throws IOException On read fails, or malformed level.
+	 */
+	private void quoted() throws IOException {
+		for(int c = next(); ; c = next()) {
+			if(c < 0) {
+				throw new EOFException("Unexpected end of the level");
+			}
+			store(c);
+			
+			if(c == '\\') {
+				store(next());
+			} else if(c == '"') {
+				return;
+			}
+		}
+	}
+	
+	/**
+	 * Store the character in the value buffer.
+	 * @param c Character to store.
+	 * @throws IOException On the end of the stream.
+	 */
+	private void store(int c) throws IOException {
+		if(c < 0) {
+			throw new EOFException("Unexpected end of the level");
+		}
+		if(length == value.length) {
+			char[] grown = new char[value.length * 2];
+			java.lang.System.arraycopy(value, 0, grown, 0, length);
+			value = grown;
+		}
+		value[length++] = (char)c;
+	}
+	
+	/**
+	 * Skip the whitespaces and the comments.
+	 * @return Next meaningful character, or <b>-1</b> on the end of the stream.
+	 * @throws IOException On read fails, or malformed level.
+	 */
+	private int skip() throws IOException {
+		for(int c = next(); ; c = next()) {
+			if(c == '/') {
+				comment();
+			} else if(c < 0 || !Character.isWhitespace(c)) {
+				return c;
+			}
+		}
+	}
+	
+	/**
+	 * Skip the rest of the comment, after its slash.
+	 * @throws IOException On read fails, or malformed level.
+	 */
+	private void comment() throws IOException {
+		int c = next();
+		if(c == '/') {
+			do {
+				c = next();
+			} while(c >= 0 && c != '\n');
+		} else if(c == '*') {
+			for(int last = 0; ; last = c) {
+				c = next();
+				if(c < 0) {
+					throw new EOFException("Unexpected end of the level");
+				} else if(last == '*' && c == '/') {
+					return;
+				}
+			}
+		} else {
+			throw new IOException("Malformed level, comment expected");
+		}
+	}
+	
+	/**
+	 * Read the next character.
+	 * @return Next character, or <b>-1</b> on the end of the stream.
+	 * @throws IOException On read fails.
+	 */
+	private int next() throws IOException {
+		if(position == limit) {
+			limit = reader.read(buffer, 0, buffer.length);
+			position = 0;
+			if(limit <= 0) {
+				limit = 0;
+				return -1;
+			}
+		}
+		return buffer[position++];
+	}
+}
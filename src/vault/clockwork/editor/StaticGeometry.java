@@ -0,0 +1,152 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.editor;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Static collision geometry of the level.
+ * Baked by the props at the level compile, in the world space pixels,
+ * and created at once on the single static body.
+ * @see PropSerialized#bake(vault.clockwork.editor.StaticGeometry) 
+ * @author Konrad Nowakowski https://github.com/konrad92
+ */
+public class StaticGeometry {
+	/**
+	 * Vertices limit of the polygon, as of the Box2D.
+	 */
+	static public final int MAX_VERTICES = 8;
+	
+	/**
+	 * Default friction of the Box2D fixtures.
+	 */
+	static public final float FRICTION = .2f;
+	
+	/**
+	 * Convex polygon of the geometry.
+	 */
+	static public class Shape {
+		/**
+		 * Index of the prop baking the shape, in the level order.
+		 */
+		public int owner;
+		
+		/**
+		 * Material of the fixture.
+		 */
+		public float friction, restitution;
+		
+		/**
+		 * Vertices, as the x, y pairs.
+		 */
+		public float[] vertices;
+	}
+	
+	/**
+	 * Baked shapes.
+	 */
+	public final Array<Shape> shapes = new Array<>();
+	
+	/**
+	 * Index of the prop baking now, assigned by the compiler.
+	 */
+	public int owner = -1;
+	
+	/**
+	 * Add the convex polygon.
+	 * @param friction Friction of the fixture.
+	 * @param restitution Restitution of the fixture.
+	 * @param vertices Vertices in the world space, as the x, y pairs.
+	 * @return Chaining geometry.
+	 */
+	public StaticGeometry polygon(float friction, float restitution, float... vertices) {
+		if(vertices.length < 6 || vertices.length > MAX_VERTICES * 2 || vertices.length % 2 != 0) {
+			throw new IllegalArgumentException("Polygon needs 3 to " + MAX_VERTICES + " vertices");
+		}
+		
+		Shape shape = new Shape();
+		shape.owner = owner;
+		shape.friction = friction;
+		shape.restitution = restitution;
+		shape.vertices = vertices;
+		shapes.add(shape);
+		return this;
+	}
+	
+	/**
+	 * Add the convex polygon of the prop, with the default material.
+	 * @param position Position of the prop, in the world space.
+	 * @param shape Vertices relative to the position, as the x, y pairs.
+	 * @return Chaining geometry.
+	 */
+	public StaticGeometry polygon(Vector2 position, float[] shape) {
+		float[] vertices = new float[shape.length];
+		for(int i = 0; i < vertices.length; i += 2) {
+			vertices[i] = position.x + shape[i];
+			vertices[i+1] = position.y + shape[i+1];
+		}
+		return polygon(FRICTION, 0.f, vertices);
+	}
+	
+	/**
+	 * Add the rotated box.
+	 * @param x Center of the box.
+	 * @param y Center of the box.
+	 * @param halfWidth Half of the box width.
+	 * @param halfHeight Half of the box height.
+	 * @param angle Rotation in degrees.
+	 * @param friction Friction of the fixture.
+	 * @param restitution Restitution of the fixture.
+	 * @return Chaining geometry.
+	 */
+	public StaticGeometry box(float x, float y, float halfWidth, float halfHeight, float angle,
+			float friction, float restitution) {
+		float cos = MathUtils.cosDeg(angle),
+			sin = MathUtils.sinDeg(angle);
+		
+		// corners counter-clockwise, as the PolygonShape#setAsBox
+		float[] vertices = new float[] {
+			-halfWidth, -halfHeight,
+			halfWidth, -halfHeight,
+			halfWidth, halfHeight,
+			-halfWidth, halfHeight
+		};
+		for(int i = 0; i < vertices.length; i += 2) {
+			float vx = vertices[i], vy = vertices[i+1];
+			vertices[i] = x + vx * cos - vy * sin;
+			vertices[i+1] = y + vx * sin + vy * cos;
+		}
+		return polygon(friction, restitution, vertices);
+	}
+	
+	/**
+	 * Count of the baked shapes.
+	 * @return Shapes count.
+	 */
+	public int size() {
+		return shapes.size;
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.editor.codecs;
+
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonValue;
+import vault.clockwork.editor.PropCodec;
+import vault.clockwork.editor.props.BackgroundProp;
+
+/**
+ * JSON codec of the BackgroundProp.
+ * Generated by the PropCodecGenerator, do not edit.
+ */
+public class BackgroundPropCodec extends PropCodec<BackgroundProp> {
+	/**
+	 * Ctor.
+	 */
+	public BackgroundPropCodec() {
+		super(BackgroundProp.class, "id:int,layer:int,position:Vector2,background:String,offset_x:float,offset_y:float,parallax_x:float,parallax_y:float,scaled:float,zoomed:float");
+	}
+	
+	/**
+	 * @see Json.Serializer#write(com.badlogic.gdx.utils.Json, java.lang.Object, java.lang.Class) 
+	 */
+	@Override
+	public void write(Json json, BackgroundProp prop, Class knownType) {
+		json.writeObjectStart(BackgroundProp.class, knownType);
+		json.writeValue("id", prop.id);
+		json.writeValue("layer", prop.layer);
+		writeVector(json, "position", prop.position);
+		json.writeValue("background", prop.background);
+		json.writeValue("offset_x", prop.offset_x);
+		json.writeValue("offset_y", prop.offset_y);
+		json.writeValue("parallax_x", prop.parallax_x);
+		json.writeValue("parallax_y", prop.parallax_y);
+		json.writeValue("scaled", prop.scaled);
+		json.writeValue("zoomed", prop.zoomed);
+		json.writeObjectEnd();
+	}
+	
+	/**
+	 * @see Json.Serializer#read(com.badlogic.gdx.utils.Json, com.badlogic.gdx.utils.JsonValue, java.lang.Class) 
+	 */
+	@Override
+	public BackgroundProp read(Json json, JsonValue data, Class type) {
+		BackgroundProp prop = new BackgroundProp();
+		prop.id = data.getInt("id", prop.id);
+		prop.layer = data.getInt("layer", prop.layer);
+		prop.position = readVector(data, "position", prop.position);
+		prop.background = readString(data, "background", prop.background);
+		prop.offset_x = data.getFloat("offset_x", prop.offset_x);
+		prop.offset_y = data.getFloat("offset_y", prop.offset_y);
+		prop.parallax_x = data.getFloat("parallax_x", prop.parallax_x);
+		prop.parallax_y = data.getFloat("parallax_y", prop.parallax_y);
+		prop.scaled = data.getFloat("scaled", prop.scaled);
+		prop.zoomed = data.getFloat("zoomed", prop.zoomed);
+		return prop;
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.editor.codecs;
+
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonValue;
+import vault.clockwork.editor.PropCodec;
+import vault.clockwork.editor.props.DecorationProp;
+
+/**
+ * JSON codec of the DecorationProp.
+ * Generated by the PropCodecGenerator, do not edit.
+ */
+public class DecorationPropCodec extends PropCodec<DecorationProp> {
+	/**
+	 * Ctor.
+	 */
+	public DecorationPropCodec() {
+		super(DecorationProp.class, "id:int,layer:int,position:Vector2,image:String,scale:float,angle:float");
+	}
+	
+	/**
+	 * @see Json.Serializer#write(com.badlogic.gdx.utils.Json, java.lang.Object, java.lang.Class) 
+	 */
+	@Override
+	public void write(Json json, DecorationProp prop, Class knownType) {
+		json.writeObjectStart(DecorationProp.class, knownType);
+		json.writeValue("id", prop.id);
+		json.writeValue("layer", prop.layer);
+		writeVector(json, "position", prop.position);
+		json.writeValue("image", prop.image);
+		json.writeValue("scale", prop.scale);
+		json.writeValue("angle", prop.angle);
+		json.writeObjectEnd();
+	}
+	
+	/**
+	 * @see Json.Serializer#read(com.badlogic.gdx.utils.Json, com.badlogic.gdx.utils.JsonValue, java.lang.Class) 
+	 */
+	@Override
+	public DecorationProp read(Json json, JsonValue data, Class type) {
+		DecorationProp prop = new DecorationProp();
+		prop.id = data.getInt("id", prop.id);
+		prop.layer = data.getInt("layer", prop.layer);
+		prop.position = readVector(data, "position", prop.position);
+		prop.image = readString(data, "image", prop.image);
+		prop.scale = data.getFloat("scale", prop.scale);
+		prop.angle = data.getFloat("angle", prop.angle);
+		return prop;
+	}
+}
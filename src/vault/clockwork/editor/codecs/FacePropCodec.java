@@ -0,0 +1,66 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.editor.codecs;
+
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonValue;
+import vault.clockwork.editor.PropCodec;
+import vault.clockwork.editor.props.FaceProp;
+
+/**
+ * JSON codec of the FaceProp.
+ * Generated by the PropCodecGenerator, do not edit.
+ */
+public class FacePropCodec extends PropCodec<FaceProp> {
+	/**
+	 * Ctor.
+	 */
+	public FacePropCodec() {
+		super(FaceProp.class, "id:int,layer:int,position:Vector2");
+	}
+	
+	/**
+	 * @see Json.Serializer#write(com.badlogic.gdx.utils.Json, java.lang.Object, java.lang.Class) 
+	 */
+	@Override
+	public void write(Json json, FaceProp prop, Class knownType) {
+		json.writeObjectStart(FaceProp.class, knownType);
+		json.writeValue("id", prop.id);
+		json.writeValue("layer", prop.layer);
+		writeVector(json, "position", prop.position);
+		json.writeObjectEnd();
+	}
+	
+	/**
+	 * @see Json.Serializer#read(com.badlogic.gdx.utils.Json, com.badlogic.gdx.utils.JsonValue, java.lang.Class) 
+	 */
+	@Override
+	public FaceProp read(Json json, JsonValue data, Class type) {
+		FaceProp prop = new FaceProp();
+		prop.id = data.getInt("id", prop.id);
+		prop.layer = data.getInt("layer", prop.layer);
+		prop.position = readVector(data, "position", prop.position);
+		return prop;
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.editor.codecs;
+
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonValue;
+import vault.clockwork.editor.PropCodec;
+import vault.clockwork.editor.props.PlankProp;
+
+/**
+ * JSON codec of the PlankProp.
+ * Generated by the PropCodecGenerator, do not edit.
+ */
+public class PlankPropCodec extends PropCodec<PlankProp> {
+	/**
+	 * Ctor.
+	 */
+	public PlankPropCodec() {
+		super(PlankProp.class, "id:int,layer:int,position:Vector2,width:float,height:float,angle:float,rotate_speed:float,move_height:float,move_direction_x:float,move_direction_y:float");
+	}
+	
+	/**
+	 * @see Json.Serializer#write(com.badlogic.gdx.utils.Json, java.lang.Object, java.lang.Class) 
+	 */
+	@Override
+	public void write(Json json, PlankProp prop, Class knownType) {
+		json.writeObjectStart(PlankProp.class, knownType);
+		json.writeValue("id", prop.id);
+		json.writeValue("layer", prop.layer);
+		writeVector(json, "position", prop.position);
+		json.writeValue("width", prop.width);
+		json.writeValue("height", prop.height);
+		json.writeValue("angle", prop.angle);
+		json.writeValue("rotate_speed", prop.rotate_speed);
+		json.writeValue("move_height", prop.move_height);
+		json.writeValue("move_direction_x", prop.move_direction_x);
+		json.writeValue("move_direction_y", prop.move_direction_y);
+		json.writeObjectEnd();
+	}
+	
+	/**
+	 * @see Json.Serializer#read(com.badlogic.gdx.utils.Json, com.badlogic.gdx.utils.JsonValue, java.lang.Class) 
+	 */
+	@Override
+	public PlankProp read(Json json, JsonValue data, Class type) {
+		PlankProp prop = new PlankProp();
+		prop.id = data.getInt("id", prop.id);
+		prop.layer = data.getInt("layer", prop.layer);
+		prop.position = readVector(data, "position", prop.position);
+		prop.width = data.getFloat("width", prop.width);
+		prop.height = data.getFloat("height", prop.height);
+		prop.angle = data.getFloat("angle", prop.angle);
+		prop.rotate_speed = data.getFloat("rotate_speed", prop.rotate_speed);
+		prop.move_height = data.getFloat("move_height", prop.move_height);
+		prop.move_direction_x = data.getFloat("move_direction_x", prop.move_direction_x);
+		prop.move_direction_y = data.getFloat("move_direction_y", prop.move_direction_y);
+		return prop;
+	}
+}
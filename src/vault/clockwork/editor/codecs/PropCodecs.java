@@ -0,0 +1,55 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.editor.codecs;
+
+import vault.clockwork.editor.PropCodec;
+
+/**
+ * Generated codecs of the props.
+ * Generated by the PropCodecGenerator, do not edit.
+ */
+public class PropCodecs {
+	/**
+	 * New instances of the codecs.
+	 * @return Codecs of the props.
+	 */
+	static public PropCodec<?>[] all() {
+		return new PropCodec<?>[] {
+			new TurretPropCodec(),
+			new GroundPropCodec(),
+			new BackgroundPropCodec(),
+			new StaticPlankPropCodec(),
+			new PlankPropCodec(),
+			new HillPropCodec(),
+			new RockPropCodec(),
+			new FacePropCodec(),
+			new StonePropCodec(),
+			new PillowPropCodec(),
+			new DustbinPropCodec(),
+			new DecorationPropCodec(),
+			new PlayerHandPropCodec(),
+			new DustbinBgPropCodec()
+		};
+	}
+}
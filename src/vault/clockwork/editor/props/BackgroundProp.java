@@ -27,6 +27,8 @@ import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Vector2;
 import vault.clockwork.Vault;
 import vault.clockwork.actors.BackgroundActor;
+import vault.clockwork.editor.AssetManifest;
+import vault.clockwork.editor.LevelFile;
 import vault.clockwork.editor.PropActor;
 import vault.clockwork.editor.PropSerialized;
 
@@ -84,4 +86,45 @@ public class BackgroundProp extends PropSerialized {
 	public Class<? extends PropActor> getActorClass() {
 		return BackgroundActor.class;
 	}
+	
+	/**
+	 * @see PropSerialized#dependencies(vault.clockwork.editor.AssetManifest) 
+	 * @param manifest 
+	 */
+	@Override
+	public void dependencies(AssetManifest manifest) {
+		manifest.texture(background);
+	}
+	
+	/**
+	 * @see PropSerialized#write(vault.clockwork.editor.LevelFile.Output) 
+	 * @param out 
+	 */
+	@Override
+	public void write(LevelFile.Output out) {
+		super.write(out);
+		out.putString(background);
+		out.putFloat(offset_x);
+		out.putFloat(offset_y);
+		out.putFloat(parallax_x);
+		out.putFloat(parallax_y);
+		out.putFloat(scaled);
+		out.putFloat(zoomed);
+	}
+	
+	/**
+	 * @see PropSerialized#read(vault.clockwork.editor.LevelFile.Input) 
+	 * @param in 
+	 */
+	@Override
+	public void read(LevelFile.Input in) {
+		super.read(in);
+		background = in.getString();
+		offset_x = in.getFloat();
+		offset_y = in.getFloat();
+		parallax_x = in.getFloat();
+		parallax_y = in.getFloat();
+		scaled = in.getFloat();
+		zoomed = in.getFloat();
+	}
 }
@@ -25,6 +25,8 @@ package vault.clockwork.editor.props;
 
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import vault.clockwork.actors.DecorationActor;
+import vault.clockwork.editor.AssetManifest;
+import vault.clockwork.editor.LevelFile;
 import vault.clockwork.editor.PropActor;
 import vault.clockwork.editor.PropSerialized;
 
@@ -71,4 +73,46 @@ public class DecorationProp extends PropSerialized {
 	public Class<? extends PropActor> getActorClass() {
 		return DecorationActor.class;
 	}
+	
+	/**
+	 * @see PropSerialized#isStreamed() 
+	 * @return 
+	 */
+	@Override
+	public boolean isStreamed() {
+		return true;
+	}
+	
+	/**
+	 * @see PropSerialized#dependencies(vault.clockwork.editor.AssetManifest) 
+	 * @param manifest 
+	 */
+	@Override
+	public void dependencies(AssetManifest manifest) {
+		manifest.sprite(image);
+	}
+	
+	/**
+	 * @see PropSerialized#write(vault.clockwork.editor.LevelFile.Output) 
+	 * @param out 
+	 */
+	@Override
+	public void write(LevelFile.Output out) {
+		super.write(out);
+		out.putString(image);
+		out.putFloat(scale);
+		out.putFloat(angle);
+	}
+	
+	/**
+	 * @see PropSerialized#read(vault.clockwork.editor.LevelFile.Input) 
+	 * @param in 
+	 */
+	@Override
+	public void read(LevelFile.Input in) {
+		super.read(in);
+		image = in.getString();
+		scale = in.getFloat();
+		angle = in.getFloat();
+	}
 }
@@ -25,6 +25,7 @@ package vault.clockwork.editor.props;
 
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import vault.clockwork.actors.DustbinActorBg;
+import vault.clockwork.editor.AssetManifest;
 import vault.clockwork.editor.PropActor;
 import vault.clockwork.editor.PropSerialized;
 
@@ -59,4 +60,13 @@ public class DustbinBgProp extends PropSerialized {
 	public Class<? extends PropActor> getActorClass() {
 		return DustbinActorBg.class;
 	}
+	
+	/**
+	 * @see PropSerialized#dependencies(vault.clockwork.editor.AssetManifest) 
+	 * @param manifest 
+	 */
+	@Override
+	public void dependencies(AssetManifest manifest) {
+		manifest.sprite("assets/dbinbg.png");
+	}
 }
@@ -24,7 +24,9 @@
 package vault.clockwork.editor.props;
 
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import vault.clockwork.Vault;
 import vault.clockwork.actors.DustbinActor;
+import vault.clockwork.editor.AssetManifest;
 import vault.clockwork.editor.PropActor;
 import vault.clockwork.editor.PropSerialized;
 
@@ -59,4 +61,20 @@ public class DustbinProp extends PropSerialized {
 	public Class<? extends PropActor> getActorClass() {
 		return DustbinActor.class;
 	}
+	
+	/**
+	 * @see PropSerialized#dependencies(vault.clockwork.editor.AssetManifest) 
+	 * @param manifest 
+	 */
+	@Override
+	public void dependencies(AssetManifest manifest) {
+		manifest
+			.sprite("assets/dbin.png")
+			.sprite("assets/dbinbg.png")
+			.sound(Vault.SOUND_KOSZ1)
+			.sound(Vault.SOUND_KOSZ2)
+			.sound(Vault.SOUND_KOSZ3)
+			.sound(Vault.SOUND_KOSZ4)
+			.sound(Vault.SOUND_KOSZ5);
+	}
 }
@@ -0,0 +1,57 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.editor.props;
+
+import vault.clockwork.editor.PropProvider;
+import vault.clockwork.editor.PropRegistry;
+
+/**
+ * Props of the game.
+ * Registered in the editor list order.
+ * @author Konrad Nowakowski https://github.com/konrad92
+ */
+public class GameProps implements PropProvider {
+	/**
+	 * @see PropProvider#register() 
+	 */
+	@Override
+	public void register() {
+		PropRegistry.register(TurretProp.class, TurretProp::new);
+		PropRegistry.register(GroundProp.class, GroundProp::new);
+		PropRegistry.register(BackgroundProp.class, BackgroundProp::new);
+		PropRegistry.register(StaticPlankProp.class, StaticPlankProp::new);
+		PropRegistry.register(PlankProp.class, PlankProp::new);
+		PropRegistry.register(HillProp.class, HillProp::new);
+		PropRegistry.register(RockProp.class, RockProp::new);
+		PropRegistry.register(FaceProp.class, FaceProp::new);
+		PropRegistry.register(StoneProp.class, StoneProp::new);
+		PropRegistry.register(PillowProp.class, PillowProp::new);
+		PropRegistry.register(DustbinProp.class, DustbinProp::new);
+		PropRegistry.register(DecorationProp.class, DecorationProp::new);
+		PropRegistry.register(PlayerHandProp.class, PlayerHandProp::new);
+		
+		// placed by the dustbin, kept for the older levels
+		PropRegistry.register(DustbinBgProp.class, DustbinBgProp::new, false);
+	}
+}
@@ -25,9 +25,12 @@ package vault.clockwork.editor.props;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import vault.clockwork.Vault;
 import vault.clockwork.actors.GroundActor;
+import vault.clockwork.editor.AssetManifest;
 import vault.clockwork.editor.PropActor;
 import vault.clockwork.editor.PropSerialized;
+import vault.clockwork.editor.StaticGeometry;
 import vault.clockwork.system.Physics;
 
 /**
@@ -65,4 +68,35 @@ public class GroundProp extends PropSerialized {
 	public Class<? extends PropActor> getActorClass() {
 		return GroundActor.class;
 	}
+	
+	/**
+	 * @see PropSerialized#bake(vault.clockwork.editor.StaticGeometry) 
+	 * @param geometry 
+	 * @return 
+	 */
+	@Override
+	public boolean bake(StaticGeometry geometry) {
+		// ground body keeps its place, as the actor does
+		geometry.box(
+			GroundActor.BODY_X * Physics.SCALE_INV,
+			GroundActor.BODY_Y * Physics.SCALE_INV,
+			GroundActor.HALF_WIDTH * Physics.SCALE_INV,
+			GroundActor.HALF_HEIGHT * Physics.SCALE_INV,
+			0.f,
+			GroundActor.FRICTION,
+			GroundActor.RESTITUTION
+		);
+		return true;
+	}
+	
+	/**
+	 * @see PropSerialized#dependencies(vault.clockwork.editor.AssetManifest) 
+	 * @param manifest 
+	 */
+	@Override
+	public void dependencies(AssetManifest manifest) {
+		manifest
+			.texture(GroundActor.GROUND_TEXTURE)
+			.sound(Vault.SOUND_WOODBOUNCE);
+	}
 }
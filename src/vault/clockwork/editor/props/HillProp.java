@@ -25,9 +25,13 @@ package vault.clockwork.editor.props;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import vault.clockwork.Vault;
 import vault.clockwork.actors.HillActor;
+import vault.clockwork.editor.AssetManifest;
+import vault.clockwork.editor.LevelFile;
 import vault.clockwork.editor.PropActor;
 import vault.clockwork.editor.PropSerialized;
+import vault.clockwork.editor.StaticGeometry;
 
 /**
  * General hill editor prop.
@@ -61,4 +65,55 @@ public class HillProp extends PropSerialized {
 	public Class<? extends PropActor> getActorClass() {
 		return HillActor.class;
 	}
+	
+	/**
+	 * @see PropSerialized#isStreamed() 
+	 * @return 
+	 */
+	@Override
+	public boolean isStreamed() {
+		return baked;
+	}
+	
+	/**
+	 * @see PropSerialized#bake(vault.clockwork.editor.StaticGeometry) 
+	 * @param geometry 
+	 * @return 
+	 */
+	@Override
+	public boolean bake(StaticGeometry geometry) {
+		geometry.polygon(position, HillActor.SHAPE);
+		return true;
+	}
+	
+	/**
+	 * @see PropSerialized#dependencies(vault.clockwork.editor.AssetManifest) 
+	 * @param manifest 
+	 */
+	@Override
+	public void dependencies(AssetManifest manifest) {
+		manifest
+			.sprite("assets/hill.png")
+			.sound(Vault.SOUND_WOODBOUNCE);
+	}
+	
+	/**
+	 * @see PropSerialized#write(vault.clockwork.editor.LevelFile.Output) 
+	 * @param out 
+	 */
+	@Override
+	public void write(LevelFile.Output out) {
+		super.write(out);
+		out.putFloat(radius);
+	}
+	
+	/**
+	 * @see PropSerialized#read(vault.clockwork.editor.LevelFile.Input) 
+	 * @param in 
+	 */
+	@Override
+	public void read(LevelFile.Input in) {
+		super.read(in);
+		radius = in.getFloat();
+	}
 }
@@ -27,7 +27,10 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector2;
+import vault.clockwork.Vault;
 import vault.clockwork.actors.PlankActor;
+import vault.clockwork.editor.AssetManifest;
+import vault.clockwork.editor.LevelFile;
 import vault.clockwork.editor.PropActor;
 import vault.clockwork.editor.PropSerialized;
 
@@ -97,4 +100,47 @@ public class PlankProp extends PropSerialized {
 	public Class<? extends PropActor> getActorClass() {
 		return PlankActor.class;
 	}
+	
+	/**
+	 * @see PropSerialized#dependencies(vault.clockwork.editor.AssetManifest) 
+	 * @param manifest 
+	 */
+	@Override
+	public void dependencies(AssetManifest manifest) {
+		manifest
+			.sprite("assets/longtrunk.png")
+			.sound(Vault.SOUND_WOODBOUNCE);
+	}
+	
+	/**
+	 * @see PropSerialized#write(vault.clockwork.editor.LevelFile.Output) 
+	 * @param out 
+	 */
+	@Override
+	public void write(LevelFile.Output out) {
+		super.write(out);
+		out.putFloat(width);
+		out.putFloat(height);
+		out.putFloat(angle);
+		out.putFloat(rotate_speed);
+		out.putFloat(move_height);
+		out.putFloat(move_direction_x);
+		out.putFloat(move_direction_y);
+	}
+	
+	/**
+	 * @see PropSerialized#read(vault.clockwork.editor.LevelFile.Input) 
+	 * @param in 
+	 */
+	@Override
+	public void read(LevelFile.Input in) {
+		super.read(in);
+		width = in.getFloat();
+		height = in.getFloat();
+		angle = in.getFloat();
+		rotate_speed = in.getFloat();
+		move_height = in.getFloat();
+		move_direction_x = in.getFloat();
+		move_direction_y = in.getFloat();
+	}
 }
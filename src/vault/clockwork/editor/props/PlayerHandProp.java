@@ -24,7 +24,10 @@
 package vault.clockwork.editor.props;
 
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import vault.clockwork.Vault;
 import vault.clockwork.actors.HandActor;
+import vault.clockwork.actors.PaperBallActor;
+import vault.clockwork.editor.AssetManifest;
 import vault.clockwork.editor.PropActor;
 import vault.clockwork.editor.PropSerialized;
 
@@ -53,4 +56,19 @@ public class PlayerHandProp extends PropSerialized {
 	public Class<? extends PropActor> getActorClass() {
 		return HandActor.class;
 	}
+	
+	/**
+	 * @see PropSerialized#dependencies(vault.clockwork.editor.AssetManifest) 
+	 * @param manifest 
+	 */
+	@Override
+	public void dependencies(AssetManifest manifest) {
+		manifest
+			.sprite(HandActor.HAND_TEXTURE)
+			.sprite(HandActor.STAMINABAR_BG_TEXTURE)
+			.sprite(HandActor.STAMINABAR_MD_TEXTURE)
+			.sprite(HandActor.STAMINABAR_FG_TEXTURE)
+			.sprite(PaperBallActor.PAPERBALL_TEXTURE)
+			.sound(Vault.SOUND_PAPERHIT);
+	}
 }
@@ -24,9 +24,12 @@
 package vault.clockwork.editor.props;
 
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import vault.clockwork.Vault;
 import vault.clockwork.actors.RockActor;
+import vault.clockwork.editor.AssetManifest;
 import vault.clockwork.editor.PropActor;
 import vault.clockwork.editor.PropSerialized;
+import vault.clockwork.editor.StaticGeometry;
 
 /**
  * General rock editor prop.
@@ -58,4 +61,35 @@ public class RockProp extends PropSerialized {
 	public Class<? extends PropActor> getActorClass() {
 		return RockActor.class;
 	}
+	
+	/**
+	 * @see PropSerialized#isStreamed() 
+	 * @return 
+	 */
+	@Override
+	public boolean isStreamed() {
+		return baked;
+	}
+	
+	/**
+	 * @see PropSerialized#bake(vault.clockwork.editor.StaticGeometry) 
+	 * @param geometry 
+	 * @return 
+	 */
+	@Override
+	public boolean bake(StaticGeometry geometry) {
+		geometry.polygon(position, RockActor.SHAPE);
+		return true;
+	}
+	
+	/**
+	 * @see PropSerialized#dependencies(vault.clockwork.editor.AssetManifest) 
+	 * @param manifest 
+	 */
+	@Override
+	public void dependencies(AssetManifest manifest) {
+		manifest
+			.sprite("assets/rock.png")
+			.sound(Vault.SOUND_WOODBOUNCE);
+	}
 }
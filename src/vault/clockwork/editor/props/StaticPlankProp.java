@@ -28,9 +28,13 @@ import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector2;
+import vault.clockwork.Vault;
 import vault.clockwork.actors.StaticPlankActor;
+import vault.clockwork.editor.AssetManifest;
+import vault.clockwork.editor.LevelFile;
 import vault.clockwork.editor.PropActor;
 import vault.clockwork.editor.PropSerialized;
+import vault.clockwork.editor.StaticGeometry;
 
 /**
  * General static plank editor prop.
@@ -75,4 +79,59 @@ public class StaticPlankProp extends PropSerialized {
 	public Class<? extends PropActor> getActorClass() {
 		return StaticPlankActor.class;
 	}
+	
+	/**
+	 * @see PropSerialized#isStreamed() 
+	 * @return 
+	 */
+	@Override
+	public boolean isStreamed() {
+		return baked;
+	}
+	
+	/**
+	 * @see PropSerialized#bake(vault.clockwork.editor.StaticGeometry) 
+	 * @param geometry 
+	 * @return 
+	 */
+	@Override
+	public boolean bake(StaticGeometry geometry) {
+		geometry.box(position.x, position.y, width, height, angle, StaticGeometry.FRICTION, 0.f);
+		return true;
+	}
+	
+	/**
+	 * @see PropSerialized#dependencies(vault.clockwork.editor.AssetManifest) 
+	 * @param manifest 
+	 */
+	@Override
+	public void dependencies(AssetManifest manifest) {
+		manifest
+			.sprite("assets/mediumtrunk.png")
+			.sound(Vault.SOUND_WOODBOUNCE);
+	}
+	
+	/**
+	 * @see PropSerialized#write(vault.clockwork.editor.LevelFile.Output) 
+	 * @param out 
+	 */
+	@Override
+	public void write(LevelFile.Output out) {
+		super.write(out);
+		out.putFloat(width);
+		out.putFloat(height);
+		out.putFloat(angle);
+	}
+	
+	/**
+	 * @see PropSerialized#read(vault.clockwork.editor.LevelFile.Input) 
+	 * @param in 
+	 */
+	@Override
+	public void read(LevelFile.Input in) {
+		super.read(in);
+		width = in.getFloat();
+		height = in.getFloat();
+		angle = in.getFloat();
+	}
 }
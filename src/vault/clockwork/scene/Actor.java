@@ -23,10 +23,12 @@
  */
 package vault.clockwork.scene;
 
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.physics.box2d.Contact;
 import vault.clockwork.editor.PropActor;
 import vault.clockwork.editor.PropSerialized;
+import vault.clockwork.system.Physics;
 import vault.clockwork.system.Scene;
 
 /**
@@ -75,6 +77,53 @@ public abstract class Actor extends PropActor implements Entity {
 	 */
 	public boolean visible = true;
 	
+	/**
+	 * Actor drawing within the layer sprite batch.
+	 * When <b>FALSE</b>, the batch is not drawing while the actor draws,
+	 * so the actor performs batch begin/end on its own.
+	 * Use it for actors mixing the batch with shape rendering.
+	 */
+	public boolean batched = true;
+	
+	/**
+	 * Actor update touches only its own state.
+	 * When <b>TRUE</b>, the layer is allowed to update the actor on the worker
+	 * threads. Reading the physics slots is allowed, any world change, even
+	 * the velocities of its own body, goes through Scene#defer. So do the
+	 * spawning and removing, or the layer add and remove defer on their own.
+	 */
+	public boolean parallel = false;
+	
+	/**
+	 * World-space bounds of the actor.
+	 * Assigned by the actors overriding the getBounds method.
+	 */
+	protected final Rectangle bounds = new Rectangle();
+	
+	/**
+	 * Slot of the actor in its layer actors array.
+	 * Managed by the Scene.Layer, <b>-1</b> when not on any layer.
+	 */
+	public int slot = -1;
+	
+	/**
+	 * Actors sharing the id on the layer, linked in order.
+	 * Managed by the Scene.Layer.
+	 */
+	public Actor nextById, prevById;
+	
+	/**
+	 * Actor waits in the layer remove queue.
+	 * Managed by the Scene.Layer, from any thread removing the actor.
+	 */
+	public volatile boolean removing = false;
+	
+	/**
+	 * Pool owning the actor, <b>NULL</b> when the actor is not pooled.
+	 * Assigned by the ActorPool#obtain.
+	 */
+	ActorPool<?> pool = null;
+	
 	/**
 	 * Editor constructor.
 	 * @param prop 
@@ -114,6 +163,36 @@ public abstract class Actor extends PropActor implements Entity {
 		return this.layer.remove(this);
 	}
 	
+	/**
+	 * Return the removed actor to its pool.
+	 * Performed by the layer instead of the dispose.
+	 * @return <b>FALSE</b> when the actor is not pooled and should be disposed.
+	 */
+	public boolean recycle() {
+		if(this.pool == null) {
+			return false;
+		}
+		
+		this.pool.release(this);
+		return true;
+	}
+	
+	/**
+	 * Reuse method performed when the actor were obtained from the pool.
+	 * Restore the state dropped by the reset, eg. activate the physics body.
+	 */
+	public void reuse() {
+		// dummy method
+	}
+	
+	/**
+	 * Reset method performed when the actor were released to the pool.
+	 * Drop the actor state without releasing its resources.
+	 */
+	public void reset() {
+		// dummy method
+	}
+	
 	/**
 	 * Get the position of the actor.
 	 * @return Position vector.
@@ -146,6 +225,32 @@ public abstract class Actor extends PropActor implements Entity {
 		// dummy method
 	}
 	
+	/**
+	 * Get the world-space bounding box of the actor.
+	 * Used by the layer to skip drawing of the actors outside the camera.
+	 * @return Actor bounds, or <b>NULL</b> when the actor is always drawn.
+	 */
+	public Rectangle getBounds() {
+		return null;
+	}
+	
+	/**
+	 * Assign the bounds of sprite rotated around its origin.
+	 * Bounding box covers the sprite in any rotation.
+	 * @param sprite Sprite to bound.
+	 * @param x World position of the sprite origin.
+	 * @param y World position of the sprite origin.
+	 * @return Actor bounds.
+	 */
+	protected Rectangle getBounds(Sprite sprite, float x, float y) {
+		float dx = Math.max(sprite.getOriginX(), sprite.getWidth() - sprite.getOriginX()),
+			dy = Math.max(sprite.getOriginY(), sprite.getHeight() - sprite.getOriginY()),
+			radius = (float)Math.sqrt(dx*dx + dy*dy)
+				* Math.max(Math.abs(sprite.getScaleX()), Math.abs(sprite.getScaleY()));
+		
+		return bounds.set(x - radius, y - radius, radius * 2.f, radius * 2.f);
+	}
+	
 	/**
 	 * Scene assigned with the actor.
 	 * @return Scene instance if actor already assigned with.
@@ -177,22 +282,23 @@ public abstract class Actor extends PropActor implements Entity {
 		
 		// remove actor from the old scene
 		if(this.layer != null) {
-			this.layer.actors.removeValue(this, true);
+			this.layer.detach(this);
 		}
 		
 		// change the layer
 		this.layer = layer;
 		if(this.layer != null) {
-			this.layer.actors.add(this);
+			this.layer.attach(this);
 		}
 	}
 	
 	/**
 	 * Impact of the actor dispatcher.
+	 * Performed after the physics steps, not during the world step.
 	 * @param other Other actor of the hit.
-	 * @param contact Generic contact instance.
+	 * @param contact Contact event, reused after the dispatch.
 	 */
-	public void onHit(Actor other, Contact contact) {
+	public void onHit(Actor other, Physics.ContactEvent contact) {
 		// dummy method
 	}
 }
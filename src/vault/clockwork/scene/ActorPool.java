@@ -0,0 +1,137 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.scene;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Pool of the transient actors.
+ * Removed pooled actors are not disposed by the layer, but released to
+ * the pool instead and reused by the next obtain.
+ * @author Konrad Nowakowski https://github.com/konrad92
+ * @param <T> Pooled actor type.
+ */
+public abstract class ActorPool<T extends Actor> implements Disposable {
+	/**
+	 * Maximum count of the free actors kept in the pool.
+	 */
+	public final int max;
+	
+	/**
+	 * Free actors, ready to obtain.
+	 */
+	private final Array<T> freeActors = new Array<>(false, 16);
+	
+	/**
+	 * Actors created by the pool, since the last clear.
+	 */
+	public int created = 0;
+	
+	/**
+	 * Ctor.
+	 * @param max Maximum count of the free actors kept in the pool.
+	 */
+	public ActorPool(int max) {
+		this.max = max;
+	}
+	
+	/**
+	 * Ctor.
+	 */
+	public ActorPool() {
+		this(Integer.MAX_VALUE);
+	}
+	
+	/**
+	 * Create a new actor, when the pool is empty.
+	 * @return New actor instance.
+	 */
+	protected abstract T newObject();
+	
+	/**
+	 * Take the free actor out of the pool, or create a new one.
+	 * Reused actors are reset by the Actor#reuse.
+	 * @return Actor ready to add on the layer.
+	 */
+	public T obtain() {
+		T actor;
+		if(freeActors.size == 0) {
+			actor = newObject();
+			created++;
+		} else {
+			actor = freeActors.pop();
+		}
+		
+		actor.pool = this;
+		actor.reuse();
+		return actor;
+	}
+	
+	/**
+	 * Put the removed actor back into the pool.
+	 * Actor is disposed when the pool is full.
+	 * @param actor Actor to release.
+	 */
+	@SuppressWarnings("unchecked")
+	void release(Actor actor) {
+		actor.reset();
+		
+		if(freeActors.size < max) {
+			freeActors.add((T)actor);
+		} else {
+			actor.pool = null;
+			actor.dispose();
+		}
+	}
+	
+	/**
+	 * Count of the free actors.
+	 * @return Free actors in the pool.
+	 */
+	public int getFree() {
+		return freeActors.size;
+	}
+	
+	/**
+	 * Dispose the free actors.
+	 * Actors still on the layers are disposed by the layers.
+	 */
+	public void clear() {
+		for(T actor : freeActors) {
+			actor.pool = null;
+			actor.dispose();
+		}
+		freeActors.clear();
+		created = 0;
+	}
+	
+	/**
+	 * @see Disposable#dispose() 
+	 */
+	@Override
+	public void dispose() {
+		this.clear();
+	}
+}
@@ -32,8 +32,23 @@ import com.badlogic.gdx.utils.Disposable;
  * @author Konrad Nowakowski https://github.com/konrad92
  */
 public interface Entity extends Disposable {
+	/**
+	 * Prepare method performed by the thread adding the entity to the scene.
+	 * May run outside of the GL thread, so do the thread-safe work only,
+	 * eg. sprite setup or the body definitions. The GL resources and the
+	 * physics world are touched by the create method. Performed on each
+	 * adding, the pooled actors too.
+	 */
+	public default void prepare() {
+		// dummy method
+	}
+	
 	/**
 	 * Create method performed when the entity were created from the scene.
+	 * Performed by the layer flush on the GL thread, after the prepare.
+	 * Level actors are constructed by the loader thread, so the GL calls
+	 * and the physics bodies of the actor go here, not into the ctor.
+	 * @see vault.clockwork.actors.BodyActor#create() 
 	 */
 	public default void create() {
 		// dummy method
@@ -0,0 +1,391 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.scene;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Uniform grid spatial index.
+ * Items are bucketed by their bounding boxes into square cells, so the
+ * queries visit only the cells overlapping the queried region.
+ * Items are re-bucketed only when their bounds leave the occupied cells.
+ * @author Konrad Nowakowski https://github.com/konrad92
+ * @param <T> Type of the indexed items.
+ */
+public class SpatialGrid<T> {
+	/**
+	 * Items spanning more cells are kept aside and tested by every query.
+	 */
+	static public final int MAX_ITEM_CELLS = 256;
+	
+	/**
+	 * Indexed item entry.
+	 * @param <T> Type of the item.
+	 */
+	static private class Entry<T> {
+		/**
+		 * Item of the entry.
+		 */
+		T item;
+		
+		/**
+		 * Bounds of the item.
+		 */
+		final Rectangle bounds = new Rectangle();
+		
+		/**
+		 * Range of the occupied cells.
+		 */
+		int x0, y0, x1, y1;
+		
+		/**
+		 * Item kept aside of the cells.
+		 */
+		boolean large;
+		
+		/**
+		 * Last query visiting the item.
+		 */
+		int mark;
+	}
+	
+	/**
+	 * Size of the grid cell.
+	 */
+	public final float cellSize;
+	
+	/**
+	 * Grid cells by the packed cell coordinates.
+	 */
+	private final IntMap<Array<Entry<T>>> cells = new IntMap<>();
+	
+	/**
+	 * Entries by the items.
+	 */
+	private final ObjectMap<T, Entry<T>> entries = new ObjectMap<>();
+	
+	/**
+	 * Items spanning too many cells.
+	 */
+	private final Array<Entry<T>> large = new Array<>(false, 16);
+	
+	/**
+	 * Released cells and entries for the reuse.
+	 */
+	private final Array<Array<Entry<T>>> freeCells = new Array<>(false, 16);
+	private final Array<Entry<T>> freeEntries = new Array<>(false, 16);
+	
+	/**
+	 * Current query mark.
+	 */
+	private int mark = 0;
+	
+	/**
+	 * Ctor.
+	 * @param cellSize Size of the grid cell.
+	 */
+	public SpatialGrid(float cellSize) {
+		this.cellSize = cellSize;
+	}
+	
+	/**
+	 * Count of the indexed items.
+	 * @return Items count.
+	 */
+	public int size() {
+		return entries.size;
+	}
+	
+	/**
+	 * Check if the item is indexed.
+	 * @param item Item to check.
+	 * @return <b>TRUE</b> when the item is indexed.
+	 */
+	public boolean contains(T item) {
+		return entries.containsKey(item);
+	}
+	
+	/**
+	 * Insert, or update the item bounds.
+	 * @param item Item to index.
+	 * @param bounds Current bounds of the item.
+	 */
+	public void update(T item, Rectangle bounds) {
+		Entry<T> entry = entries.get(item);
+		
+		// new item on the grid
+		if(entry == null) {
+			entry = freeEntries.size > 0 ? freeEntries.pop() : new Entry<T>();
+			entry.item = item;
+			entry.bounds.set(bounds);
+			entries.put(item, entry);
+			insert(entry);
+			return;
+		}
+		
+		entry.bounds.set(bounds);
+		
+		// item still within the occupied cells
+		if(!entry.large
+			&& entry.x0 == cell(bounds.x) && entry.y0 == cell(bounds.y)
+			&& entry.x1 == cell(bounds.x + bounds.width)
+			&& entry.y1 == cell(bounds.y + bounds.height)) {
+			return;
+		}
+		
+		// re-bucket the item
+		erase(entry);
+		insert(entry);
+	}
+	
+	/**
+	 * Remove the item from the grid.
+	 * @param item Item to remove.
+	 * @return <b>TRUE</b> when the item was indexed.
+	 */
+	public boolean remove(T item) {
+		Entry<T> entry = entries.remove(item);
+		if(entry == null) {
+			return false;
+		}
+		
+		erase(entry);
+		entry.item = null;
+		freeEntries.add(entry);
+		return true;
+	}
+	
+	/**
+	 * Remove all items from the grid.
+	 */
+	public void clear() {
+		for(Entry<T> entry : entries.values()) {
+			entry.item = null;
+			freeEntries.add(entry);
+		}
+		for(Array<Entry<T>> cell : cells.values()) {
+			cell.clear();
+			freeCells.add(cell);
+		}
+		
+		entries.clear();
+		cells.clear();
+		large.clear();
+	}
+	
+	/**
+	 * Find items overlapping the rectangle.
+	 * @param rect Region to query.
+	 * @param out Found items are appended to.
+	 * @return Output array.
+	 */
+	public Array<T> queryRect(Rectangle rect, Array<T> out) {
+		return query(rect.x, rect.y, rect.x + rect.width, rect.y + rect.height, 0.f, out);
+	}
+	
+	/**
+	 * Find items overlapping the circle.
+	 * @param x Center of the circle.
+	 * @param y Center of the circle.
+	 * @param radius Radius of the circle.
+	 * @param out Found items are appended to.
+	 * @return Output array.
+	 */
+	public Array<T> queryRadius(float x, float y, float radius, Array<T> out) {
+		return query(x - radius, y - radius, x + radius, y + radius, radius, out);
+	}
+	
+	/**
+	 * Find items containing the point.
+	 * @param x Point position.
+	 * @param y Point position.
+	 * @param out Found items are appended to.
+	 * @return Output array.
+	 */
+	public Array<T> queryPoint(float x, float y, Array<T> out) {
+		return query(x, y, x, y, 0.f, out);
+	}
+	
+	/**
+	 * Find items overlapping the region.
+	 * @param minX Region left edge.
+	 * @param minY Region bottom edge.
+	 * @param maxX Region right edge.
+	 * @param maxY Region top edge.
+	 * @param radius Radius of the circle inscribed into the region,
+	 *			or zero to test the whole region.
+	 * @param out Found items are appended to.
+	 * @return Output array.
+	 */
+	private Array<T> query(float minX, float minY, float maxX, float maxY,
+			float radius, Array<T> out) {
+		mark++;
+		
+		// items spanning too many cells
+		for(Entry<T> entry : large) {
+			test(entry, minX, minY, maxX, maxY, radius, out);
+		}
+		
+		// visit the overlapped cells
+		int x0 = cell(minX), y0 = cell(minY),
+			x1 = cell(maxX), y1 = cell(maxY);
+		
+		// region covers more cells than occupied
+		if((long)(x1 - x0 + 1) * (long)(y1 - y0 + 1) > cells.size) {
+			for(Array<Entry<T>> cell : cells.values()) {
+				for(int i = 0; i < cell.size; i++) {
+					test(cell.get(i), minX, minY, maxX, maxY, radius, out);
+				}
+			}
+			return out;
+		}
+		
+		for(int x = x0; x <= x1; x++) {
+			for(int y = y0; y <= y1; y++) {
+				Array<Entry<T>> cell = cells.get(key(x, y));
+				if(cell == null) {
+					continue;
+				}
+				
+				for(int i = 0; i < cell.size; i++) {
+					test(cell.get(i), minX, minY, maxX, maxY, radius, out);
+				}
+			}
+		}
+		
+		return out;
+	}
+	
+	/**
+	 * Test the entry against the queried region.
+	 * Each entry is reported once per query.
+	 */
+	private void test(Entry<T> entry, float minX, float minY, float maxX, float maxY,
+			float radius, Array<T> out) {
+		if(entry.mark == mark) {
+			return;
+		}
+		entry.mark = mark;
+		
+		Rectangle b = entry.bounds;
+		if(b.x > maxX || b.x + b.width < minX || b.y > maxY || b.y + b.height < minY) {
+			return;
+		}
+		
+		// circle against the bounds
+		if(radius > 0.f) {
+			float cx = (minX + maxX) * .5f, cy = (minY + maxY) * .5f,
+				dx = cx - MathUtils.clamp(cx, b.x, b.x + b.width),
+				dy = cy - MathUtils.clamp(cy, b.y, b.y + b.height);
+			
+			if(dx*dx + dy*dy > radius*radius) {
+				return;
+			}
+		}
+		
+		out.add(entry.item);
+	}
+	
+	/**
+	 * Put the entry into the cells covered by its bounds.
+	 * @param entry Entry to insert.
+	 */
+	private void insert(Entry<T> entry) {
+		Rectangle b = entry.bounds;
+		entry.x0 = cell(b.x);
+		entry.y0 = cell(b.y);
+		entry.x1 = cell(b.x + b.width);
+		entry.y1 = cell(b.y + b.height);
+		
+		// keep huge items aside
+		long count = (long)(entry.x1 - entry.x0 + 1) * (long)(entry.y1 - entry.y0 + 1);
+		entry.large = count > MAX_ITEM_CELLS;
+		if(entry.large) {
+			large.add(entry);
+			return;
+		}
+		
+		for(int x = entry.x0; x <= entry.x1; x++) {
+			for(int y = entry.y0; y <= entry.y1; y++) {
+				int key = key(x, y);
+				Array<Entry<T>> cell = cells.get(key);
+				if(cell == null) {
+					cell = freeCells.size > 0 ? freeCells.pop() : new Array<Entry<T>>(false, 8);
+					cells.put(key, cell);
+				}
+				cell.add(entry);
+			}
+		}
+	}
+	
+	/**
+	 * Remove the entry from the occupied cells.
+	 * @param entry Entry to erase.
+	 */
+	private void erase(Entry<T> entry) {
+		if(entry.large) {
+			large.removeValue(entry, true);
+			return;
+		}
+		
+		for(int x = entry.x0; x <= entry.x1; x++) {
+			for(int y = entry.y0; y <= entry.y1; y++) {
+				int key = key(x, y);
+				Array<Entry<T>> cell = cells.get(key);
+				if(cell == null) {
+					continue;
+				}
+				
+				cell.removeValue(entry, true);
+				if(cell.size == 0) {
+					cells.remove(key);
+					freeCells.add(cell);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Cell coordinate of the world position.
+	 * @param value World position.
+	 * @return Cell coordinate.
+	 */
+	private int cell(float value) {
+		return MathUtils.floor(value / cellSize);
+	}
+	
+	/**
+	 * Pack the cell coordinates into the map key.
+	 * @param x Cell column.
+	 * @param y Cell row.
+	 * @return Cell key.
+	 */
+	static private int key(int x, int y) {
+		return (x << 16) | (y & 0xFFFF);
+	}
+}
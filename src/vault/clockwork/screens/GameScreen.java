@@ -39,6 +39,24 @@ public interface GameScreen extends Screen {
      */
     public void prepare();
 	
+	/**
+	 * Poll the prepare of the game screen after the assets load.
+	 * Performed by the loader screen every frame until it returns <b>TRUE</b>,
+	 * the heavy work is left to the background threads.
+	 * @return <b>TRUE</b> when the screen is ready to show.
+	 */
+	public default boolean prepareUpdate() {
+		return true;
+	}
+	
+	/**
+	 * Progress of the prepare.
+	 * @return Progress from 0 to 1.
+	 */
+	public default float getProgress() {
+		return 1.f;
+	}
+	
 	/**
 	 * Dispatched on game reconfiguration process.
 	 * For example via console durning the game.
@@ -73,13 +91,13 @@ public interface GameScreen extends Screen {
 	
 	/**
 	 * Clear the scene on screen hiding.
-	 * Also release the assets set.
+	 * Assets are released by the loader screen, once the next screen
+	 * assets are loaded, so the shared ones are not loaded again.
 	 * @see Screen#hide() 
 	 */
 	@Override
 	public default void hide() {
 		Game.scene.clear();
-		Game.assets.clear();
 	}
 	
 	/**
@@ -31,6 +31,8 @@ import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
 import vault.clockwork.Game;
 import vault.clockwork.editor.PropSerialized;
 import vault.clockwork.scene.Actor;
@@ -48,6 +50,11 @@ public class LoaderScreen implements Screen {
 		public Sprite sprite;
 		public float speed = 45.f;
 		
+		/**
+		 * Time of the gear spinning.
+		 */
+		private float timer = 0.f;
+		
 		/**
 		 * Ctor.
 		 * @param id Unique identifier. 
@@ -57,6 +64,9 @@ public class LoaderScreen implements Screen {
 		public GearActor(int id, int type, Texture texture) {
 			super(id, type);
 			
+			// update touches only the gear sprite
+			this.parallel = true;
+			
 			// create gear sprite
 			sprite = new Sprite(texture);
 			if(type == 0) {
@@ -80,7 +90,9 @@ public class LoaderScreen implements Screen {
 		 */
 		@Override
 		public void update(float delta) {
-			sprite.setRotation(sprite.getRotation() + speed*delta);
+			// gears spin faster with the progress
+			timer += delta;
+			sprite.setRotation(speed * (timer + progress * PROGRESS_SPIN));
 		}
 		
 		/**
@@ -89,22 +101,31 @@ public class LoaderScreen implements Screen {
 		 */
 		@Override
 		public void draw(SpriteBatch batch) {
-			batch.begin();
 			sprite.draw(batch);
-			batch.end();
 		}
 	}
     
+	/**
+	 * Seconds of the gears spin added by the whole progress.
+	 */
+	static public final float PROGRESS_SPIN = 4.f;
+	
     /**
      * Next game screen after load finish.
      */
     public final GameScreen next;
     
     /**
-     * Clear global assets when loader shown.
+     * Release the assets not used by the next screen.
      */
     public boolean clearAssets;
 	
+	/**
+	 * Assets of the previous screens, with their reference counts.
+	 * Released after the next screen assets load.
+	 */
+	private final ObjectIntMap<String> released = new ObjectIntMap<>();
+	
     /**
      * Single machine texture.
      */
@@ -114,6 +135,16 @@ public class LoaderScreen implements Screen {
 	 * The layer ortho camera.
 	 */
 	private OrthographicCamera camera;
+	
+	/**
+	 * Assets are loaded, the next screen prepares until ready.
+	 */
+	private boolean assetsLoaded;
+	
+	/**
+	 * Progress of the whole loading, shown by the gears.
+	 */
+	private float progress;
     
     /**
      * Loader screen constructor.
@@ -156,9 +187,27 @@ public class LoaderScreen implements Screen {
 		//Game.scene.add(0, new GearActor(0, 0, machineTexture));
 		//Game.scene.add(0, new GearActor(0, 1, machineTexture));
         
-        // clear game assets
+		// level bodies stay in place until shown
+		assetsLoaded = false;
+		progress = 0.f;
+		Game.physics.paused = true;
+		
+        // assets to release, the next screen references its own again
+        released.clear();
         if(this.clearAssets) {
-            Game.assets.clear();
+			for(String filename : Game.assets.getAssetNames()) {
+				released.put(filename, Game.assets.getReferenceCount(filename));
+			}
+			
+			// dependencies are released by their assets
+			for(String filename : Game.assets.getAssetNames()) {
+				Array<String> dependencies = Game.assets.getDependencies(filename);
+				if(dependencies != null) {
+					for(String dependency : dependencies) {
+						released.remove(dependency, 0);
+					}
+				}
+			}
         }
         
         // prepare next screen to load
@@ -178,15 +227,42 @@ public class LoaderScreen implements Screen {
         gl.glClearColor(0.f, 0.f, 0.f, 1.f);
         gl.glClear(GL20.GL_COLOR_BUFFER_BIT | GL20.GL_DEPTH_BUFFER_BIT);
         
-        // draw fade out on load finish
-        if(Game.assets.update()) {
+        // load the assets, then wait for the next screen prepare
+        if(!assetsLoaded) {
+			// sprites atlas is packed along the assets
+			boolean packed = Game.atlas.update();
+			assetsLoaded = Game.assets.update() && packed;
+			if(assetsLoaded) {
+				this.release();
+			}
+		} else if(next == null || next.prepareUpdate()) {
 			Game.app.setScreen(next);
         }
+		
+		// the assets and the next screen prepare are the halves
+		progress = Game.assets.getProgress();
+		if(next != null) {
+			progress = (progress + next.getProgress()) * .5f;
+		}
         
 		// perform game systems
 		Game.performSystems();
     }
 
+	/**
+	 * Release the previous screens assets.
+	 * Assets loaded again by the next screen keep its references, the
+	 * others are disposed.
+	 */
+	private void release() {
+		for(ObjectIntMap.Entry<String> entry : released) {
+			for(int i = 0; i < entry.value && Game.assets.isLoaded(entry.key); i++) {
+				Game.assets.unload(entry.key);
+			}
+		}
+		released.clear();
+	}
+	
     /**
      * Handle window resizing.
      * Performed when window client resized.
@@ -220,6 +296,7 @@ public class LoaderScreen implements Screen {
     @Override
     public void hide() {
 		Game.scene.clear();
+		Game.physics.paused = false;
     }
 
     /**
@@ -55,18 +55,18 @@ public class MenuScreen implements GameScreen {
 	@Override
 	public void prepare() {
 		// preload actor resources
-		Game.assets.load("assets/button.png", Texture.class);
+		Game.atlas.preload("assets/button.png");
 		Game.assets.load("assets/blueprint.png", Texture.class);
-		Game.assets.load("assets/dustbin-rush.png", Texture.class);
+		Game.atlas.preload("assets/dustbin-rush.png");
 		
 		// buttony
-		Game.assets.load("assets/menu-start.png", Texture.class);
-		Game.assets.load("assets/menu-opcje.png", Texture.class);
-		Game.assets.load("assets/menu-wyjscie.png", Texture.class);
-		Game.assets.load("assets/menu-wroc.png", Texture.class);
+		Game.atlas.preload("assets/menu-start.png");
+		Game.atlas.preload("assets/menu-opcje.png");
+		Game.atlas.preload("assets/menu-wyjscie.png");
+		Game.atlas.preload("assets/menu-wroc.png");
 		
 		// poziomy
-		Game.assets.load("assets/levels/a.png", Texture.class);
+		Game.atlas.preload("assets/levels/a.png");
 	}
 	
 	private int showNext = 0;
@@ -135,13 +135,13 @@ public class MenuScreen implements GameScreen {
 		Game.scene.GUI.dispose();
 		
 		// stworz obiekty menu na nowo
-		Game.scene.GUI.add(new ButtonActor(1, Game.assets.get("assets/menu-start.png", Texture.class), -200, 30, new ButtonActionListener() {
+		Game.scene.GUI.add(new ButtonActor(1, Game.atlas.getRegion("assets/menu-start.png"), -200, 30, new ButtonActionListener() {
 			@Override
 			public void clicked(ButtonActor btn) {
 				Game.app.getScreenAs(MenuScreen.class).showNext = 2;
 			}
 		}));
-		Game.scene.GUI.add(new ButtonActor(2, Game.assets.get("assets/menu-opcje.png", Texture.class), -200, -80, new ButtonActionListener() {
+		Game.scene.GUI.add(new ButtonActor(2, Game.atlas.getRegion("assets/menu-opcje.png"), -200, -80, new ButtonActionListener() {
 			// otworz plik cfg
 			@Override
 			public void clicked(ButtonActor btn) {
@@ -154,7 +154,7 @@ public class MenuScreen implements GameScreen {
 				}
 			}
 		}));
-		Game.scene.GUI.add(new ButtonActor(3, Game.assets.get("assets/menu-wyjscie.png", Texture.class), -200, -210, new ButtonActionListener() {
+		Game.scene.GUI.add(new ButtonActor(3, Game.atlas.getRegion("assets/menu-wyjscie.png"), -200, -210, new ButtonActionListener() {
 			// zamknij gre
 			@Override
 			public void clicked(ButtonActor btn) {
@@ -168,14 +168,14 @@ public class MenuScreen implements GameScreen {
 		Game.scene.GUI.dispose();
 		
 		// stworz obiekty menu na nowo
-		Game.scene.GUI.add(new ButtonActor(1, Game.assets.get("assets/levels/a.png", Texture.class), -300, -200, new ButtonActionListener() {
+		Game.scene.GUI.add(new ButtonActor(1, Game.atlas.getRegion("assets/levels/a.png"), -300, -200, new ButtonActionListener() {
 			@Override
 			public void clicked(ButtonActor btn) {
 				Game.app.setNextScreen(new StageScreen("a"));
 			}
 		}));
 		
-		Game.scene.GUI.add(new ButtonActor(1, Game.assets.get("assets/menu-wroc.png", Texture.class), 300, -200, new ButtonActionListener() {
+		Game.scene.GUI.add(new ButtonActor(1, Game.atlas.getRegion("assets/menu-wroc.png"), 300, -200, new ButtonActionListener() {
 			@Override
 			public void clicked(ButtonActor btn) {
 				Game.app.getScreenAs(MenuScreen.class).showNext = 1;
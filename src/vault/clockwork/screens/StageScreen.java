@@ -25,21 +25,18 @@ package vault.clockwork.screens;
 
 import static com.badlogic.gdx.Gdx.gl;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Texture;
 import vault.clockwork.Game;
 import vault.clockwork.Vault;
-import vault.clockwork.actors.GameLogoActor;
-import vault.clockwork.actors.GroundActor;
-import vault.clockwork.actors.HandActor;
-import vault.clockwork.actors.PaperBallActor;
+import vault.clockwork.actors.StaticGeometryActor;
 import vault.clockwork.controllers.CameraController;
+import vault.clockwork.controllers.ChunkController;
 import vault.clockwork.controllers.MenuController;
-import vault.clockwork.editor.PropHolder;
+import vault.clockwork.editor.CompiledLevel;
+import vault.clockwork.editor.LevelCompiler;
+import vault.clockwork.editor.PropLoader;
 import vault.clockwork.editor.PropSerialized;
 import vault.clockwork.scene.Actor;
-import vault.clockwork.system.Scene;
 
 /**
  * Playable stage screen.
@@ -56,6 +53,11 @@ public class StageScreen implements GameScreen {
 	 */
 	private final CameraController camera = new CameraController();
 	
+	/**
+	 * Level loaded along the loader screen.
+	 */
+	private PropLoader level;
+	
 	/**
 	 * Ctor.
 	 * @param filename 
@@ -70,43 +72,30 @@ public class StageScreen implements GameScreen {
 	 */
 	@Override
 	public void prepare() {
-		Game.assets.load("assets/turret.png", Texture.class);
-		Game.assets.load("assets/blueprint.png", Texture.class);
-		Game.assets.load("assets/dragonball.png", Texture.class);
-		Game.assets.load("assets/dbin.png", Texture.class);
-                Game.assets.load("assets/dbinbg.png", Texture.class);
-		Game.assets.load("assets/paperball.png", Texture.class);
-		Game.assets.load("assets/longtrunk.png", Texture.class);
-		Game.assets.load("assets/mediumtrunk.png", Texture.class);
-		Game.assets.load("assets/shorttrunk.png", Texture.class);
-		Game.assets.load("assets/planet.png", Texture.class);
-		Game.assets.load("assets/space.png", Texture.class);
-		Game.assets.load(Vault.BGA_DESERT, Texture.class);
-		Game.assets.load(Vault.BGB_DESERT, Texture.class);
-		Game.assets.load("assets/kamyk.png", Texture.class);
-		Game.assets.load("assets/kamyk2.png", Texture.class);
-		Game.assets.load("assets/kamyk3.png", Texture.class);
-		Game.assets.load("assets/klocek.png", Texture.class);
-		Game.assets.load("assets/poducha.png", Texture.class);
-		Game.assets.load("assets/hill.png", Texture.class);
-		Game.assets.load("assets/face.png", Texture.class);
-		Game.assets.load("assets/rock.png", Texture.class);
-		Game.assets.load("assets/stone.png", Texture.class);
-		Game.assets.load(Vault.SOUND_PAPERHIT, Sound.class);
-		Game.assets.load(Vault.SOUND_WOODBOUNCE, Sound.class);
-		Game.assets.load(Vault.SOUND_KOSZ1, Sound.class);
-		Game.assets.load(Vault.SOUND_KOSZ2, Sound.class);
-		Game.assets.load(Vault.SOUND_KOSZ3, Sound.class);
-		Game.assets.load(Vault.SOUND_KOSZ4, Sound.class);
-		Game.assets.load(Vault.SOUND_KOSZ5, Sound.class);
+		// stage menu
+		Game.atlas.preload(Vault.MENU_BACK_TO_MENU);
 		
-		Game.assets.load(Vault.MENU_BACK_TO_MENU, Texture.class);
-		
-		// preload resources
-		GroundActor.preload();
-		GameLogoActor.preload();
-		HandActor.preload();
-		PaperBallActor.preload();
+		// parse the level along the assets used by its props
+		level = this.open(filename, true);
+	}
+	
+	/**
+	 * Instance the level actors, by the loader thread.
+	 * @see GameScreen#prepareUpdate() 
+	 * @return 
+	 */
+	@Override
+	public boolean prepareUpdate() {
+		return level == null || level.update();
+	}
+	
+	/**
+	 * @see GameScreen#getProgress() 
+	 * @return 
+	 */
+	@Override
+	public float getProgress() {
+		return level == null ? 1.f : level.getProgress();
 	}
 
 	/**
@@ -123,8 +112,11 @@ public class StageScreen implements GameScreen {
 		// register input processors
 		Game.inputMultiplexer.addProcessor(camera);
 		
-		// wczytaj scene
-		this.load(filename);
+		// wczytaj scene, instancjonowana przez loader
+		if(level == null) {
+			level = this.open(filename, false);
+		}
+		this.place();
 	}
 
 	/**
@@ -154,32 +146,85 @@ public class StageScreen implements GameScreen {
 	 * @param filename Sciezka do poziomu.
 	 */
 	public void load(String filename) {
-		PropHolder props = PropHolder.load(filename);
+		level = this.open(filename, false);
+		this.place();
+	}
+	
+	/**
+	 * Start the level loader.
+	 * Compiled level is read when up-to-date, otherwise compiled by
+	 * the loader thread, the source level is parsed when it fails.
+	 * @see LevelCompiler#current(java.lang.String) 
+	 * @param filename Sciezka do poziomu.
+	 * @param assets Queue the assets of the level.
+	 * @return Level loader.
+	 */
+	private PropLoader open(String filename, boolean assets) {
+		CompiledLevel compiled = LevelCompiler.current(filename);
+		if(compiled == null) {
+			// the manifest is gathered by the compile
+			return PropLoader.compile(filename, isStreaming(), assets);
+		}
+		
+		if(assets) {
+			compiled.manifest.load();
+		}
+		return new PropLoader(compiled, isStreaming());
+	}
+	
+	/**
+	 * Place the level actors onto the scene.
+	 * Props not instanced by the loader screen are instanced at once,
+	 * streamed props are put into the chunks, by the index of
+	 * the compiled level when it fits the chunks size.
+	 */
+	private void place() {
+		level.finish();
+		CompiledLevel compiled = level.getLevel();
 		
-		// sortuj aktorow po ID
-		props.sort();
+		// baked collision of the static props
+		if(compiled.geometry.size() > 0) {
+			Game.scene.BACKGROUND.add(new StaticGeometryActor(-1, compiled.geometry));
+		}
 		
-		// instance props onto the scene
-		for(PropSerialized prop : props) {
-			Actor actor = (Actor)prop.instance();
+		ChunkController chunks = null;
+		if(level.streaming) {
+			chunks = new ChunkController(camera.camera, Game.config.chunkSize);
+			Game.scene.controllers.add(chunks);
+		}
+		boolean indexed = chunks != null && compiled.chunkSize == Game.config.chunkSize;
+		
+		for(int i = 0; i < level.size(); i++) {
+			Actor actor = (Actor)level.getActor(i);
+			PropSerialized prop = level.getProp(i);
 			
-			// place the instanced actor
-			if(actor != null) {
-				Scene.Layer layer = Game.scene.BACKGROUND;
-				
-				// select layer
-				switch(prop.layer) {
-					case 1: layer = Game.scene.ACTION_1; break;
-					case 2: layer = Game.scene.ACTION_2; break;
-					case 3: layer = Game.scene.ACTION_3; break;
-					case 4: layer = Game.scene.FOREGROUND; break;
-					case 5: layer = Game.scene.GUI;break;
-					case 6: layer = Game.scene.DEBUG; break;
+			if(chunks != null && prop.isStreamed()) {
+				if(!indexed) {
+					chunks.add(prop);
+				}
+			} else if(actor != null) {
+				// place the instanced actor
+				Game.scene.getLayer(prop.layer).add(actor);
+			}
+		}
+		
+		// chunks of the compiled index
+		if(indexed) {
+			for(CompiledLevel.Cell cell : compiled.cells) {
+				for(int i = 0; i < cell.props.size; i++) {
+					chunks.add(cell.x, cell.y, level.getProp(cell.props.get(i)));
 				}
-				
-				// place the actor
-				layer.add(actor);
 			}
 		}
+		level = null;
+	}
+	
+	/**
+	 * Level chunks are streamed along the camera.
+	 * @see vault.clockwork.Config#chunkSize
+	 * @return <b>TRUE</b> when the chunks streaming is enabled.
+	 */
+	private boolean isStreaming() {
+		return Game.config.chunkSize > 0;
 	}
 }
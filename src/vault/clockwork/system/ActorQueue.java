@@ -0,0 +1,204 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.system;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import vault.clockwork.scene.Actor;
+
+/**
+ * Lock-free multi-producer single-consumer queue of the actors.
+ * Any thread pushes the actors, only the layer flush polls them.
+ * Producers never wait, each push swaps the head and links the node.
+ * Actors keep the order of the pushes.
+ * Nodes are taken from the preallocated pool and given back by the poll,
+ * so the steady-state pushes do not allocate. Pushes over the pool size
+ * allocate the nodes, dropped once consumed.
+ * @author Konrad Nowakowski https://github.com/konrad92
+ */
+public class ActorQueue {
+	/**
+	 * Count of the pooled nodes.
+	 */
+	static public final int POOL_SIZE = 256;
+	
+	/**
+	 * Node of the queue.
+	 */
+	static private final class Node {
+		/**
+		 * Index of the node in the pool, <b>-1</b> when not pooled.
+		 */
+		private final int index;
+		
+		/**
+		 * Queued actor, <b>NULL</b> for the consumed nodes.
+		 */
+		private Actor actor;
+		
+		/**
+		 * Next node, linked by the producer after the head swap.
+		 */
+		private volatile Node next;
+		
+		/**
+		 * Index of the next free node in the pool, <b>-1</b> for none.
+		 */
+		private int nextFree = -1;
+		
+		/**
+		 * Ctor.
+		 * @param index Index of the node in the pool.
+		 */
+		private Node(int index) {
+			this.index = index;
+		}
+	}
+	
+	/**
+	 * Pooled nodes, by their indices.
+	 */
+	private final Node[] pool = new Node[POOL_SIZE];
+	
+	/**
+	 * Top of the free nodes stack.
+	 * Stamp in the high bits, changed by every swap against the ABA,
+	 * and the top index plus one in the low bits, <b>0</b> when empty.
+	 */
+	private final AtomicLong free = new AtomicLong();
+	
+	/**
+	 * Last pushed node, swapped by the producers.
+	 */
+	private final AtomicReference<Node> head;
+	
+	/**
+	 * Last consumed node, owned by the consumer.
+	 */
+	private Node tail;
+	
+	/**
+	 * Ctor.
+	 */
+	public ActorQueue() {
+		for(int i = 0; i < POOL_SIZE; i++) {
+			pool[i] = new Node(i);
+			this.release(pool[i]);
+		}
+		
+		this.tail = new Node(-1);
+		this.head = new AtomicReference<>(this.tail);
+	}
+	
+	/**
+	 * Push the actor to the queue.
+	 * Safe to call from any thread.
+	 * @param actor Actor to push.
+	 */
+	public void push(Actor actor) {
+		Node node = this.obtain();
+		node.actor = actor;
+		node.next = null;
+		head.getAndSet(node).next = node;
+	}
+	
+	/**
+	 * Poll the oldest actor of the queue.
+	 * Consumer thread only. Actor pushed in the very same moment may be not
+	 * linked yet, it is polled by the next call then.
+	 * @return Actor, or <b>NULL</b> when the queue is empty.
+	 */
+	public Actor poll() {
+		Node next = tail.next;
+		if(next == null) {
+			return null;
+		}
+		
+		Actor actor = next.actor;
+		next.actor = null;
+		
+		// the last consumed node is linked no more
+		this.release(tail);
+		tail = next;
+		return actor;
+	}
+	
+	/**
+	 * Take the free node from the pool.
+	 * @return Pooled node, or the new one when the pool is empty.
+	 */
+	private Node obtain() {
+		while(true) {
+			long top = free.get();
+			int index = (int)top - 1;
+			if(index < 0) {
+				return new Node(-1);
+			}
+			
+			Node node = pool[index];
+			long next = (((top >>> 32) + 1) << 32) | ((node.nextFree + 1) & 0xFFFFFFFFL);
+			if(free.compareAndSet(top, next)) {
+				return node;
+			}
+		}
+	}
+	
+	/**
+	 * Give the node back to the pool.
+	 * @param node Node not linked anymore.
+	 */
+	private void release(Node node) {
+		if(node.index < 0) {
+			return;
+		}
+		
+		while(true) {
+			long top = free.get();
+			node.nextFree = (int)top - 1;
+			long next = (((top >>> 32) + 1) << 32) | ((node.index + 1) & 0xFFFFFFFFL);
+			if(free.compareAndSet(top, next)) {
+				return;
+			}
+		}
+	}
+	
+	/**
+	 * Queue has no linked actors.
+	 * Consumer thread only.
+	 * @return <b>TRUE</b> when nothing to poll.
+	 */
+	public boolean isEmpty() {
+		return tail.next == null;
+	}
+	
+	/**
+	 * Drop all the linked actors.
+	 * Consumer thread only.
+	 */
+	public void clear() {
+		while(poll() != null) {
+			// drop the actor
+		}
+	}
+}
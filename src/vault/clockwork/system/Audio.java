@@ -0,0 +1,371 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.system;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.MathUtils;
+import java.util.Comparator;
+import vault.clockwork.Game;
+
+/**
+ * Sound voices manager.
+ * Play requests are queued during the frame and issued at once,
+ * limited by the voices count and culled by the camera distance.
+ * @author Konrad Nowakowski https://github.com/konrad92
+ */
+public class Audio implements System {
+	/**
+	 * Queued play request.
+	 */
+	static private class Request {
+		public Sound sound;
+		public float volume, x, y;
+		public int priority;
+		public boolean positional;
+	}
+	
+	/**
+	 * Playing sound voice.
+	 */
+	static private class Voice {
+		public Sound sound;
+		public long id;
+		public float started, score;
+	}
+	
+	/**
+	 * Generic play priorities.
+	 * Higher priority voices steal the lower ones.
+	 */
+	static public final int
+		PRIORITY_LOW = 0,
+		PRIORITY_NORMAL = 1,
+		PRIORITY_HIGH = 2;
+	
+	/**
+	 * Maximum count of the voices playing at once.
+	 */
+	static public final int MAX_VOICES = 16;
+	
+	/**
+	 * Maximum count of the voices playing the same sound.
+	 */
+	static public final int MAX_VOICES_PER_SOUND = 4;
+	
+	/**
+	 * Maximum count of the requests queued during the frame.
+	 */
+	static public final int MAX_REQUESTS = 64;
+	
+	/**
+	 * Time in seconds the voice is considered playing.
+	 * Sounds do not report their end, impacts are short anyway.
+	 */
+	static public final float VOICE_LIFETIME = .6f;
+	
+	/**
+	 * Quietest volume worth playing.
+	 */
+	static public final float MIN_VOLUME = .05f;
+	
+	/**
+	 * Queued requests.
+	 */
+	private final Request[] requests = new Request[MAX_REQUESTS];
+	
+	/**
+	 * Count of the queued requests.
+	 */
+	private int requestsCount = 0;
+	
+	/**
+	 * Voices slots.
+	 */
+	private final Voice[] voices = new Voice[MAX_VOICES];
+	
+	/**
+	 * Orders the requests by the priority and volume, loudest first.
+	 */
+	private final Comparator<Request> byScore = new Comparator<Request>() {
+		@Override
+		public int compare(Request a, Request b) {
+			return Float.compare(b.priority + b.volume, a.priority + a.volume);
+		}
+	};
+	
+	/**
+	 * Audio time, in seconds.
+	 */
+	private float time = 0.f;
+	
+	/**
+	 * Plays requested, played and dropped during the last frame.
+	 */
+	public int requested = 0, played = 0, dropped = 0;
+	
+	/**
+	 * Counters of the current frame.
+	 */
+	private int frameRequested = 0, framePlayed = 0, frameDropped = 0;
+	
+	/**
+	 * Ctor.
+	 */
+	public Audio() {
+		for(int i = 0; i < MAX_REQUESTS; i++) {
+			requests[i] = new Request();
+		}
+		for(int i = 0; i < MAX_VOICES; i++) {
+			voices[i] = new Voice();
+		}
+	}
+	
+	/**
+	 * Queue the sound played at the scene position.
+	 * Sound is attenuated by the distance from the camera.
+	 * @param sound Sound to play.
+	 * @param volume Volume in range [0, 1].
+	 * @param x Position on the scene.
+	 * @param y Position on the scene.
+	 * @param priority Play priority.
+	 */
+	public void play(Sound sound, float volume, float x, float y, int priority) {
+		Request request = this.queue(sound, volume, priority);
+		if(request != null) {
+			request.positional = true;
+			request.x = x;
+			request.y = y;
+		}
+	}
+	
+	/**
+	 * Queue the sound played regardless of the camera.
+	 * @param sound Sound to play.
+	 * @param volume Volume in range [0, 1].
+	 * @param priority Play priority.
+	 */
+	public void play(Sound sound, float volume, int priority) {
+		Request request = this.queue(sound, volume, priority);
+		if(request != null) {
+			request.positional = false;
+		}
+	}
+	
+	/**
+	 * Take the free request from the queue.
+	 * @return <b>NULL</b> when the request is dropped.
+	 */
+	private Request queue(Sound sound, float volume, int priority) {
+		if(sound == null || !Game.config.sounds) {
+			return null;
+		}
+		
+		frameRequested++;
+		if(requestsCount == MAX_REQUESTS) {
+			frameDropped++;
+			return null;
+		}
+		
+		Request request = requests[requestsCount++];
+		request.sound = sound;
+		request.volume = MathUtils.clamp(volume, 0.f, 1.f);
+		request.priority = priority;
+		return request;
+	}
+	
+	/**
+	 * Current audio time.
+	 * Use it for the sound cooldowns.
+	 * @return Time in seconds.
+	 */
+	public float getTime() {
+		return time;
+	}
+	
+	/**
+	 * Count of the playing voices.
+	 * @return Voices count.
+	 */
+	public int getVoices() {
+		int count = 0;
+		for(Voice voice : voices) {
+			if(voice.sound != null) {
+				count++;
+			}
+		}
+		return count;
+	}
+	
+	/**
+	 * Advance the audio time.
+	 * @see System#perform() 
+	 */
+	@Override
+	public void perform() {
+		time += Gdx.graphics.getDeltaTime();
+	}
+	
+	/**
+	 * Sort the queued requests by the score.
+	 * Insertion sort, stable and with no allocation, unlike the merge
+	 * buffer of Arrays.sort above 32 requests.
+	 */
+	private void sortRequests() {
+		for(int i = 1; i < requestsCount; i++) {
+			Request request = requests[i];
+			int j = i - 1;
+			for(; j >= 0 && byScore.compare(requests[j], request) > 0; j--) {
+				requests[j + 1] = requests[j];
+			}
+			requests[j + 1] = request;
+		}
+	}
+	
+	/**
+	 * Issue the requests queued during the frame.
+	 * @see System#postPerform() 
+	 */
+	@Override
+	public void postPerform() {
+		// release finished voices
+		for(Voice voice : voices) {
+			if(voice.sound != null && time - voice.started > VOICE_LIFETIME) {
+				voice.sound = null;
+			}
+		}
+		
+		// loudest requests go first
+		this.sortRequests();
+		
+		// hearing range of the camera
+		OrthographicCamera camera = Game.mainCamera;
+		float range = 0.f;
+		if(camera != null) {
+			range = .5f * camera.zoom * (float)Math.sqrt(
+				camera.viewportWidth * camera.viewportWidth +
+				camera.viewportHeight * camera.viewportHeight
+			);
+		}
+		
+		for(int i = 0; i < requestsCount; i++) {
+			Request request = requests[i];
+			float volume = request.volume, pan = 0.f;
+			
+			// attenuate by the camera distance, silent at the double range
+			if(request.positional && camera != null && range > 0.f) {
+				float dx = request.x - camera.position.x,
+					dy = request.y - camera.position.y,
+					distance = (float)Math.sqrt(dx*dx + dy*dy);
+				
+				volume *= MathUtils.clamp(2.f - distance / range, 0.f, 1.f);
+				pan = MathUtils.clamp(dx / range, -1.f, 1.f) * .5f;
+			}
+			
+			if(volume >= MIN_VOLUME && this.issue(request.sound, volume, pan, request.priority + volume)) {
+				framePlayed++;
+			} else {
+				frameDropped++;
+			}
+			
+			request.sound = null;
+		}
+		requestsCount = 0;
+		
+		// publish the frame counters
+		requested = frameRequested;
+		played = framePlayed;
+		dropped = frameDropped;
+		frameRequested = framePlayed = frameDropped = 0;
+	}
+	
+	/**
+	 * Play the sound on the free voice, or steal the weakest one.
+	 * @return <b>FALSE</b> when all voices are stronger.
+	 */
+	private boolean issue(Sound sound, float volume, float pan, float score) {
+		Voice free = null, weakest = null, weakestSame = null;
+		int sameCount = 0;
+		
+		for(Voice voice : voices) {
+			if(voice.sound == null) {
+				if(free == null) {
+					free = voice;
+				}
+				continue;
+			}
+			
+			if(weakest == null || voice.score < weakest.score) {
+				weakest = voice;
+			}
+			if(voice.sound == sound) {
+				sameCount++;
+				if(weakestSame == null || voice.score < weakestSame.score) {
+					weakestSame = voice;
+				}
+			}
+		}
+		
+		// choose the voice to play on
+		Voice target;
+		if(sameCount >= MAX_VOICES_PER_SOUND) {
+			target = weakestSame.score < score ? weakestSame : null;
+		} else if(free != null) {
+			target = free;
+		} else {
+			target = weakest.score < score ? weakest : null;
+		}
+		
+		if(target == null) {
+			return false;
+		}
+		
+		// steal the voice
+		if(target.sound != null) {
+			target.sound.stop(target.id);
+		}
+		
+		target.sound = sound;
+		target.id = sound.play(volume, 1.f, pan);
+		target.started = time;
+		target.score = score;
+		return true;
+	}
+	
+	/**
+	 * Stop all playing voices.
+	 * @see System#dispose() 
+	 */
+	@Override
+	public void dispose() {
+		for(Voice voice : voices) {
+			if(voice.sound != null) {
+				voice.sound.stop(voice.id);
+				voice.sound = null;
+			}
+		}
+		requestsCount = 0;
+	}
+}
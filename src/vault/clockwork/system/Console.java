@@ -94,6 +94,16 @@ public class Console extends InputAdapter implements System {
 	 * Type indicator tickness.
 	 */
 	private int tickness = 0;
+	
+	/**
+	 * Screen projection of the console.
+	 */
+	private final Matrix4 ortho = new Matrix4();
+	
+	/**
+	 * Input line with the type indicator.
+	 */
+	private final StringBuilder line = new StringBuilder();
 
 	/**
 	 * Ctor.
@@ -143,7 +153,7 @@ public class Console extends InputAdapter implements System {
 			scheight = (float)Gdx.graphics.getHeight();
 		
 		// assign projection to the renderers
-		Matrix4 ortho = new Matrix4().setToOrtho2D(0.f, 0.f, scwidth, scheight);
+		ortho.setToOrtho2D(0.f, 0.f, scwidth, scheight);
 		
 		renderer.setProjectionMatrix(ortho);
 		batch.setProjectionMatrix(ortho);
@@ -166,7 +176,12 @@ public class Console extends InputAdapter implements System {
 		for(int i = 0; i < logs.size; i++) {
 			font.draw(batch, logs.get(logs.size - i - 1), 5.f, scheight - height + 25.f + 19.f * (i+1));
 		}
-		font.draw(batch, input + ((tickness % 30 < 15) ? "|" : ""), 5.f, scheight - height + 25.f);
+		line.setLength(0);
+		line.append(input);
+		if(tickness % 30 < 15) {
+			line.append('|');
+		}
+		font.draw(batch, line, 5.f, scheight - height + 25.f);
 		batch.end();
 	}
 
@@ -49,6 +49,16 @@ public class Debug implements System {
 	 */
 	private final SpriteBatch batch;
 	
+	/**
+	 * Screen projection of the debug screen.
+	 */
+	private final Matrix4 ortho = new Matrix4();
+	
+	/**
+	 * Text of the debug screen.
+	 */
+	private final StringBuilder text = new StringBuilder();
+	
 	/**
 	 * Ctor.
 	 */
@@ -59,6 +69,7 @@ public class Debug implements System {
 	
 	/**
 	 * Nothing todo.
+	 * Frame allocations are measured by the headless allocation check.
 	 * @see System#perform() 
 	 */
 	@Override
@@ -71,31 +82,68 @@ public class Debug implements System {
 	 */
 	@Override
 	public void postPerform() {
-		String fps = "FPS: " + Gdx.graphics.getFramesPerSecond() + "\n";
+		text.setLength(0);
+		text.append("FPS: ");
+		text.append(Gdx.graphics.getFramesPerSecond());
+		text.append('\n');
 		
 		if(Game.DEBUG_INFO || Game.DEBUG_ADDITIONAL) {
+			FrameStats.append(info, FrameStats.frame);
+			info.append('\n');
 			info.append("Layer debug info");
-			info.append("\nACTION_1: ");
-			info.append(Game.scene.ACTION_1.actors.size);
-			info.append("\nACTION_2: ");
-			info.append(Game.scene.ACTION_2.actors.size);
-			info.append("\nACTION_3: ");
-			info.append(Game.scene.ACTION_3.actors.size);
+			appendLayer("\nACTION_1: ", Game.scene.ACTION_1);
+			appendLayer("\nACTION_2: ", Game.scene.ACTION_2);
+			appendLayer("\nACTION_3: ", Game.scene.ACTION_3);
+			info.append("\nDraw calls: ");
+			info.append(Game.scene.getRenderCalls());
+			info.append("\nContacts: ");
+			info.append(Game.physics.dispatchedEvents);
+			info.append("\nSounds: ");
+			info.append(Game.audio.played);
+			info.append('/');
+			info.append(Game.audio.requested);
+			info.append(" (dropped: ");
+			info.append(Game.audio.dropped);
+			info.append(", voices: ");
+			info.append(Game.audio.getVoices());
+			info.append(')');
+			
+			// frame timers
+			if(Profiler.enabled) {
+				info.append('\n');
+				Profiler.append(info);
+			}
+			
+			text.append(info);
 		}
 		
 		// drwa-up the debug screen
 		batch.begin();
-		batch.setProjectionMatrix(new Matrix4().setToOrtho2D(0.f, 0.f,
+		batch.setProjectionMatrix(ortho.setToOrtho2D(0.f, 0.f,
 			(float)Gdx.graphics.getWidth(), (float)Gdx.graphics.getHeight()
 		));
-		font.drawMultiLine(batch, Game.DEBUG_INFO || Game.DEBUG_ADDITIONAL ?
-			fps + info.toString() : fps, 5.f, (float)Gdx.graphics.getHeight() - 5.f);
+		font.drawMultiLine(batch, text, 5.f, (float)Gdx.graphics.getHeight() - 5.f);
 		batch.end();
 		
 		// clear up debug information
 		info.setLength(0);
 	}
 
+	/**
+	 * Append the layer actors counters.
+	 * @param name Name of the layer.
+	 * @param layer Layer to describe.
+	 */
+	private void appendLayer(String name, Scene.Layer layer) {
+		info.append(name);
+		info.append(layer.size());
+		info.append(" (drawn: ");
+		info.append(layer.drawn);
+		info.append(", culled: ");
+		info.append(layer.culled);
+		info.append(')');
+	}
+	
 	/**
 	 * Release all resources used by the debugging screen.
 	 * @see System#dispose() 
@@ -0,0 +1,243 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.system;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.TimeUtils;
+import vault.clockwork.Game;
+
+/**
+ * Frame time histograms.
+ * Always recording, unlike the profiler, as the stutter shows up in the
+ * percentiles of the long runs, not in the FPS counter.
+ * @author Konrad Nowakowski https://github.com/konrad92
+ */
+public class FrameStats {
+	/**
+	 * Time between the consecutive frames.
+	 */
+	static public final Histogram frame = new Histogram("frame");
+	
+	/**
+	 * Time of the physics steps within the frame.
+	 */
+	static public final Histogram physics = new Histogram("physics");
+	
+	/**
+	 * Time of the scene draw phase within the frame.
+	 */
+	static public final Histogram draw = new Histogram("draw");
+	
+	/**
+	 * All histograms, in the export order.
+	 */
+	static private final Histogram[] histograms = { frame, physics, draw };
+	
+	/**
+	 * Exported percentiles.
+	 */
+	static private final double[] PERCENTILES = { 50.0, 90.0, 99.0, 99.9 };
+	
+	/**
+	 * Time of the last frame start.
+	 */
+	static private long lastFrame = 0;
+	
+	/**
+	 * Record the frame time.
+	 * Performed once per frame.
+	 */
+	static public void frame() {
+		long now = TimeUtils.nanoTime();
+		if(lastFrame != 0) {
+			frame.record(now - lastFrame);
+		}
+		lastFrame = now;
+	}
+	
+	/**
+	 * Drop all recorded values.
+	 */
+	static public void reset() {
+		for(Histogram histogram : histograms) {
+			histogram.reset();
+		}
+		lastFrame = 0;
+	}
+	
+	/**
+	 * Append the summary of the histogram, in milliseconds.
+	 * @param info Target builder.
+	 * @param histogram Histogram to summarize.
+	 */
+	static public void append(StringBuilder info, Histogram histogram) {
+		info.append(histogram.name);
+		info.append(" p50/p99/p99.9: ");
+		appendMillis(info, histogram.getPercentile(50.0));
+		info.append(" / ");
+		appendMillis(info, histogram.getPercentile(99.0));
+		info.append(" / ");
+		appendMillis(info, histogram.getPercentile(99.9));
+		info.append(" ms");
+	}
+	
+	/**
+	 * Append the nanoseconds as the milliseconds with two decimals.
+	 * @param info Target builder.
+	 * @param nanos Nanoseconds.
+	 */
+	static private void appendMillis(StringBuilder info, long nanos) {
+		long hundredths = nanos / 10000;
+		info.append(hundredths / 100);
+		info.append('.');
+		if(hundredths % 100 < 10) {
+			info.append('0');
+		}
+		info.append(hundredths % 100);
+	}
+	
+	/**
+	 * Summary of the histograms as CSV, one histogram per row.
+	 * Times in microseconds.
+	 * @return CSV contents.
+	 */
+	static public String toCsv() {
+		StringBuilder csv = new StringBuilder();
+		csv.append("histogram,count,min,mean");
+		for(double percentile : PERCENTILES) {
+			csv.append(",p");
+			csv.append(percentile);
+		}
+		csv.append(",max\n");
+		
+		for(Histogram histogram : histograms) {
+			csv.append(histogram.name);
+			csv.append(',');
+			csv.append(histogram.getCount());
+			csv.append(',');
+			csv.append(histogram.getMin() / 1000);
+			csv.append(',');
+			csv.append(histogram.getMean() / 1000);
+			for(double percentile : PERCENTILES) {
+				csv.append(',');
+				csv.append(histogram.getPercentile(percentile) / 1000);
+			}
+			csv.append(',');
+			csv.append(histogram.getMax() / 1000);
+			csv.append('\n');
+		}
+		return csv.toString();
+	}
+	
+	/**
+	 * Histograms as JSON, with the summary and the non-empty buckets.
+	 * Times in microseconds, buckets as [lowest, highest, count].
+	 * @return JSON contents.
+	 */
+	static public String toJson() {
+		StringBuilder json = new StringBuilder();
+		json.append("{\n");
+		for(int h = 0; h < histograms.length; h++) {
+			Histogram histogram = histograms[h];
+			json.append("\t\"").append(histogram.name).append("\": {\n");
+			json.append("\t\t\"count\": ").append(histogram.getCount()).append(",\n");
+			json.append("\t\t\"min\": ").append(histogram.getMin() / 1000).append(",\n");
+			json.append("\t\t\"mean\": ").append(histogram.getMean() / 1000).append(",\n");
+			for(double percentile : PERCENTILES) {
+				json.append("\t\t\"p").append(percentile).append("\": ");
+				json.append(histogram.getPercentile(percentile) / 1000).append(",\n");
+			}
+			json.append("\t\t\"max\": ").append(histogram.getMax() / 1000).append(",\n");
+			
+			// non-empty buckets
+			json.append("\t\t\"buckets\": [");
+			boolean first = true;
+			for(int i = 0; i < Histogram.BUCKETS; i++) {
+				if(histogram.getCount(i) > 0) {
+					json.append(first ? "\n" : ",\n");
+					json.append("\t\t\t[").append(Histogram.getLowest(i) / 1000.0);
+					json.append(", ").append(Histogram.getHighest(i) / 1000.0);
+					json.append(", ").append(histogram.getCount(i)).append(']');
+					first = false;
+				}
+			}
+			json.append("\n\t\t]\n");
+			json.append(h + 1 < histograms.length ? "\t},\n" : "\t}\n");
+		}
+		json.append("}\n");
+		return json.toString();
+	}
+	
+	/**
+	 * Save the histograms to the file.
+	 * Format is chosen by the extension, JSON or CSV.
+	 * @param filename Local filename to write.
+	 * @return <b>TRUE</b> on successfuly save, <b>FALSE</b> otherwise.
+	 */
+	static public boolean save(String filename) {
+		FileHandle fileHandle = Gdx.files.local(filename);
+		
+		// save the histograms if able
+		if(!fileHandle.isDirectory()) {
+			boolean json = fileHandle.extension().equalsIgnoreCase("json");
+			fileHandle.writeString(json ? toJson() : toCsv(), false);
+			return true;
+		} else {
+			return false;
+		}
+	}
+	
+	/**
+	 * Register the frame stats commands.
+	 */
+	static public void registerCommands() {
+		Game.console.commands.put("perf", new ConsoleAction() {
+			@Override
+			public String perform(String[] params) {
+				if(params.length == 2 && params[1].equals("reset")) {
+					reset();
+					return "Frame stats reset";
+				}
+				else if(params.length == 2 && params[1].equals("print")) {
+					StringBuilder print = new StringBuilder();
+					for(Histogram histogram : histograms) {
+						append(print, histogram);
+						Game.console.logs.add(print.toString());
+						print.setLength(0);
+					}
+					return frame.getCount() + " frames recorded";
+				}
+				else if(params.length == 3 && params[1].equals("dump")) {
+					if(save(params[2])) {
+						return "Frame stats saved to '" + params[2] + "'";
+					}
+					return "Cannot save '" + params[2] + "'";
+				}
+				
+				return "perf reset|print|dump filename.csv|json";
+			}
+		});
+	}
+}
@@ -0,0 +1,218 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.system;
+
+/**
+ * Fixed memory histogram of the time values.
+ * Buckets grow logarithmically, every power of two range is split into
+ * the linear sub-buckets, so the values are kept with the constant
+ * relative precision (about 1.6%) from the nanoseconds up to a minute.
+ * Recording never allocates.
+ * @author Konrad Nowakowski https://github.com/konrad92
+ */
+public class Histogram {
+	/**
+	 * Bits of the linear sub-buckets range.
+	 */
+	static public final int SUB_BITS = 7;
+	
+	/**
+	 * Count of the sub-buckets of the first range, and the following ones.
+	 */
+	static private final int
+		SUB_COUNT = 1 << SUB_BITS,
+		HALF_COUNT = SUB_COUNT >> 1;
+	
+	/**
+	 * Highest bit of the recorded values, bigger values are clamped.
+	 * 2^36 nanoseconds is over a minute.
+	 */
+	static public final int MAX_BIT = 36;
+	
+	/**
+	 * Count of the buckets.
+	 */
+	static public final int BUCKETS = SUB_COUNT + (MAX_BIT - SUB_BITS + 1) * HALF_COUNT;
+	
+	/**
+	 * Name of the histogram.
+	 */
+	public final String name;
+	
+	/**
+	 * Counts of the buckets.
+	 */
+	private final long[] counts = new long[BUCKETS];
+	
+	/**
+	 * Count of the recorded values.
+	 */
+	private long count = 0;
+	
+	/**
+	 * Sum, and the range of the recorded values.
+	 */
+	private long sum = 0, min = Long.MAX_VALUE, max = 0;
+	
+	/**
+	 * Ctor.
+	 * @param name Name of the histogram.
+	 */
+	public Histogram(String name) {
+		this.name = name;
+	}
+	
+	/**
+	 * Bucket of the value.
+	 * @param value Non-negative value.
+	 * @return Bucket index.
+	 */
+	static private int bucket(long value) {
+		int bit = 63 - Long.numberOfLeadingZeros(value | 1);
+		if(bit < SUB_BITS) {
+			return (int)value;
+		}
+		if(bit > MAX_BIT) {
+			return BUCKETS - 1;
+		}
+		
+		// top SUB_BITS bits of the value
+		int shift = bit - SUB_BITS + 1;
+		return SUB_COUNT + (shift - 1) * HALF_COUNT + (int)(value >> shift) - HALF_COUNT;
+	}
+	
+	/**
+	 * Lowest value of the bucket.
+	 * @param bucket Bucket index.
+	 * @return Value.
+	 */
+	static public long getLowest(int bucket) {
+		if(bucket < SUB_COUNT) {
+			return bucket;
+		}
+		
+		int shift = (bucket - SUB_COUNT) / HALF_COUNT + 1;
+		return (long)((bucket - SUB_COUNT) % HALF_COUNT + HALF_COUNT) << shift;
+	}
+	
+	/**
+	 * Highest value of the bucket.
+	 * @param bucket Bucket index.
+	 * @return Value.
+	 */
+	static public long getHighest(int bucket) {
+		if(bucket + 1 >= BUCKETS) {
+			return Long.MAX_VALUE;
+		}
+		return getLowest(bucket + 1) - 1;
+	}
+	
+	/**
+	 * Record the value.
+	 * @param value Time in nanoseconds, negative values are recorded as zero.
+	 */
+	public void record(long value) {
+		value = Math.max(0, value);
+		counts[bucket(value)]++;
+		count++;
+		sum += value;
+		min = Math.min(min, value);
+		max = Math.max(max, value);
+	}
+	
+	/**
+	 * Drop all recorded values.
+	 */
+	public void reset() {
+		for(int i = 0; i < BUCKETS; i++) {
+			counts[i] = 0;
+		}
+		count = sum = max = 0;
+		min = Long.MAX_VALUE;
+	}
+	
+	/**
+	 * Count of the recorded values.
+	 * @return Count.
+	 */
+	public long getCount() {
+		return count;
+	}
+	
+	/**
+	 * Count of the values in the bucket.
+	 * @param bucket Bucket index.
+	 * @return Count.
+	 */
+	public long getCount(int bucket) {
+		return counts[bucket];
+	}
+	
+	/**
+	 * Smallest recorded value.
+	 * @return Nanoseconds, or <b>0</b> when empty.
+	 */
+	public long getMin() {
+		return count == 0 ? 0 : min;
+	}
+	
+	/**
+	 * Biggest recorded value.
+	 * @return Nanoseconds.
+	 */
+	public long getMax() {
+		return max;
+	}
+	
+	/**
+	 * Mean of the recorded values.
+	 * @return Nanoseconds.
+	 */
+	public long getMean() {
+		return count == 0 ? 0 : sum / count;
+	}
+	
+	/**
+	 * Value at the percentile.
+	 * Highest value of the percentile bucket, so the result is never
+	 * underestimated by more than the bucket precision.
+	 * @param percentile Percentile, eg. 99.9
+	 * @return Nanoseconds.
+	 */
+	public long getPercentile(double percentile) {
+		if(count == 0) {
+			return 0;
+		}
+		
+		long rank = Math.max(1, (long)Math.ceil(count * Math.min(100.0, percentile) / 100.0));
+		long seen = 0;
+		for(int i = 0; i < BUCKETS; i++) {
+			seen += counts[i];
+			if(seen >= rank) {
+				return Math.max(min, Math.min(max, getHighest(i)));
+			}
+		}
+		return max;
+	}
+}
@@ -24,8 +24,11 @@
 package vault.clockwork.system;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.Box2D;
 import com.badlogic.gdx.physics.box2d.Box2DDebugRenderer;
 import com.badlogic.gdx.physics.box2d.Contact;
@@ -33,8 +36,20 @@ import com.badlogic.gdx.physics.box2d.ContactImpulse;
 import com.badlogic.gdx.physics.box2d.ContactListener;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.Manifold;
+import com.badlogic.gdx.physics.box2d.Transform;
 import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.physics.box2d.WorldManifold;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BufferUtils;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.TimeUtils;
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import vault.clockwork.Game;
 import vault.clockwork.scene.Actor;
 
@@ -43,6 +58,205 @@ import vault.clockwork.scene.Actor;
  * @author Konrad Nowakowski https://github.com/konrad92
  */
 public class Physics implements System, ContactListener {
+	/**
+	 * Contact of two fixtures, recorded during the step.
+	 * Events are dispatched to the actors by the game thread after the steps,
+	 * the handlers change the world by the posted commands.
+	 * Instances are reused, do not keep the references.
+	 */
+	static public class ContactEvent {
+		/**
+		 * Actors of the contact fixtures, <b>NULL</b> when not an actor.
+		 */
+		public Actor actorA, actorB;
+		
+		/**
+		 * Fixtures of the contact.
+		 */
+		public Fixture fixtureA, fixtureB;
+		
+		/**
+		 * Contact normal in world space, pointing from A to B.
+		 */
+		public final Vector2 normal = new Vector2();
+		
+		/**
+		 * First contact point in world space.
+		 */
+		public final Vector2 point = new Vector2();
+		
+		/**
+		 * Relative speed of the bodies along the normal, in world units.
+		 */
+		public float approachSpeed;
+		
+		/**
+		 * Greatest normal impulse solved at the beginning of the contact.
+		 */
+		public float impulse;
+		
+		/**
+		 * Slot of the event in the frame events.
+		 */
+		private int slot;
+		
+		/**
+		 * Next event of the same fixtures pair key.
+		 */
+		private ContactEvent nextPair;
+		
+		/**
+		 * Check the fixture belongs to the contact.
+		 * @param fixture Fixture to check.
+		 * @return <b>TRUE</b> when one of the contact fixtures.
+		 */
+		public boolean has(Fixture fixture) {
+			return fixture == fixtureA || fixture == fixtureB;
+		}
+		
+		/**
+		 * Fixture of the given actor.
+		 * @param actor One of the contact actors.
+		 * @return Fixture of the actor.
+		 */
+		public Fixture getFixture(Actor actor) {
+			return actor == actorA ? fixtureA : fixtureB;
+		}
+		
+		/**
+		 * Release the references after the dispatch.
+		 */
+		private void reset() {
+			actorA = actorB = null;
+			fixtureA = fixtureB = null;
+			nextPair = null;
+			approachSpeed = impulse = 0.f;
+		}
+	}
+	
+	/**
+	 * Contact events recorded by the steps, dispatched at once.
+	 */
+	static private class ContactEvents {
+		/**
+		 * Recorded events, reused.
+		 */
+		private ContactEvent[] events = new ContactEvent[0];
+		
+		/**
+		 * Count of the recorded events.
+		 */
+		private int count = 0;
+		
+		/**
+		 * Recorded events by the key of the fixtures pair.
+		 * Cleared by the dispatch, the capacity is kept.
+		 */
+		private final LongMap<ContactEvent> pairs = new LongMap<>();
+		
+		/**
+		 * Record the event of the new fixtures pair.
+		 * @param key Key of the pair.
+		 * @return Event to fill.
+		 */
+		private ContactEvent add(long key) {
+			// grow the events buffer
+			if(count == events.length) {
+				events = Arrays.copyOf(events, Math.max(16, events.length * 2));
+				for(int i = count; i < events.length; i++) {
+					events[i] = new ContactEvent();
+					events[i].slot = i;
+				}
+			}
+			
+			ContactEvent event = events[count++];
+			event.nextPair = pairs.get(key);
+			pairs.put(key, event);
+			return event;
+		}
+		
+		/**
+		 * Event of the fixtures pair.
+		 * @param key Key of the pair.
+		 * @param fixtureA Fixture of the contact.
+		 * @param fixtureB Fixture of the contact.
+		 * @return Recorded event, <b>NULL</b> when none.
+		 */
+		private ContactEvent find(long key, Fixture fixtureA, Fixture fixtureB) {
+			for(ContactEvent event = pairs.get(key); event != null; event = event.nextPair) {
+				if(event.has(fixtureA) && event.has(fixtureB)) {
+					return event;
+				}
+			}
+			return null;
+		}
+		
+		/**
+		 * Dispatch the recorded events to the actors.
+		 * @return Count of the dispatched events.
+		 */
+		private int dispatch() {
+			for(int i = 0; i < count; i++) {
+				ContactEvent event = events[i];
+				
+				if(event.actorA != null) {
+					event.actorA.onHit(event.actorB, event);
+				}
+				if(event.actorB != null) {
+					event.actorB.onHit(event.actorA, event);
+				}
+				event.reset();
+			}
+			
+			int dispatched = count;
+			count = 0;
+			pairs.clear();
+			return dispatched;
+		}
+	}
+	
+	/**
+	 * Render transforms published by the simulation thread.
+	 */
+	static private class Snapshot {
+		/**
+		 * Copy of the tracked bodies transforms.
+		 */
+		private FloatBuffer states = BufferUtils.newFloatBuffer(64*STRIDE);
+		
+		/**
+		 * Last command performed before the snapshot.
+		 */
+		private long command = 0;
+		
+		/**
+		 * Time of the last step, in nanoseconds.
+		 */
+		private long time = 0;
+	}
+	
+	/**
+	 * Transform placed by the game thread, and not performed yet
+	 * by the simulation thread. Drawn over the acquired snapshots,
+	 * until the snapshot of its command.
+	 */
+	static private class Placement {
+		/**
+		 * Slot of the placed body.
+		 */
+		private int slot;
+		
+		/**
+		 * Command placing the body.
+		 */
+		private long command;
+		
+		/**
+		 * Placed transform, in world units and radians.
+		 */
+		private float x, y, angle;
+	}
+	
 	/**
 	 * Sceen to world scale.
 	 */
@@ -53,8 +267,21 @@ public class Physics implements System, ContactListener {
 	 */
 	static public final float SCALE_INV = 1.f/SCALE;
 	
+	/**
+	 * Layout of the tracked body transforms, floats per slot.
+	 * Previous (x, y, angle) before the last step and current (x, y, angle)
+	 * after it, in world units and radians.
+	 */
+	static private final int
+		PREV_X = 0, PREV_Y = 1, PREV_ANGLE = 2,
+		CURR_X = 3, CURR_Y = 4, CURR_ANGLE = 5,
+		STRIDE = 6;
+	
 	/**
 	 * Box2D physics world.
+	 * Owned by the simulation thread with the threaded simulation enabled,
+	 * change it only by the posted commands.
+	 * @see #post(java.lang.Runnable) 
 	 */
 	public final World world;
 	
@@ -63,11 +290,177 @@ public class Physics implements System, ContactListener {
 	 */
 	private final Box2DDebugRenderer debugRenderer;
 	
+	/**
+	 * Projection of the debug renderer, `world to screen`.
+	 */
+	private final Matrix4 debugProjection = new Matrix4();
+	
 	/**
 	 * Step performing accumulator.
 	 */
 	private float accumulator;
 	
+	/**
+	 * Duration of the single step, from the configured physics rate.
+	 */
+	private float step = 1.f/60.f;
+	
+	/**
+	 * Interpolation factor between the previous and current transforms.
+	 */
+	private float alpha = 1.f;
+	
+	/**
+	 * Bodies tracked for the render interpolation, by slots.
+	 */
+	private Body[] trackedBodies = new Body[64];
+	
+	/**
+	 * Tracked bodies moved by the steps, static bodies are synced only
+	 * by the snap.
+	 */
+	private boolean[] movingBodies = new boolean[64];
+	
+	/**
+	 * Count of the tracked slots, including the free ones.
+	 */
+	private int trackedCount = 0;
+	
+	/**
+	 * Tracked bodies transforms, off-heap by the slots.
+	 * @see #STRIDE
+	 */
+	private FloatBuffer states = BufferUtils.newFloatBuffer(64*STRIDE);
+	
+	/**
+	 * View of the transforms, copied into the snapshots.
+	 * Own position and limit, so the copy does not disturb the readers.
+	 */
+	private FloatBuffer statesView = states.duplicate();
+	
+	/**
+	 * Transforms read by the getters, and its interpolation factor.
+	 * Live transforms, or the acquired snapshot in threaded simulation.
+	 */
+	private FloatBuffer renderStates = states;
+	private float renderAlpha = 1.f;
+	
+	/**
+	 * Snapshots of the transforms, published by the simulation thread.
+	 */
+	private final TripleBuffer<Snapshot> snapshots = new TripleBuffer<>(
+		new Snapshot(), new Snapshot(), new Snapshot()
+	);
+	
+	/**
+	 * Simulation thread, created with the threaded simulation enabled.
+	 */
+	private Simulation simulation;
+	
+	/**
+	 * World is not stepped, eg. while the loader instances the level.
+	 */
+	public volatile boolean paused = false;
+	
+	/**
+	 * Count of the reserved slots, including the free ones.
+	 * Slots are handed out by the game thread, ahead of the tracking.
+	 */
+	private int reservedCount = 0;
+	
+	/**
+	 * Released slots, ready to reuse, guarded by the commands.
+	 * Slot is released once its untrack command is performed.
+	 */
+	private final IntArray freeSlots = new IntArray();
+	
+	/**
+	 * Commands posted to the simulation thread, guarded by itself.
+	 */
+	private final Array<Runnable> commands = new Array<>(false, 64, Runnable.class);
+	
+	/**
+	 * Commands performed by the simulation thread, reused.
+	 */
+	private final Array<Runnable> performing = new Array<>(false, 64, Runnable.class);
+	
+	/**
+	 * Count of the posted commands, guarded by the commands.
+	 */
+	private long posted = 0;
+	
+	/**
+	 * Count of the performed commands.
+	 */
+	private long performed = 0;
+	
+	/**
+	 * Velocities set by the game thread, guarded by the commands.
+	 * Linear x, y and the angular velocity of each slot.
+	 */
+	private float[] velocities = new float[64*3];
+	
+	/**
+	 * Slots of the velocities set since the last tick, guarded by the commands.
+	 */
+	private final IntArray moved = new IntArray();
+	
+	/**
+	 * Slot velocity is set already, guarded by the commands.
+	 */
+	private boolean[] movePending = new boolean[64];
+	
+	/**
+	 * Velocities applied by the simulation thread, copied from the set ones.
+	 */
+	private float[] moving = new float[64*3];
+	
+	/**
+	 * Slots of the applied velocities.
+	 */
+	private final IntArray movingSlots = new IntArray();
+	
+	/**
+	 * Placements not performed yet, by the posting order.
+	 */
+	private Placement[] placements = new Placement[0];
+	
+	/**
+	 * Count of the placements.
+	 */
+	private int placementsCount = 0;
+	
+	/**
+	 * Contact events recorded by the steps.
+	 */
+	private ContactEvents recorded = new ContactEvents();
+	
+	/**
+	 * Contact events handed over to the game thread.
+	 */
+	private ContactEvents handed = new ContactEvents();
+	
+	/**
+	 * Handed events wait for the dispatch.
+	 * Hands the events buffers over between the threads.
+	 */
+	private volatile boolean eventsHanded = false;
+	
+	/**
+	 * First event recorded by the current step.
+	 */
+	private int stepEvents = 0;
+	
+	/**
+	 * Contact events dispatched during the last frame.
+	 */
+	public int dispatchedEvents = 0;
+	
+	/**
+	 * Velocities of the contact bodies, reused by each contact.
+	 */
+	private final Vector2 velocityA = new Vector2(), velocityB = new Vector2();
+	
 	/**
 	 * Initialize Box2D system.
 	 */
@@ -88,16 +481,631 @@ public class Physics implements System, ContactListener {
 	
 	/**
 	 * Perform physics step.
+	 * With the threaded simulation, the steps run on the simulation
+	 * thread by its own clock, the latest transforms snapshot is acquired
+	 * and the handed over contacts are dispatched only.
 	 */
 	@Override
 	public void perform() {
+		if(Game.config.threadedSimulation) {
+			if(simulation == null) {
+				// first snapshot of the current transforms
+				this.publish();
+				simulation = new Simulation(this);
+				simulation.start();
+			}
+			this.acquire();
+			
+			// notify actors about the contacts
+			if(eventsHanded) {
+				dispatchedEvents = handed.dispatch();
+				eventsHanded = false;
+			} else {
+				dispatchedEvents = 0;
+			}
+			return;
+		}
+		
+		if(simulation != null) {
+			// world is owned by the game thread again
+			simulation.dispose();
+			simulation = null;
+			this.performCommands();
+			
+			placementsCount = 0;
+			renderStates = states;
+			if(eventsHanded) {
+				handed.dispatch();
+				eventsHanded = false;
+			}
+		}
+		
+		step = this.getStep();
 		accumulator += Math.min(0.25f, Gdx.graphics.getDeltaTime());
 		
-		// perform accumulated step
-		while(accumulator >= 1.f/60.f) {
-			this.world.step(1/60.f, 6, 2);
-			accumulator -= 1.f/60.f;
+		// count the accumulated steps
+		int steps = 0;
+		while(accumulator >= step) {
+			accumulator -= step;
+			steps++;
+		}
+		alpha = accumulator / step;
+		
+		// bodies stay in place
+		if(!paused) {
+			this.simulate(steps);
+		}
+		renderAlpha = alpha;
+		
+		// notify actors about the contacts
+		dispatchedEvents = recorded.dispatch();
+	}
+	
+	/**
+	 * Post the world change.
+	 * With the threaded simulation, commands are performed by the simulation
+	 * thread before its next step, in the posting order. Otherwise
+	 * the command is performed immediately.
+	 * @param command World change.
+	 * @return Number of the posted command.
+	 */
+	public long post(Runnable command) {
+		if(simulation == null) {
+			command.run();
+			return 0;
+		}
+		
+		synchronized(commands) {
+			commands.add(command);
+			return ++posted;
+		}
+	}
+	
+	/**
+	 * Perform the posted commands.
+	 */
+	private void performCommands() {
+		synchronized(commands) {
+			performing.addAll(commands);
+			commands.clear();
+			performed = posted;
+			
+			// latest velocities of the moved slots
+			if(moving.length < velocities.length) {
+				moving = new float[velocities.length];
+			}
+			for(int i = 0; i < moved.size; i++) {
+				int slot = moved.get(i);
+				java.lang.System.arraycopy(velocities, slot * 3, moving, slot * 3, 3);
+				movePending[slot] = false;
+			}
+			movingSlots.addAll(moved);
+			moved.clear();
+		}
+		
+		for(int i = 0; i < performing.size; i++) {
+			try {
+				performing.get(i).run();
+			} catch(RuntimeException ex) {
+				Logger.getLogger(Physics.class.getName()).log(Level.SEVERE, null, ex);
+			}
+		}
+		performing.clear();
+		
+		// velocities after the commands, the bodies are created already
+		for(int i = 0; i < movingSlots.size; i++) {
+			int slot = movingSlots.get(i);
+			this.move(slot, moving);
+		}
+		movingSlots.clear();
+	}
+	
+	/**
+	 * Duration of the single step, from the configured physics rate.
+	 * @return Step in seconds.
+	 */
+	float getStep() {
+		return 1.f/Math.max(1, Game.config.physicsRate);
+	}
+	
+	/**
+	 * Perform the single tick of the simulation thread.
+	 * Posted commands, the step and the transforms publish.
+	 */
+	void tick() {
+		synchronized(world) {
+			this.performCommands();
+			
+			step = this.getStep();
+			if(!paused) {
+				this.simulate(1);
+			}
+		}
+		this.publish();
+		
+		// hand the contacts over, when the previous ones were dispatched
+		if(!eventsHanded && recorded.count > 0) {
+			ContactEvents events = handed;
+			handed = recorded;
+			recorded = events;
+			eventsHanded = true;
+		}
+	}
+	
+	/**
+	 * Perform the steps.
+	 * @param steps Count of the steps.
+	 */
+	private void simulate(int steps) {
+		for(int i = 0; i < steps; i++) {
+			stepEvents = recorded.count;
+			this.world.step(step, 6, 2);
+			
+			// transforms after the step
+			this.sync();
+		}
+	}
+	
+	/**
+	 * Publish the transforms snapshot for the render.
+	 * Performed by the simulation thread after the steps.
+	 */
+	private void publish() {
+		Snapshot snapshot = snapshots.getBack();
+		int size = trackedCount * STRIDE;
+		
+		statesView.limit(size).position(0);
+		snapshot.states = grow(snapshot.states, size);
+		snapshot.states.clear();
+		snapshot.states.put(statesView);
+		snapshot.command = performed;
+		snapshot.time = TimeUtils.nanoTime();
+		snapshots.publish();
+	}
+	
+	/**
+	 * Acquire the latest snapshot for the getters.
+	 * Reserved slots and placements not performed yet are put over it.
+	 */
+	private void acquire() {
+		Snapshot front = snapshots.getFront();
+		if(snapshots.acquire()) {
+			front = snapshots.getFront();
+			
+			// drop the placements performed by the snapshot
+			int kept = 0;
+			for(int i = 0; i < placementsCount; i++) {
+				Placement placement = placements[i];
+				if(placement.command > front.command) {
+					placements[i] = placements[kept];
+					placements[kept++] = placement;
+				}
+			}
+			placementsCount = kept;
+			
+			front.states = grow(front.states, reservedCount * STRIDE);
+			renderStates = front.states;
+			for(int i = 0; i < placementsCount; i++) {
+				this.place(placements[i]);
+			}
 		}
+		
+		// interpolated by the time since the last step
+		float stepNanos = this.getStep() * 1000000000.f;
+		renderAlpha = MathUtils.clamp((TimeUtils.nanoTime() - front.time) / stepNanos, 0.f, 1.f);
+	}
+	
+	/**
+	 * Sync transforms of the moving tracked bodies after the step.
+	 * Current transforms become the previous ones. Single transform read
+	 * per body, the position and rotation of the read transform are
+	 * computed on the java side.
+	 */
+	private void sync() {
+		for(int i = 0; i < trackedCount; i++) {
+			Body body = trackedBodies[i];
+			if(body == null || !movingBodies[i]) {
+				continue;
+			}
+			
+			int base = i * STRIDE;
+			float x = states.get(base + CURR_X),
+				y = states.get(base + CURR_Y),
+				angle = states.get(base + CURR_ANGLE);
+			states.put(base + PREV_X, x);
+			states.put(base + PREV_Y, y);
+			states.put(base + PREV_ANGLE, angle);
+			
+			// transform rotation is wrapped to [-PI, PI], keep the angle continuous
+			Transform transform = body.getTransform();
+			float delta = transform.getRotation() - angle;
+			delta -= MathUtils.PI2 * (float)Math.floor((delta + MathUtils.PI) / MathUtils.PI2);
+			
+			states.put(base + CURR_X, transform.vals[Transform.POS_X]);
+			states.put(base + CURR_Y, transform.vals[Transform.POS_Y]);
+			states.put(base + CURR_ANGLE, angle + delta);
+		}
+	}
+	
+	/**
+	 * Reserve the slot of the body to track.
+	 * Actors read their transforms from the tracked slots, instead of
+	 * querying the body on each use. The slot is valid right away, before
+	 * the body is tracked by the command.
+	 * @return Reserved slot.
+	 * @see #track(int, com.badlogic.gdx.physics.box2d.Body) 
+	 */
+	public int reserve() {
+		int slot;
+		synchronized(commands) {
+			slot = freeSlots.size > 0 ? freeSlots.pop() : reservedCount++;
+		}
+		
+		// drawn snapshot is owned by the game thread
+		if(simulation != null) {
+			renderStates = grow(renderStates, reservedCount * STRIDE);
+			snapshots.getFront().states = renderStates;
+		}
+		return slot;
+	}
+	
+	/**
+	 * Create the tracked body.
+	 * Body is created by the posted command, the attach callback creates
+	 * its fixtures. Until then, the slot reads the body definition transform.
+	 * @param bodyDef Definition of the body, not changed later.
+	 * @param attach Attach the fixtures to the created body.
+	 * @return Slot of the tracked body.
+	 */
+	public int create(BodyDef bodyDef, Consumer<Body> attach) {
+		int slot = this.reserve();
+		long command = this.post(() -> {
+			Body body = world.createBody(bodyDef);
+			attach.accept(body);
+			this.track(slot, body);
+		});
+		this.place(command, slot, bodyDef.position.x, bodyDef.position.y, bodyDef.angle);
+		return slot;
+	}
+	
+	/**
+	 * Track the body transforms in the reserved slot.
+	 * Performed by the commands.
+	 * @param slot Reserved slot.
+	 * @param body Body to track.
+	 */
+	public void track(int slot, Body body) {
+		// grow the slots
+		if(slot >= trackedBodies.length) {
+			int length = Math.max(trackedBodies.length * 2, slot + 1);
+			trackedBodies = Arrays.copyOf(trackedBodies, length);
+			movingBodies = Arrays.copyOf(movingBodies, length);
+			
+			states = grow(states, length * STRIDE);
+			statesView = states.duplicate();
+			if(simulation == null) {
+				renderStates = states;
+			}
+		}
+		
+		trackedCount = Math.max(trackedCount, slot + 1);
+		trackedBodies[slot] = body;
+		movingBodies[slot] = body.getType() != BodyDef.BodyType.StaticBody;
+		this.snap(slot);
+	}
+	
+	/**
+	 * Stop tracking the body, before destroying it.
+	 * Slot is reused once the command is performed, with the velocities
+	 * of the old body dropped, so they never move the next one.
+	 * @param slot Slot of the tracked body.
+	 * @return <b>-1</b> as the released slot.
+	 */
+	public int untrack(int slot) {
+		if(slot >= 0) {
+			this.post(() -> {
+				trackedBodies[slot] = null;
+				this.release(slot);
+			});
+		}
+		return -1;
+	}
+	
+	/**
+	 * Drop the velocities of the slot and put it back to reuse.
+	 * @param slot Slot not tracked anymore.
+	 */
+	private void release(int slot) {
+		synchronized(commands) {
+			if(slot < movePending.length && movePending[slot]) {
+				movePending[slot] = false;
+				moved.removeValue(slot);
+			}
+			if(slot * 3 + 3 <= velocities.length) {
+				velocities[slot * 3] = 0.f;
+				velocities[slot * 3 + 1] = 0.f;
+				velocities[slot * 3 + 2] = 0.f;
+			}
+			freeSlots.add(slot);
+		}
+	}
+	
+	/**
+	 * Skip the interpolation of the tracked body.
+	 * Performed by the commands, after the body transform were set.
+	 * @param slot Slot of the tracked body.
+	 */
+	public void snap(int slot) {
+		if(slot < 0) {
+			return;
+		}
+		
+		Body body = trackedBodies[slot];
+		Vector2 position = body.getPosition();
+		this.snap(states, slot, position.x, position.y, body.getAngle());
+	}
+	
+	/**
+	 * Set the transform of the tracked body, with no interpolation.
+	 * @param slot Slot of the tracked body.
+	 * @param x Position in world units.
+	 * @param y Position in world units.
+	 * @param angle Angle in radians.
+	 */
+	public void place(int slot, float x, float y, float angle) {
+		if(slot < 0) {
+			return;
+		}
+		
+		long command = this.post(() -> {
+			trackedBodies[slot].setTransform(x, y, angle);
+			this.snap(slot);
+		});
+		this.place(command, slot, x, y, angle);
+	}
+	
+	/**
+	 * Set the position of the tracked body, with no interpolation.
+	 * Angle of the body is kept.
+	 * @param slot Slot of the tracked body.
+	 * @param x Position in world units.
+	 * @param y Position in world units.
+	 */
+	public void place(int slot, float x, float y) {
+		if(slot < 0) {
+			return;
+		}
+		
+		long command = this.post(() -> {
+			Body body = trackedBodies[slot];
+			body.setTransform(x, y, body.getAngle());
+			this.snap(slot);
+		});
+		this.place(command, slot, x, y, this.getAngle(slot));
+	}
+	
+	/**
+	 * Set the angle of the tracked body, with no interpolation.
+	 * Position of the body is kept.
+	 * @param slot Slot of the tracked body.
+	 * @param angle Angle in radians.
+	 */
+	public void rotate(int slot, float angle) {
+		if(slot < 0) {
+			return;
+		}
+		
+		long command = this.post(() -> {
+			Body body = trackedBodies[slot];
+			body.setTransform(body.getPosition(), angle);
+			this.snap(slot);
+		});
+		int base = slot * STRIDE;
+		this.place(command, slot, renderStates.get(base + CURR_X), renderStates.get(base + CURR_Y), angle);
+	}
+	
+	/**
+	 * Set the velocities of the tracked body.
+	 * With the threaded simulation, the latest velocities of the slot are
+	 * applied before the next tick. Otherwise immediately. Performed by
+	 * the game thread only, parallel updates defer it.
+	 * @param slot Slot of the tracked body.
+	 * @param x Linear velocity in world units.
+	 * @param y Linear velocity in world units.
+	 * @param angular Angular velocity in radians.
+	 * @see Scene#defer(java.lang.Runnable) 
+	 */
+	public void move(int slot, float x, float y, float angular) {
+		if(slot < 0) {
+			return;
+		}
+		
+		synchronized(commands) {
+			// grow the velocities
+			if(slot * 3 + 3 > velocities.length) {
+				velocities = Arrays.copyOf(velocities, Math.max(velocities.length * 2, slot * 3 + 3));
+				movePending = Arrays.copyOf(movePending, velocities.length / 3);
+			}
+			
+			velocities[slot * 3] = x;
+			velocities[slot * 3 + 1] = y;
+			velocities[slot * 3 + 2] = angular;
+			if(simulation == null) {
+				this.move(slot, velocities);
+			} else if(!movePending[slot]) {
+				movePending[slot] = true;
+				moved.add(slot);
+			}
+		}
+	}
+	
+	/**
+	 * Apply the velocities to the tracked body.
+	 * Released slots are skipped.
+	 * @param slot Slot of the tracked body.
+	 * @param velocities Velocities of the slots.
+	 */
+	private void move(int slot, float[] velocities) {
+		Body body = slot < trackedBodies.length ? trackedBodies[slot] : null;
+		if(body != null) {
+			body.setLinearVelocity(velocities[slot * 3], velocities[slot * 3 + 1]);
+			body.setAngularVelocity(velocities[slot * 3 + 2]);
+		}
+	}
+	
+	/**
+	 * Put the placement over the drawn snapshot, until its command
+	 * is performed. Threaded simulation only.
+	 * @param command Command of the placement.
+	 * @param slot Slot of the tracked body.
+	 * @param x Position in world units.
+	 * @param y Position in world units.
+	 * @param angle Angle in radians.
+	 */
+	private void place(long command, int slot, float x, float y, float angle) {
+		if(simulation == null) {
+			return;
+		}
+		
+		// grow the placements buffer
+		if(placementsCount == placements.length) {
+			placements = Arrays.copyOf(placements, Math.max(16, placements.length * 2));
+			for(int i = placementsCount; i < placements.length; i++) {
+				placements[i] = new Placement();
+			}
+		}
+		
+		Placement placement = placements[placementsCount++];
+		placement.command = command;
+		placement.slot = slot;
+		placement.x = x;
+		placement.y = y;
+		placement.angle = angle;
+		this.place(placement);
+	}
+	
+	/**
+	 * Put the placement over the drawn snapshot.
+	 * @param placement Placement to put.
+	 */
+	private void place(Placement placement) {
+		this.snap(renderStates, placement.slot, placement.x, placement.y, placement.angle);
+	}
+	
+	/**
+	 * Write the transform of the slot, with no interpolation.
+	 * @param buffer Transforms buffer.
+	 * @param slot Slot of the tracked body.
+	 * @param x Position in world units.
+	 * @param y Position in world units.
+	 * @param angle Angle in radians.
+	 */
+	static private void snap(FloatBuffer buffer, int slot, float x, float y, float angle) {
+		int base = slot * STRIDE;
+		buffer.put(base + PREV_X, x);
+		buffer.put(base + PREV_Y, y);
+		buffer.put(base + PREV_ANGLE, angle);
+		buffer.put(base + CURR_X, x);
+		buffer.put(base + CURR_Y, y);
+		buffer.put(base + CURR_ANGLE, angle);
+	}
+	
+	/**
+	 * Grow the transforms buffer, keeping its contents.
+	 * @param buffer Transforms buffer.
+	 * @param size Required floats.
+	 * @return The buffer, or the grown copy.
+	 */
+	static private FloatBuffer grow(FloatBuffer buffer, int size) {
+		if(buffer.capacity() >= size) {
+			return buffer;
+		}
+		
+		FloatBuffer grown = BufferUtils.newFloatBuffer(Math.max(buffer.capacity() * 2, size));
+		buffer.clear();
+		grown.put(buffer);
+		grown.clear();
+		return grown;
+	}
+	
+	/**
+	 * Interpolation factor of the rendered transforms.
+	 * @return Accumulator to step ratio, in range [0, 1).
+	 */
+	public float getAlpha() {
+		return renderAlpha;
+	}
+	
+	/**
+	 * Interpolated position of the tracked body.
+	 * @param slot Slot of the tracked body.
+	 * @return Screen units.
+	 */
+	public float getRenderX(int slot) {
+		float from = renderStates.get(slot * STRIDE + PREV_X);
+		return (from + (renderStates.get(slot * STRIDE + CURR_X) - from) * renderAlpha) * SCALE_INV;
+	}
+	
+	/**
+	 * Interpolated position of the tracked body.
+	 * @param slot Slot of the tracked body.
+	 * @return Screen units.
+	 */
+	public float getRenderY(int slot) {
+		float from = renderStates.get(slot * STRIDE + PREV_Y);
+		return (from + (renderStates.get(slot * STRIDE + CURR_Y) - from) * renderAlpha) * SCALE_INV;
+	}
+	
+	/**
+	 * Interpolated angle of the tracked body.
+	 * @param slot Slot of the tracked body.
+	 * @return Angle in degrees.
+	 */
+	public float getRenderAngle(int slot) {
+		float from = renderStates.get(slot * STRIDE + PREV_ANGLE);
+		return (from + (renderStates.get(slot * STRIDE + CURR_ANGLE) - from) * renderAlpha) * MathUtils.radiansToDegrees;
+	}
+	
+	/**
+	 * Position of the tracked body after the last step.
+	 * Reads the acquired snapshot in threaded simulation, as the getters
+	 * are used by the draw too.
+	 * @param slot Slot of the tracked body.
+	 * @return Screen units.
+	 */
+	public float getX(int slot) {
+		return renderStates.get(slot * STRIDE + CURR_X) * SCALE_INV;
+	}
+	
+	/**
+	 * Position of the tracked body after the last step.
+	 * @param slot Slot of the tracked body.
+	 * @return Screen units.
+	 */
+	public float getY(int slot) {
+		return renderStates.get(slot * STRIDE + CURR_Y) * SCALE_INV;
+	}
+	
+	/**
+	 * Angle of the tracked body after the last step.
+	 * @param slot Slot of the tracked body.
+	 * @return Angle in radians.
+	 */
+	public float getAngle(int slot) {
+		return renderStates.get(slot * STRIDE + CURR_ANGLE);
+	}
+	
+	/**
+	 * Velocity direction of the tracked body, from its last step.
+	 * @param slot Slot of the tracked body.
+	 * @return Angle in degrees.
+	 */
+	public float getDirection(int slot) {
+		int base = slot * STRIDE;
+		return MathUtils.atan2(
+			renderStates.get(base + CURR_Y) - renderStates.get(base + PREV_Y),
+			renderStates.get(base + CURR_X) - renderStates.get(base + PREV_X)
+		) * MathUtils.radiansToDegrees;
 	}
 	
 	/**
@@ -107,19 +1115,20 @@ public class Physics implements System, ContactListener {
 	public void postPerform() {
 		if(Game.DEBUG_INFO) {
 			// scale `world to screen`
-			Matrix4 projMatrix;
 			if(Game.mainCamera != null) {
-				projMatrix = Game.mainCamera.combined.cpy();
+				debugProjection.set(Game.mainCamera.combined);
 			} else {
-				projMatrix = new Matrix4().setToOrtho2D(0.f, 0.f,
+				debugProjection.setToOrtho2D(0.f, 0.f,
 					Gdx.graphics.getWidth(),
 					Gdx.graphics.getHeight()
 				);
 			}
-			projMatrix.scl(SCALE_INV);
+			debugProjection.scl(SCALE_INV);
 			
-			// perform debug rendering
-			this.debugRenderer.render(this.world, projMatrix);
+			// debug renderer reads the world, between the ticks
+			synchronized(world) {
+				this.debugRenderer.render(this.world, debugProjection);
+			}
 		}
 	}
 
@@ -128,39 +1137,61 @@ public class Physics implements System, ContactListener {
 	 */
 	@Override
 	public void dispose() {
+		if(simulation != null) {
+			simulation.dispose();
+			simulation = null;
+		}
+		this.performCommands();
+		
 		if(Game.DEBUG_INFO) {
 			this.debugRenderer.dispose();
 		}
 		
 		this.world.dispose();
 	}
-
 	/**
 	 * @see ContactListener#beginContact(com.badlogic.gdx.physics.box2d.Contact) 
 	 * @param contact 
 	 */
 	@Override
 	public void beginContact(Contact contact) {
-		Object c1 = contact.getFixtureA().getUserData();
-		Object c2 = contact.getFixtureB().getUserData();
+		Fixture fixtureA = contact.getFixtureA(),
+			fixtureB = contact.getFixtureB();
+		Object c1 = fixtureA.getUserData();
+		Object c2 = fixtureB.getUserData();
 		
-		// fixture A
-		if(c1 instanceof Actor) {
-			if(c2 instanceof Actor) {
-				((Actor)c1).onHit((Actor)c2, contact);
-			} else {
-				((Actor)c1).onHit(null, contact);
-			}
+		// nobody to notify
+		if(!(c1 instanceof Actor) && !(c2 instanceof Actor)) {
+			return;
 		}
 		
-		// fixture B
-		if(c2 instanceof Actor) {
-			if(c1 instanceof Actor) {
-				((Actor)c2).onHit((Actor)c1, contact);
-			} else {
-				((Actor)c2).onHit(null, contact);
-			}
+		// pair already touched during the frame
+		long key = pairKey(fixtureA, fixtureB);
+		if(recorded.find(key, fixtureA, fixtureB) != null) {
+			return;
+		}
+		
+		// record the contact
+		ContactEvent event = recorded.add(key);
+		event.actorA = c1 instanceof Actor ? (Actor)c1 : null;
+		event.actorB = c2 instanceof Actor ? (Actor)c2 : null;
+		event.fixtureA = fixtureA;
+		event.fixtureB = fixtureB;
+		
+		// approach speed along the normal
+		WorldManifold manifold = contact.getWorldManifold();
+		Body bodyA = fixtureA.getBody(), bodyB = fixtureB.getBody();
+		event.normal.set(manifold.getNormal());
+		if(manifold.getNumberOfContactPoints() > 0) {
+			event.point.set(manifold.getPoints()[0]);
+			velocityA.set(bodyA.getLinearVelocityFromWorldPoint(event.point));
+			velocityB.set(bodyB.getLinearVelocityFromWorldPoint(event.point));
+		} else {
+			event.point.set(bodyA.getPosition());
+			velocityA.set(bodyA.getLinearVelocity());
+			velocityB.set(bodyB.getLinearVelocity());
 		}
+		event.approachSpeed = Math.max(0.f, velocityA.sub(velocityB).dot(event.normal));
 	}
 
 	/**
@@ -187,6 +1218,33 @@ public class Physics implements System, ContactListener {
 	 */
 	@Override
 	public void postSolve(Contact contact, ContactImpulse impulse) {
+		// only the contacts began by the current step
+		if(stepEvents == recorded.count) {
+			return;
+		}
+		
+		Fixture fixtureA = contact.getFixtureA(),
+			fixtureB = contact.getFixtureB();
+		ContactEvent event = recorded.find(pairKey(fixtureA, fixtureB), fixtureA, fixtureB);
+		if(event != null && event.slot >= stepEvents) {
+			float[] impulses = impulse.getNormalImpulses();
+			for(int j = 0; j < impulse.getCount(); j++) {
+				event.impulse = Math.max(event.impulse, impulses[j]);
+			}
+		}
+	}
+	
+	/**
+	 * Key of the fixtures pair, the same for the both orders.
+	 * Identity hashes may collide, the events of the key are chained.
+	 * @param fixtureA Fixture of the contact.
+	 * @param fixtureB Fixture of the contact.
+	 * @return Pair key.
+	 */
+	static private long pairKey(Fixture fixtureA, Fixture fixtureB) {
+		int a = java.lang.System.identityHashCode(fixtureA),
+			b = java.lang.System.identityHashCode(fixtureB);
+		return ((long)Math.min(a, b) << 32) | (Math.max(a, b) & 0xFFFFFFFFL);
 	}
 	
 	/**
@@ -199,4 +1257,15 @@ public class Physics implements System, ContactListener {
 	static public boolean OR(Fixture check, Contact by) {
 		return check == by.getFixtureA() || check == by.getFixtureB();
 	}
+	
+	/**
+	 * Compare given fixture with the contact event fixtures.
+	 * Using OR operator.
+	 * @param check
+	 * @param by
+	 * @return 
+	 */
+	static public boolean OR(Fixture check, ContactEvent by) {
+		return by.has(check);
+	}
 }
@@ -0,0 +1,300 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.system;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.TimeUtils;
+import java.util.Arrays;
+import vault.clockwork.Game;
+
+/**
+ * Frame profiler.
+ * Timers accumulate the nanoseconds spent during the frame, frames are
+ * kept in the ring buffer for the rolling statistics.
+ * @author Konrad Nowakowski https://github.com/konrad92
+ */
+public class Profiler {
+	/**
+	 * Frame timer.
+	 */
+	static public class Timer {
+		/**
+		 * Name of the timer.
+		 */
+		public final String name;
+		
+		/**
+		 * Frame times ring buffer, in nanoseconds.
+		 */
+		private final long[] samples = new long[SAMPLES];
+		
+		/**
+		 * Next sample slot and count of the samples.
+		 */
+		private int head = 0, count = 0;
+		
+		/**
+		 * Time of the begin and accumulated time of the frame.
+		 */
+		private long start = 0, elapsed = 0;
+		
+		/**
+		 * Timer used since the last reset.
+		 */
+		private boolean used = false;
+		
+		/**
+		 * Ctor.
+		 * @param name Name of the timer.
+		 */
+		public Timer(String name) {
+			this.name = name;
+		}
+		
+		/**
+		 * Start measuring.
+		 */
+		public void begin() {
+			if(enabled) {
+				start = TimeUtils.nanoTime();
+			}
+		}
+		
+		/**
+		 * Stop measuring, accumulating the frame time.
+		 */
+		public void end() {
+			if(enabled) {
+				elapsed += TimeUtils.nanoTime() - start;
+				used = true;
+			}
+		}
+		
+		/**
+		 * Put the frame time into the samples.
+		 */
+		private void commit() {
+			samples[head] = elapsed;
+			head = (head + 1) % SAMPLES;
+			count = Math.min(count + 1, SAMPLES);
+			elapsed = 0;
+		}
+		
+		/**
+		 * Drop all samples.
+		 */
+		private void reset() {
+			head = count = 0;
+			elapsed = 0;
+			used = false;
+		}
+		
+		/**
+		 * Rolling average of the frame time.
+		 * @return Nanoseconds.
+		 */
+		public long getAverage() {
+			if(count == 0) {
+				return 0;
+			}
+			
+			long sum = 0;
+			for(int i = 0; i < count; i++) {
+				sum += samples[i];
+			}
+			return sum / count;
+		}
+		
+		/**
+		 * Longest frame time of the samples.
+		 * @return Nanoseconds.
+		 */
+		public long getMax() {
+			long max = 0;
+			for(int i = 0; i < count; i++) {
+				max = Math.max(max, samples[i]);
+			}
+			return max;
+		}
+		
+		/**
+		 * Frame time percentile of the samples.
+		 * @param percent Percentile, eg. 99.
+		 * @return Nanoseconds.
+		 */
+		public long getPercentile(int percent) {
+			if(count == 0) {
+				return 0;
+			}
+			
+			for(int i = 0; i < count; i++) {
+				sorted[i] = samples[i];
+			}
+			Arrays.sort(sorted, 0, count);
+			return sorted[Math.max(0, (count * percent + 99) / 100 - 1)];
+		}
+	}
+	
+	/**
+	 * Count of the frames kept by the timers.
+	 */
+	static public final int SAMPLES = 120;
+	
+	/**
+	 * Enable the timers measuring.
+	 */
+	static public boolean enabled = false;
+	
+	/**
+	 * Measure the update and draw of each actor class.
+	 */
+	static public boolean byActorClass = false;
+	
+	/**
+	 * Timers in the creation order.
+	 */
+	static private final Array<Timer> timers = new Array<>();
+	
+	/**
+	 * Timers by the names.
+	 */
+	static private final ObjectMap<String, Timer> byName = new ObjectMap<>();
+	
+	/**
+	 * Actor class timers, by the class.
+	 */
+	static private final ObjectMap<Class<?>, Timer> byClass = new ObjectMap<>();
+	
+	/**
+	 * Samples sorted for the percentile.
+	 */
+	static private final long[] sorted = new long[SAMPLES];
+	
+	/**
+	 * Get the timer, create when not exists.
+	 * @param name Name of the timer.
+	 * @return Timer instance.
+	 */
+	static public Timer get(String name) {
+		Timer timer = byName.get(name);
+		if(timer == null) {
+			timer = new Timer(name);
+			byName.put(name, timer);
+			timers.add(timer);
+		}
+		return timer;
+	}
+	
+	/**
+	 * Get the actor class timer.
+	 * @param type Class of the actor.
+	 * @return Timer instance.
+	 */
+	static public Timer get(Class<?> type) {
+		Timer timer = byClass.get(type);
+		if(timer == null) {
+			timer = get("actor." + type.getSimpleName());
+			byClass.put(type, timer);
+		}
+		return timer;
+	}
+	
+	/**
+	 * Close the frame of all timers.
+	 * Performed once per frame.
+	 */
+	static public void frame() {
+		if(!enabled) {
+			return;
+		}
+		
+		for(Timer timer : timers) {
+			timer.commit();
+		}
+	}
+	
+	/**
+	 * Drop samples of all timers.
+	 */
+	static public void reset() {
+		for(Timer timer : timers) {
+			timer.reset();
+		}
+	}
+	
+	/**
+	 * Append the timers statistics, in microseconds.
+	 * @param info Target builder.
+	 */
+	static public void append(StringBuilder info) {
+		info.append("Timer: avg / max / p99 [us]");
+		for(Timer timer : timers) {
+			if(timer.used) {
+				info.append('\n');
+				info.append(timer.name);
+				info.append(": ");
+				info.append(timer.getAverage() / 1000);
+				info.append(" / ");
+				info.append(timer.getMax() / 1000);
+				info.append(" / ");
+				info.append(timer.getPercentile(99) / 1000);
+			}
+		}
+	}
+	
+	/**
+	 * Register the profiler commands.
+	 */
+	static public void registerCommands() {
+		Game.console.commands.put("prof", new ConsoleAction() {
+			@Override
+			public String perform(String[] params) {
+				if(params.length == 2) {
+					switch(params[1]) {
+						case "on":
+							enabled = true;
+							return "Profiler enabled";
+						case "off":
+							enabled = false;
+							return "Profiler disabled";
+						case "actors":
+							byActorClass = !byActorClass;
+							return "Actor classes timing " + (byActorClass ? "enabled" : "disabled");
+						case "reset":
+							reset();
+							return "Profiler reset";
+						case "dump":
+							StringBuilder dump = new StringBuilder();
+							append(dump);
+							Game.console.logs.addAll(dump.toString().split("\n"));
+							return "Profiler dumped " + timers.size + " timers";
+					}
+				}
+				
+				return "prof on|off|actors|reset|dump";
+			}
+		});
+	}
+}
@@ -28,17 +28,92 @@ import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.TimeUtils;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import vault.clockwork.Game;
 import vault.clockwork.scene.Actor;
+import vault.clockwork.scene.ActorPool;
+import vault.clockwork.scene.SpatialGrid;
 
 /**
  * Scene main system.
  * @author Konrad Nowakowski https://github.com/konrad92
  */
 public class Scene implements System {
+	/**
+	 * Update job of the parallel actors range.
+	 * Collects the scene changes made by the actors, applied by the game
+	 * thread after the parallel update.
+	 */
+	static private class UpdateJob extends RecursiveAction {
+		/**
+		 * Updated layer and the actors slots range.
+		 */
+		private Layer layer;
+		private int from, to;
+		
+		/**
+		 * Delta time of the update.
+		 */
+		private float delta;
+		
+		/**
+		 * Deferred scene changes, in the actors order.
+		 */
+		private final Array<Runnable> commands = new Array<>(true, 16, Runnable.class);
+		
+		/**
+		 * Update the parallel actors of the range.
+		 * @see RecursiveAction#compute() 
+		 */
+		@Override
+		protected void compute() {
+			CURRENT_JOB.set(this);
+			try {
+				Actor[] items = layer.actors.items;
+				for(int i = from; i < to; i++) {
+					Actor actor = items[i];
+					if(actor != null && actor.parallel && actor.active) {
+						actor.update(delta);
+					}
+				}
+			} finally {
+				CURRENT_JOB.set(null);
+			}
+		}
+	}
+	
+	/**
+	 * Root job, forks the update jobs and waits for them.
+	 */
+	private class RootJob extends RecursiveAction {
+		/**
+		 * Count of the forked jobs.
+		 */
+		private int count;
+		
+		/**
+		 * @see RecursiveAction#compute() 
+		 */
+		@Override
+		protected void compute() {
+			for(int i = 1; i < count; i++) {
+				jobs[i].fork();
+			}
+			jobs[0].invoke();
+			for(int i = 1; i < count; i++) {
+				jobs[i].join();
+			}
+		}
+	}
+	
 	/**
 	 * Scene layer class.
 	 */
@@ -50,9 +125,26 @@ public class Scene implements System {
 		public final Scene scene;
 		
 		/**
-		 * Actors on the layer.
+		 * Name of the layer, used by the profiler.
+		 */
+		public final String name;
+		
+		/**
+		 * Actors on the layer, in the drawing order.
+		 * Each actor knows its slot in the array, removed actors leave
+		 * empty slots until the flush compacts the array.
+		 */
+		public final Array<Actor> actors = new Array<>(true, 16, Actor.class);
+		
+		/**
+		 * First actor of each id, actors sharing the id are linked in order.
+		 */
+		private final IntMap<Actor> byId = new IntMap<>();
+		
+		/**
+		 * Count of empty slots in the actors array.
 		 */
-		public final Array<Actor> actors = new Array<>();
+		private int tombstones = 0;
 		
 		/**
 		 * Camera assigned with the layer.
@@ -62,13 +154,45 @@ public class Scene implements System {
 		
 		/**
 		 * Actors to perform adding to the layer.
+		 * Pushed by any thread, polled by the flush.
 		 */
-		private final Array<Actor> toAppend = new Array<>();
+		private final ActorQueue toAppend = new ActorQueue();
 		
 		/**
 		 * Actors to remove from the layer.
+		 * Pushed by any thread, polled by the flush.
 		 */
-		private final Array<Actor> toRemove = new Array<>();
+		private final ActorQueue toRemove = new ActorQueue();
+		
+		/**
+		 * Projection of the batch before the layer camera swap.
+		 */
+		private final Matrix4 oldProjection = new Matrix4();
+		
+		/**
+		 * Visible region of the camera during the layer draw.
+		 */
+		private final Rectangle view = new Rectangle();
+		
+		/**
+		 * Render calls made by the batch during the last layer draw.
+		 */
+		public int renderCalls = 0;
+		
+		/**
+		 * Actors drawn and culled during the last layer draw.
+		 */
+		public int drawn = 0, culled = 0;
+		
+		/**
+		 * Active parallel actors counted by the last update.
+		 */
+		public int parallelActors = 0;
+		
+		/**
+		 * Profiler timers of the layer.
+		 */
+		private final Profiler.Timer updateTimer, drawTimer, flushTimer;
 		
 		/**
 		 * Ctor.
@@ -76,7 +200,23 @@ public class Scene implements System {
 		 * @param scene Assign layer with the scene.
 		 */
 		public Layer(Scene scene) {
+			this(scene, "layer" + scene.layers.size);
+		}
+		
+		/**
+		 * Ctor.
+		 * Adding layer to the given scene.
+		 * @param scene Assign layer with the scene.
+		 * @param name Name of the layer.
+		 */
+		public Layer(Scene scene, String name) {
 			this.scene = scene;
+			this.name = name;
+			
+			// layer timers
+			this.updateTimer = Profiler.get(name + ".update");
+			this.drawTimer = Profiler.get(name + ".draw");
+			this.flushTimer = Profiler.get(name + ".flush");
 			
 			// put layer onto scene layers stack
 			this.scene.layers.add(this);
@@ -84,29 +224,51 @@ public class Scene implements System {
 		
 		/**
 		 * Add actor to the layer appending queue.
+		 * Safe to call from any thread, eg. the level loader. New actors are
+		 * prepared by the calling thread, and created by the next flush.
+		 * @see Entity#prepare()
 		 * @param actor Actor to add.
 		 * @return Chaining actor.
 		 */
 		public Actor add(Actor actor) {
-			this.toAppend.add(actor);
+			// added by the parallel update
+			if(scene.parallelUpdate && CURRENT_JOB.get() != null) {
+				CURRENT_JOB.get().commands.add(() -> this.add(actor));
+				return actor;
+			}
+			
+			// new actors only, not the ones changing layer
+			if(actor.getLayer() == null) {
+				actor.prepare();
+			}
+			
+			this.toAppend.push(actor);
 			return actor;
 		}
 		
 		/**
 		 * Append actor to the remove queue.
+		 * Safe to call from any thread, for the actors already on the layer.
+		 * Racing removes of the same actor may both report <b>TRUE</b>,
+		 * the flush removes the actor once anyway.
 		 * @param actor Actor to remove.
 		 * @return <b>TRUE</b> when actor added to the remove queue,
 		 *			otherwise actor already exists in the queue.
 		 */
 		public boolean remove(Actor actor) {
+			// removed by the parallel update
+			if(scene.parallelUpdate && CURRENT_JOB.get() != null) {
+				CURRENT_JOB.get().commands.add(() -> this.remove(actor));
+				return !actor.removing;
+			}
+			
 			Layer realLayer = actor.getLayer();
 			
 			// remove actor from assigned layer, nor current
-			if(realLayer != null && realLayer.actors.contains(actor, true)) {
-				if(!realLayer.toRemove.contains(actor, true)) {
-					realLayer.toRemove.add(actor);
-					return true;
-				}
+			if(realLayer != null && actor.slot >= 0 && !actor.removing) {
+				actor.removing = true;
+				realLayer.toRemove.push(actor);
+				return true;
 			}
 			
 			return false;
@@ -120,12 +282,105 @@ public class Scene implements System {
 		 * @return <b>NULL</b> when actor by given id does not exists.
 		 */
 		public <T extends Actor> T getById(int id, Class<T> as) {
-			for(Actor actor : this.actors) {
-				if(actor.id == id) {
-					return as.cast(actor);
+			Actor actor = byId.get(id);
+			if(actor == null) {
+				return null;
+			}
+			return as.cast(actor);
+		}
+		
+		/**
+		 * Put the actor into the layer.
+		 * Use Actor#setLayer to move actors between layers.
+		 * @param actor Actor to attach.
+		 */
+		public void attach(Actor actor) {
+			actor.slot = actors.size;
+			actors.add(actor);
+			
+			// link the actor as the last one of its id
+			Actor first = byId.get(actor.id);
+			if(first == null) {
+				actor.prevById = actor;
+				byId.put(actor.id, actor);
+			} else {
+				Actor last = first.prevById;
+				last.nextById = actor;
+				actor.prevById = last;
+				first.prevById = actor;
+			}
+			actor.nextById = null;
+		}
+		
+		/**
+		 * Take the actor out of the layer.
+		 * Leaves an empty slot, compacted by the next flush, so moving
+		 * the actors between the layers does not shift the arrays.
+		 * Use Actor#setLayer to move actors between layers.
+		 * @param actor Actor to detach.
+		 */
+		public void detach(Actor actor) {
+			if(actor.slot < 0) {
+				return;
+			}
+			
+			actors.items[actor.slot] = null;
+			actor.slot = -1;
+			tombstones++;
+			
+			// unlink the actor from its id
+			Actor first = byId.get(actor.id);
+			if(first == actor) {
+				Actor next = actor.nextById;
+				if(next == null) {
+					byId.remove(actor.id);
+				} else {
+					next.prevById = actor.prevById;
+					byId.put(actor.id, next);
+				}
+			} else {
+				actor.prevById.nextById = actor.nextById;
+				if(actor.nextById != null) {
+					actor.nextById.prevById = actor.prevById;
+				} else {
+					first.prevById = actor.prevById;
 				}
 			}
-			return null;
+			actor.nextById = null;
+			actor.prevById = null;
+		}
+		
+		/**
+		 * Count of the actors on the layer.
+		 * @return Actors count, with no empty slots.
+		 */
+		public int size() {
+			return actors.size - tombstones;
+		}
+		
+		/**
+		 * Remove empty slots from the actors array.
+		 * Keeps the drawing order of the actors.
+		 */
+		private void compact() {
+			if(tombstones == 0) {
+				return;
+			}
+			
+			int size = 0;
+			Actor[] items = actors.items;
+			for(int i = 0; i < actors.size; i++) {
+				Actor actor = items[i];
+				if(actor != null) {
+					actor.slot = size;
+					items[size++] = actor;
+				}
+			}
+			for(int i = size; i < actors.size; i++) {
+				items[i] = null;
+			}
+			actors.size = size;
+			tombstones = 0;
 		}
 
 		/**
@@ -135,11 +390,36 @@ public class Scene implements System {
 		 */
 		public void update(float delta) {
 			// update active actors
+			updateTimer.begin();
+			
+			// actors updating only their own state, on the workers
+			boolean parallel = parallelActors >= PARALLEL_THRESHOLD
+				&& !Profiler.byActorClass && scene.getWorkers() != null;
+			if(parallel) {
+				scene.updateParallel(this, delta);
+			}
+			
+			parallelActors = 0;
 			for(Actor actor : actors) {
-				if(actor.active) {
-					actor.update(delta);
+				if(actor != null && actor.active) {
+					if(actor.parallel) {
+						parallelActors++;
+						if(parallel) {
+							continue;
+						}
+					}
+					
+					if(Profiler.byActorClass) {
+						Profiler.Timer timer = Profiler.get(actor.getClass());
+						timer.begin();
+						actor.update(delta);
+						timer.end();
+					} else {
+						actor.update(delta);
+					}
 				}
 			}
+			updateTimer.end();
 			
 			// perform scene flush
 			this.flush();
@@ -147,32 +427,86 @@ public class Scene implements System {
 		
 		/**
 		 * Draw the layer.
-		 * Performs draw on all actors.
+		 * Performs draw on all actors within the single batch.
+		 * Actors are allowed to switch the batch shaders and projections,
+		 * but have to restore them before leaving.
 		 * @param batch Sprite batch as rendering target.
 		 */
 		public void draw(SpriteBatch batch) {
-			Matrix4 oldProjection = null;
+			renderCalls = 0;
+			drawn = 0;
+			culled = 0;
+			
+			// nothing to draw
+			if(actors.size == 0) {
+				return;
+			}
+			drawTimer.begin();
 			
 			// use the layer camera
 			if(camera != null) {
 				camera.update();
 				
 				// swap the camera projections
-				oldProjection = batch.getProjectionMatrix();
+				oldProjection.set(batch.getProjectionMatrix());
 				batch.setProjectionMatrix(camera.combined);
 			}
 			
+			// visible region of the layer, or main camera
+			OrthographicCamera viewCamera = camera != null ? camera : Game.mainCamera;
+			if(viewCamera != null) {
+				float w = viewCamera.viewportWidth * viewCamera.zoom,
+					h = viewCamera.viewportHeight * viewCamera.zoom;
+				view.set(viewCamera.position.x - w*.5f, viewCamera.position.y - h*.5f, w, h);
+			}
+			
 			// draw-up the actors
+			batch.begin();
 			for(Actor actor : actors) {
-				if(actor.active && actor.visible) {
-					actor.draw(batch);
+				if(actor != null && actor.active && actor.visible) {
+					// skip actors outside the camera
+					if(viewCamera != null) {
+						Rectangle bounds = actor.getBounds();
+						if(bounds != null && !view.overlaps(bounds)) {
+							culled++;
+							continue;
+						}
+					}
+					
+					drawn++;
+					Profiler.Timer timer = null;
+					if(Profiler.byActorClass) {
+						timer = Profiler.get(actor.getClass());
+						timer.begin();
+					}
+					
+					if(actor.batched) {
+						actor.draw(batch);
+					} else {
+						// actor performs begin/end on its own
+						batch.end();
+						renderCalls += batch.renderCalls;
+						
+						// counted only when the actor flushed the batch
+						batch.renderCalls = 0;
+						actor.draw(batch);
+						renderCalls += batch.renderCalls;
+						batch.begin();
+					}
+					
+					if(timer != null) {
+						timer.end();
+					}
 				}
 			}
+			batch.end();
+			renderCalls += batch.renderCalls;
 			
 			// reverse old camera projection
-			if(oldProjection != null) {
+			if(camera != null) {
 				batch.setProjectionMatrix(oldProjection);
 			}
+			drawTimer.end();
 		}
 		
 		/**
@@ -182,7 +516,9 @@ public class Scene implements System {
 		 */
 		public void debug(ShapeRenderer gizmo) {
 			for(Actor actor : this.actors) {
-				actor.debug(gizmo);
+				if(actor != null) {
+					actor.debug(gizmo);
+				}
 			}
 		}
 		
@@ -192,28 +528,39 @@ public class Scene implements System {
 		 */
 		public void flush() {
 			// remove actors from the layer
-			if(toRemove.size > 0) {
-				for(Actor actor : toRemove) {
-					if(actor.destroy()) {
-						this.actors.removeValue(actor, true);
+			flushTimer.begin();
+			Actor actor;
+			while((actor = toRemove.poll()) != null) {
+				// skip the duplicates and the actors moved away
+				if(!actor.removing || actor.getLayer() != this) {
+					continue;
+				}
+				
+				actor.removing = false;
+				if(actor.destroy()) {
+					actor.setLayer(null);
+					scene.index.remove(actor);
+					
+					// pooled actors are kept for reuse
+					if(!actor.recycle()) {
 						actor.dispose();
 					}
 				}
-				toRemove.clear();
 			}
 			
 			// append avaiting actors
-			if(toAppend.size > 0) {
-				for(Actor actor : toAppend) {
-					if(actor.getLayer() == null) {
-						actor.setLayer(this);
-						actor.create();
-					} else {
-						actor.setLayer(this);
-					}
+			while((actor = toAppend.poll()) != null) {
+				if(actor.getLayer() == null) {
+					actor.setLayer(this);
+					actor.create();
+				} else {
+					actor.setLayer(this);
 				}
-				toAppend.clear();
 			}
+			
+			// close the removed and moved actors slots
+			this.compact();
+			flushTimer.end();
 		}
 		
 		/**
@@ -223,14 +570,26 @@ public class Scene implements System {
 		@Override
 		public void dispose() {
 			for(Actor actor : actors) {
-				actor.dispose();
+				if(actor != null) {
+					actor.slot = -1;
+					actor.nextById = null;
+					actor.prevById = null;
+					actor.removing = false;
+					
+					scene.index.remove(actor);
+					actor.dispose();
+				}
 			}
 			
 			// clear actors set
 			actors.clear();
+			byId.clear();
+			toRemove.clear();
+			tombstones = 0;
 		}
 		
 		/**
+		 * Slots of the actors detached since the last flush are <b>NULL</b>.
 		 * @see Iterable#iterator() 
 		 */
 		@Override
@@ -239,6 +598,27 @@ public class Scene implements System {
 		}
 	}
 	
+	/**
+	 * Size of the spatial index cell.
+	 */
+	static public final float INDEX_CELL_SIZE = 256.f;
+	
+	/**
+	 * Minimal count of the parallel actors on the layer, to update them
+	 * on the worker threads. Smaller layers are not worth the handover.
+	 */
+	static public final int PARALLEL_THRESHOLD = 256;
+	
+	/**
+	 * Minimal count of the actors updated by the single job.
+	 */
+	static public final int PARALLEL_CHUNK = 128;
+	
+	/**
+	 * Update job performed by the current worker thread.
+	 */
+	static private final ThreadLocal<UpdateJob> CURRENT_JOB = new ThreadLocal<>();
+	
 	/**
 	 * Generic scene layers.
 	 */
@@ -271,18 +651,60 @@ public class Scene implements System {
 	 */
 	public final ShapeRenderer gizmo = new ShapeRenderer();
 	
+	/**
+	 * Spatial index of the actors reporting their bounds.
+	 * Updated after the layers update, use it for the spatial queries.
+	 */
+	public final SpatialGrid<Actor> index = new SpatialGrid<>(INDEX_CELL_SIZE);
+	
+	/**
+	 * Pools of the transient actors.
+	 * Free actors of the pools are disposed with the scene clear.
+	 */
+	public final Array<ActorPool<?>> pools = new Array<>();
+	
+	/**
+	 * Worker threads of the parallel update.
+	 */
+	private ForkJoinPool workers;
+	
+	/**
+	 * Jobs of the parallel update, reused by each update.
+	 */
+	private UpdateJob[] jobs = new UpdateJob[0];
+	private final RootJob rootJob = new RootJob();
+	
+	/**
+	 * Parallel update in progress, scene changes are deferred.
+	 */
+	private boolean parallelUpdate = false;
+	
+	/**
+	 * Profiler timers of the controllers hooks.
+	 */
+	private final Profiler.Timer
+		prePerformTimer = Profiler.get("controllers.prePerform"),
+		preUpdateTimer = Profiler.get("controllers.preUpdate"),
+		postUpdateTimer = Profiler.get("controllers.postUpdate"),
+		preDrawTimer = Profiler.get("controllers.preDraw"),
+		postDrawTimer = Profiler.get("controllers.postDraw"),
+		preDebugTimer = Profiler.get("controllers.preDebug"),
+		postDebugTimer = Profiler.get("controllers.postDebug"),
+		postPerformTimer = Profiler.get("controllers.postPerform"),
+		reindexTimer = Profiler.get("scene.reindex");
+	
 	/**
 	 * Ctor.
 	 */
 	public Scene() {
 		// create generic layers
-		this.BACKGROUND = new Layer(this);
-		this.ACTION_1 = new Layer(this);
-		this.ACTION_2 = new Layer(this);
-		this.ACTION_3 = new Layer(this);
-		this.FOREGROUND = new Layer(this);
-		this.GUI = new Layer(this);
-		this.DEBUG = new Layer(this);
+		this.BACKGROUND = new Layer(this, "BACKGROUND");
+		this.ACTION_1 = new Layer(this, "ACTION_1");
+		this.ACTION_2 = new Layer(this, "ACTION_2");
+		this.ACTION_3 = new Layer(this, "ACTION_3");
+		this.FOREGROUND = new Layer(this, "FOREGROUND");
+		this.GUI = new Layer(this, "GUI");
+		this.DEBUG = new Layer(this, "DEBUG");
 	}
 	
 	/**
@@ -290,30 +712,60 @@ public class Scene implements System {
 	 */
 	@Override
 	public void perform() {
+		this.update();
+		this.draw();
+	}
+	
+	/**
+	 * Update phase of the scene.
+	 * Controllers update hooks, layers update and the spatial index.
+	 */
+	public void update() {
 		// dispatch controllers handler
+		prePerformTimer.begin();
 		for(SceneController ctrl : controllers) {
 			ctrl.prePerform();
 		}
+		prePerformTimer.end();
 		
 		// dispatch controllers handler
+		preUpdateTimer.begin();
 		for(SceneController ctrl : controllers) {
 			ctrl.preUpdate(Gdx.graphics.getDeltaTime());
 		}
+		preUpdateTimer.end();
 		
 		// act actors update
 		for(Layer layer : this.layers) {
 			layer.update(Gdx.graphics.getDeltaTime());
 		}
 		
+		// keep the spatial index up-to-date
+		reindexTimer.begin();
+		this.reindex();
+		reindexTimer.end();
+		
 		// dispatch controllers handler
+		postUpdateTimer.begin();
 		for(SceneController ctrl : controllers) {
 			ctrl.postUpdate(Gdx.graphics.getDeltaTime());
 		}
+		postUpdateTimer.end();
+	}
+	
+	/**
+	 * Draw phase of the scene.
+	 * Controllers draw hooks, layers draw and debug.
+	 */
+	public void draw() {
+		long drawStart = TimeUtils.nanoTime();
 		
 		// dispatch controllers handler
+		preDrawTimer.begin();
 		for(SceneController ctrl : controllers) {
 			ctrl.preDraw(batch);
 		}
+		preDrawTimer.end();
 		
 		if(Game.mainCamera != null) {
 			batch.setProjectionMatrix(Game.mainCamera.combined);
@@ -326,16 +778,20 @@ public class Scene implements System {
 		}
 		
 		// dispatch controllers handler
+		postDrawTimer.begin();
 		for(SceneController ctrl : controllers) {
 			ctrl.postDraw(batch);
 		}
+		postDrawTimer.end();
 		
 		// draw scene debug information
 		if(Game.DEBUG_INFO) {
 			// dispatch controllers handler
+			preDebugTimer.begin();
 			for(SceneController ctrl : controllers) {
 				ctrl.preDebug(gizmo);
 			}
+			preDebugTimer.end();
 		
 			// draw layer debugging information
 			for(Layer layer : this.layers) {
@@ -343,21 +799,159 @@ public class Scene implements System {
 			}
 		
 			// dispatch controllers handler
+			postDebugTimer.begin();
 			for(SceneController ctrl : controllers) {
 				ctrl.postDebug(gizmo);
 			}
+			postDebugTimer.end();
+		}
+		
+		FrameStats.draw.record(TimeUtils.nanoTime() - drawStart);
+	}
+	
+	/**
+	 * Defer the scene change made by the actor update.
+	 * Parallel actors use it for anything touching the shared state, eg. the
+	 * physics world. Changes are performed by the game thread after the
+	 * parallel update, in the actors order, outside of it immediately.
+	 * @param command Scene change.
+	 */
+	public void defer(Runnable command) {
+		UpdateJob job = parallelUpdate ? CURRENT_JOB.get() : null;
+		if(job != null) {
+			job.commands.add(command);
+		} else {
+			command.run();
+		}
+	}
+	
+	/**
+	 * Worker threads of the parallel update.
+	 * Recreated when the configured count of the threads changes.
+	 * @return Worker threads, or <b>NULL</b> when the actors are updated
+	 *			by the game thread only.
+	 */
+	private ForkJoinPool getWorkers() {
+		int threads = Game.config.updateThreads > 0
+			? Game.config.updateThreads
+			: Runtime.getRuntime().availableProcessors();
+		
+		if(workers != null && workers.getParallelism() != threads) {
+			workers.shutdown();
+			workers = null;
+		}
+		if(workers == null && threads > 1) {
+			workers = new ForkJoinPool(threads);
+		}
+		return workers;
+	}
+	
+	/**
+	 * Update the parallel actors of the layer on the worker threads.
+	 * @param layer Layer to update.
+	 * @param delta Delta time of the update.
+	 */
+	private void updateParallel(Layer layer, float delta) {
+		int size = layer.actors.size,
+			chunk = Math.max(PARALLEL_CHUNK, size / (workers.getParallelism() * 4)),
+			count = (size + chunk - 1) / chunk;
+		
+		// grow the jobs
+		if(jobs.length < count) {
+			int old = jobs.length;
+			jobs = Arrays.copyOf(jobs, count);
+			for(int i = old; i < count; i++) {
+				jobs[i] = new UpdateJob();
+			}
+		}
+		
+		for(int i = 0; i < count; i++) {
+			UpdateJob job = jobs[i];
+			job.reinitialize();
+			job.layer = layer;
+			job.from = i * chunk;
+			job.to = Math.min(size, job.from + chunk);
+			job.delta = delta;
+		}
+		
+		rootJob.reinitialize();
+		rootJob.count = count;
+		parallelUpdate = true;
+		try {
+			workers.invoke(rootJob);
+		} finally {
+			parallelUpdate = false;
+		}
+		
+		// apply the deferred changes
+		for(int i = 0; i < count; i++) {
+			UpdateJob job = jobs[i];
+			for(int j = 0; j < job.commands.size; j++) {
+				job.commands.items[j].run();
+			}
+			job.commands.clear();
+			job.layer = null;
+		}
+	}
+	
+	/**
+	 * Update the spatial index with the current actors bounds.
+	 * Items are re-bucketed only when they leave their cells.
+	 */
+	public void reindex() {
+		for(Layer layer : this.layers) {
+			for(Actor actor : layer.actors) {
+				if(actor == null) {
+					continue;
+				}
+				Rectangle bounds = actor.getBounds();
+				if(bounds != null) {
+					index.update(actor, bounds);
+				}
+			}
 		}
 	}
 	
+	/**
+	 * Render calls made by the scene layers during the last draw.
+	 * @return Sum of the layers render calls.
+	 */
+	public int getRenderCalls() {
+		int calls = 0;
+		for(Layer layer : this.layers) {
+			calls += layer.renderCalls;
+		}
+		return calls;
+	}
+	
 	/**
 	 * Update the camera.
 	 */
 	@Override
 	public void postPerform() {
 		// dispatch controllers handler
+		postPerformTimer.begin();
 		for(SceneController ctrl : controllers) {
 			ctrl.postPerform();
 		}
+		postPerformTimer.end();
+	}
+	
+	/**
+	 * Generic layer of the serialized prop layer.
+	 * @param index Layer index, as stored by the editor props.
+	 * @return Generic layer, <b>BACKGROUND</b> for the unknown index.
+	 */
+	public Layer getLayer(int index) {
+		switch(index) {
+			case 1: return ACTION_1;
+			case 2: return ACTION_2;
+			case 3: return ACTION_3;
+			case 4: return FOREGROUND;
+			case 5: return GUI;
+			case 6: return DEBUG;
+			default: return BACKGROUND;
+		}
 	}
 	
 	
@@ -378,6 +972,13 @@ public class Scene implements System {
 		for(Layer layer : this.layers) {
 			layer.dispose();
 		}
+		index.clear();
+		
+		// dispose the pooled actors
+		for(ActorPool<?> pool : pools) {
+			pool.dispose();
+		}
+		pools.clear();
 		
 		// clear controllers from the scene
 		if(clearControllers) {
@@ -407,5 +1008,10 @@ public class Scene implements System {
 		// dispose the scene
 		this.gizmo.dispose();
 		this.batch.dispose();
+		
+		if(workers != null) {
+			workers.shutdown();
+			workers = null;
+		}
 	}
 }
@@ -0,0 +1,123 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.system;
+
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.TimeUtils;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Physics simulation thread.
+ * Owns the physics world and steps it by its own clock, the game thread
+ * never waits for it. Transforms are published to the render through
+ * the triple buffer, world changes come by the posted commands.
+ * @author Konrad Nowakowski https://github.com/konrad92
+ */
+public class Simulation implements Runnable, Disposable {
+	/**
+	 * Lag behind the clock dropped at once, in nanoseconds.
+	 * Like the accumulator limit of the steps on the game thread.
+	 */
+	static public final long MAX_LAG = 250000000L;
+	
+	/**
+	 * Simulated physics.
+	 */
+	private final Physics physics;
+	
+	/**
+	 * The simulation thread.
+	 */
+	private final Thread thread;
+	
+	/**
+	 * Stop the simulation thread.
+	 */
+	private volatile boolean disposed = false;
+	
+	/**
+	 * Ctor.
+	 * @param physics Simulated physics.
+	 */
+	public Simulation(Physics physics) {
+		this.physics = physics;
+		
+		this.thread = new Thread(this, "simulation");
+		this.thread.setDaemon(true);
+	}
+	
+	/**
+	 * Start the simulation thread.
+	 */
+	public void start() {
+		thread.start();
+	}
+	
+	/**
+	 * Simulation thread loop.
+	 * Ticks with the configured physics rate.
+	 * @see Runnable#run() 
+	 */
+	@Override
+	public void run() {
+		long next = TimeUtils.nanoTime();
+		while(!disposed) {
+			long now = TimeUtils.nanoTime();
+			if(now < next) {
+				LockSupport.parkNanos(next - now);
+				continue;
+			}
+			
+			// too far behind, skip the missed ticks
+			if(now - next > MAX_LAG) {
+				next = now;
+			}
+			next += (long)(physics.getStep() * 1000000000.f);
+			
+			try {
+				physics.tick();
+				FrameStats.physics.record(TimeUtils.nanoTime() - now);
+			} catch(RuntimeException ex) {
+				Logger.getLogger(Simulation.class.getName()).log(Level.SEVERE, null, ex);
+			}
+		}
+	}
+	
+	/**
+	 * Stop the simulation thread, after its current tick.
+	 * @see Disposable#dispose() 
+	 */
+	@Override
+	public void dispose() {
+		disposed = true;
+		LockSupport.unpark(thread);
+		try {
+			thread.join();
+		} catch (InterruptedException ex) {
+			Logger.getLogger(Simulation.class.getName()).log(Level.SEVERE, null, ex);
+		}
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.system;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lock-free triple buffer.
+ * Single producer writes the back buffer and publishes it, single consumer
+ * acquires the latest published buffer. Neither side ever waits, the
+ * producer overwrites the not acquired buffers.
+ * @author Konrad Nowakowski https://github.com/konrad92
+ * @param <T> Buffer type.
+ */
+public class TripleBuffer<T> {
+	/**
+	 * Flag of the middle buffer published and not acquired yet.
+	 */
+	static private final int FRESH = 4;
+	
+	/**
+	 * The buffers.
+	 */
+	private final Object[] buffers;
+	
+	/**
+	 * Middle buffer index, with the fresh flag.
+	 * The only state shared by the both sides.
+	 */
+	private final AtomicInteger middle = new AtomicInteger(1);
+	
+	/**
+	 * Back buffer index, owned by the producer.
+	 */
+	private int back = 0;
+	
+	/**
+	 * Front buffer index, owned by the consumer.
+	 */
+	private int front = 2;
+	
+	/**
+	 * Ctor.
+	 * @param a First buffer.
+	 * @param b Second buffer.
+	 * @param c Third buffer.
+	 */
+	public TripleBuffer(T a, T b, T c) {
+		this.buffers = new Object[] { a, b, c };
+	}
+	
+	/**
+	 * Buffer to write by the producer.
+	 * @return Back buffer.
+	 */
+	@SuppressWarnings("unchecked")
+	public T getBack() {
+		return (T)buffers[back];
+	}
+	
+	/**
+	 * Publish the written back buffer.
+	 * Producer gets the next back buffer to write.
+	 */
+	public void publish() {
+		back = middle.getAndSet(back | FRESH) & ~FRESH;
+	}
+	
+	/**
+	 * Acquire the latest published buffer as the front one.
+	 * @return <b>TRUE</b> when the new buffer were acquired,
+	 *			otherwise the front buffer stays unchanged.
+	 */
+	public boolean acquire() {
+		if((middle.get() & FRESH) == 0) {
+			return false;
+		}
+		
+		front = middle.getAndSet(front) & ~FRESH;
+		return true;
+	}
+	
+	/**
+	 * Buffer to read by the consumer.
+	 * @return Front buffer.
+	 */
+	@SuppressWarnings("unchecked")
+	public T getFront() {
+		return (T)buffers[front];
+	}
+}
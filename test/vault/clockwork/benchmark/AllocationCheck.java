@@ -0,0 +1,146 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.benchmark;
+
+import java.lang.management.ManagementFactory;
+import vault.clockwork.Game;
+import vault.clockwork.editor.PropHolder;
+import vault.clockwork.editor.PropSerialized;
+import vault.clockwork.scene.Actor;
+
+/**
+ * Steady state allocations check.
+ * Runs the synthetic level on the headless backend, and fails when
+ * the game thread allocates anything once the warm-up frames are done.
+ * Garbage of the frames grows into the GC pauses, keep the frame free of it.
+ * The draw is reported only, the null GL proxy boxes the arguments
+ * of every GL call on its own.
+ * @author Konrad Nowakowski https://github.com/konrad92
+ */
+public class AllocationCheck {
+	/**
+	 * Props count of the checked level.
+	 */
+	static public final int SIZE = 1000;
+	
+	/**
+	 * Frames before the check, pools and buffers grow to their working size.
+	 */
+	static public final int WARMUP_FRAMES = 600;
+	
+	/**
+	 * Checked rounds and frames of the single round.
+	 * The best round counts, a JIT deoptimization allocates the objects
+	 * removed by the escape analysis once, the frame garbage every round.
+	 */
+	static public final int
+		ROUNDS = 5,
+		FRAMES = 120;
+	
+	/**
+	 * Run the check.
+	 * Exits with the non-zero status when the frames allocate.
+	 * @param args Optional props count of the level.
+	 */
+	public static void main(String[] args) {
+		Headless.init();
+		Headless.load(LevelBenchmark.TEXTURES, LevelBenchmark.SOUNDS);
+		
+		int size = args.length > 0 ? Integer.parseInt(args[0]) : SIZE;
+		long[] allocated = run(size);
+		
+		java.lang.System.out.printf("%-32s %8d %14d B/frame%n", "frame allocation", size, allocated[0]);
+		java.lang.System.out.printf("%-32s %8d %14d B/frame%n", "frame allocation (draw)", size, allocated[1]);
+		if(allocated[0] > 0) {
+			java.lang.System.out.println("Steady state frames allocate, the check failed");
+			java.lang.System.exit(1);
+		}
+	}
+	
+	/**
+	 * Check the level of the props count.
+	 * @param size Count of the props.
+	 * @return Most bytes allocated by the single frame of the best round,
+	 *			without and within the scene draw.
+	 */
+	static public long[] run(int size) {
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+		if(!threads.isThreadAllocatedMemorySupported()) {
+			throw new UnsupportedOperationException("Thread allocations counter is not supported");
+		}
+		threads.setThreadAllocatedMemoryEnabled(true);
+		long threadId = Thread.currentThread().getId();
+		
+		// measure the counter own allocations
+		long before = threads.getThreadAllocatedBytes(threadId);
+		long overhead = threads.getThreadAllocatedBytes(threadId) - before;
+		
+		// place the level, like the stage screen does
+		PropHolder level = LevelBenchmark.generate(size);
+		for(PropSerialized prop : level.props) {
+			Actor actor = (Actor)prop.instance();
+			if(actor != null) {
+				Game.scene.getLayer(prop.layer).add(actor);
+			}
+		}
+		
+		for(int i = 0; i < WARMUP_FRAMES; i++) {
+			Game.physics.perform();
+			Game.scene.perform();
+			Game.audio.perform();
+			
+			Game.physics.postPerform();
+			Game.scene.postPerform();
+			Game.audio.postPerform();
+		}
+		
+		long[] best = { Long.MAX_VALUE, Long.MAX_VALUE }, worst = new long[2];
+		for(int r = 0; r < ROUNDS; r++) {
+			worst[0] = worst[1] = 0;
+			for(int i = 0; i < FRAMES; i++) {
+				long start = threads.getThreadAllocatedBytes(threadId);
+				Game.physics.perform();
+				Game.scene.update();
+				long update = threads.getThreadAllocatedBytes(threadId);
+				Game.scene.draw();
+				long draw = threads.getThreadAllocatedBytes(threadId);
+				Game.audio.perform();
+				
+				Game.physics.postPerform();
+				Game.scene.postPerform();
+				Game.audio.postPerform();
+				long end = threads.getThreadAllocatedBytes(threadId);
+				
+				worst[0] = Math.max(worst[0], (update - start) + (end - draw) - overhead * 2);
+				worst[1] = Math.max(worst[1], draw - update - overhead);
+			}
+			best[0] = Math.min(best[0], worst[0]);
+			best[1] = Math.min(best[1], worst[1]);
+		}
+		
+		// drop the level
+		Game.scene.clear(false);
+		return best;
+	}
+}
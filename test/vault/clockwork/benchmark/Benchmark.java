@@ -0,0 +1,237 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.benchmark;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Minimal micro-benchmark harness.
+ * Runs the measured operation in warm-up rounds first, so the JIT settles,
+ * then reports the best average time of the measured rounds.
+ * @author Konrad Nowakowski https://github.com/konrad92
+ */
+public abstract class Benchmark {
+	/**
+	 * Default rounds of the measurements.
+	 */
+	static public final int
+		WARMUP_ROUNDS = 5,
+		MEASURE_ROUNDS = 10;
+	
+	/**
+	 * Measured operation.
+	 */
+	public interface Operation {
+		/**
+		 * Perform the operation once.
+		 * @param i Index of the operation in the round.
+		 * @return Any result, consumed to avoid dead code elimination.
+		 */
+		public int perform(int i);
+	}
+	
+	/**
+	 * Single reported measurement.
+	 */
+	static public class Result {
+		/**
+		 * Name of the measurement.
+		 */
+		public String name;
+		
+		/**
+		 * Size of the problem.
+		 */
+		public int size;
+		
+		/**
+		 * Time of the operation in nanoseconds.
+		 */
+		public double nsPerOp;
+		
+		/**
+		 * Peak of the heap in bytes, when the memory were measured.
+		 */
+		public long peakBytes;
+	}
+	
+	/**
+	 * Results file contents.
+	 * Environment is stored along the results, as the regressions
+	 * are comparable only between the runs on the same machine.
+	 */
+	static public class Report {
+		public String javaVersion = java.lang.System.getProperty("java.version");
+		public String vmName = java.lang.System.getProperty("java.vm.name");
+		public String osName = java.lang.System.getProperty("os.name");
+		public int processors = Runtime.getRuntime().availableProcessors();
+		public long timestamp = java.lang.System.currentTimeMillis();
+		public Array<Result> results;
+	}
+	
+	/**
+	 * All reported results.
+	 */
+	static public final Array<Result> results = new Array<>();
+	
+	/**
+	 * Consumed results of the operations.
+	 */
+	static private int blackhole = 0;
+	
+	/**
+	 * Measure the operation.
+	 * @param op Operation to measure.
+	 * @param ops Operations in a single round.
+	 * @return Best average time of the operation in nanoseconds.
+	 */
+	static public double measure(Operation op, int ops) {
+		return measure(op, ops, WARMUP_ROUNDS, MEASURE_ROUNDS);
+	}
+	
+	/**
+	 * Measure the operation.
+	 * @param op Operation to measure.
+	 * @param ops Operations in a single round.
+	 * @param warmup Warm-up rounds.
+	 * @param rounds Measured rounds.
+	 * @return Best average time of the operation in nanoseconds.
+	 */
+	static public double measure(Operation op, int ops, int warmup, int rounds) {
+		double best = Double.MAX_VALUE;
+		
+		for(int r = 0; r < warmup + rounds; r++) {
+			long start = java.lang.System.nanoTime();
+			for(int i = 0; i < ops; i++) {
+				blackhole += op.perform(i);
+			}
+			long time = java.lang.System.nanoTime() - start;
+			
+			// skip the warm-up rounds
+			if(r >= warmup) {
+				best = Math.min(best, (double)time / (double)ops);
+			}
+		}
+		
+		return best;
+	}
+	
+	/**
+	 * Measure the peak of the heap during the operation.
+	 * Garbage not collected yet is counted, so the peak of the operation
+	 * dropping its garbage is bounded by the young pool size.
+	 * Compare the peaks of the runs with the same small young pool, eg. -Xmn16m.
+	 * @param op Operation to measure, performed once.
+	 * @return Peak of the heap above the used before, in bytes.
+	 */
+	static public long measurePeak(Operation op) {
+		Array<MemoryPoolMXBean> pools = new Array<>();
+		for(MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if(pool.getType() == MemoryType.HEAP) {
+				pools.add(pool);
+			}
+		}
+		
+		java.lang.System.gc();
+		long base = 0;
+		for(MemoryPoolMXBean pool : pools) {
+			base += pool.getUsage().getUsed();
+			pool.resetPeakUsage();
+		}
+		
+		blackhole += op.perform(0);
+		
+		long peak = 0;
+		for(MemoryPoolMXBean pool : pools) {
+			peak += pool.getPeakUsage().getUsed();
+		}
+		return Math.max(0, peak - base);
+	}
+	
+	/**
+	 * Print the benchmark result line.
+	 * @param name Name of the measurement.
+	 * @param size Size of the problem.
+	 * @param nanos Time of the operation in nanoseconds.
+	 */
+	static public void report(String name, int size, double nanos) {
+		java.lang.System.out.printf("%-32s %8d %14.1f ns/op%n", name, size, nanos);
+		
+		// record the result
+		Result result = new Result();
+		result.name = name;
+		result.size = size;
+		result.nsPerOp = nanos;
+		results.add(result);
+	}
+	
+	/**
+	 * Print the benchmark memory result line.
+	 * @param name Name of the measurement.
+	 * @param size Size of the problem.
+	 * @param bytes Peak of the heap in bytes.
+	 */
+	static public void reportPeak(String name, int size, long bytes) {
+		java.lang.System.out.printf("%-32s %8d %14d B peak%n", name, size, bytes);
+		
+		// record the result
+		Result result = new Result();
+		result.name = name;
+		result.size = size;
+		result.peakBytes = bytes;
+		results.add(result);
+	}
+	
+	/**
+	 * Save the reported results to the JSON file.
+	 * @param filename Filename of the results.
+	 * @return <b>TRUE</b> on successfuly save, <b>FALSE</b> otherwise.
+	 */
+	static public boolean save(String filename) {
+		Report report = new Report();
+		report.results = results;
+		
+		Json json = new Json(JsonWriter.OutputType.json);
+		json.setUsePrototypes(false);
+		json.setElementType(Report.class, "results", Result.class);
+		
+		try(Writer writer = new FileWriter(filename)) {
+			writer.write(json.prettyPrint(report));
+			return true;
+		} catch(IOException ex) {
+			Logger.getLogger(Benchmark.class.getName()).log(Level.SEVERE, null, ex);
+		}
+		return false;
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.benchmark;
+
+/**
+ * Runs all benchmarks on the headless backend.
+ * Results are saved to the JSON file, compare them between the versions
+ * to catch the regressions. Run from the project directory.
+ * @author Konrad Nowakowski https://github.com/konrad92
+ */
+public class BenchmarkSuite {
+	/**
+	 * Default filename of the results.
+	 */
+	static public final String RESULTS_FILENAME = "benchmarks.json";
+	
+	/**
+	 * Run the benchmarks.
+	 * @param args Optional filename of the results.
+	 */
+	public static void main(String[] args) {
+		Headless.init();
+		Headless.load(LevelBenchmark.TEXTURES, LevelBenchmark.SOUNDS);
+		
+		for(int size : GridBenchmark.SIZES) {
+			GridBenchmark.run(size);
+		}
+		for(int size : SceneBenchmark.SIZES) {
+			SceneBenchmark.run(size);
+		}
+		for(int size : ParallelUpdateBenchmark.SIZES) {
+			ParallelUpdateBenchmark.run(size);
+		}
+		for(int size : PhysicsBenchmark.SIZES) {
+			PhysicsBenchmark.run(size);
+		}
+		for(int size : LevelBenchmark.SIZES) {
+			LevelBenchmark.run(size);
+		}
+		for(int size : PropFactoryBenchmark.SIZES) {
+			PropFactoryBenchmark.run(size);
+		}
+		
+		// store the results
+		String filename = args.length > 0 ? args[0] : RESULTS_FILENAME;
+		if(Benchmark.save(filename)) {
+			java.lang.System.out.println("Results saved to " + filename);
+		}
+	}
+}
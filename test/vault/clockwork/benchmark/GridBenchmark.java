@@ -0,0 +1,131 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.benchmark;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import vault.clockwork.scene.SpatialGrid;
+import vault.clockwork.system.Scene;
+
+/**
+ * Spatial index benchmark.
+ * Compares the grid queries with the linear scan for growing actor counts
+ * at constant density, so the grid query cost should stay flat.
+ * @author Konrad Nowakowski https://github.com/konrad92
+ */
+public class GridBenchmark extends Benchmark {
+	/**
+	 * Measured actor counts.
+	 */
+	static public final int[] SIZES = { 1000, 10000, 100000 };
+	
+	/**
+	 * World area per actor, and queried region size (the screen).
+	 */
+	static public final float
+		AREA_PER_ACTOR = 128.f * 128.f,
+		QUERY_WIDTH = 1280.f,
+		QUERY_HEIGHT = 720.f;
+	
+	/**
+	 * Count of the random query regions.
+	 */
+	static public final int QUERIES = 1024;
+	
+	/**
+	 * Run the benchmark.
+	 * @param args Not used.
+	 */
+	public static void main(String[] args) {
+		for(int size : SIZES) {
+			run(size);
+		}
+	}
+	
+	/**
+	 * Benchmark the actor count.
+	 * @param size Count of the actors.
+	 */
+	static public void run(int size) {
+		final float world = (float)Math.sqrt(size * AREA_PER_ACTOR);
+		final Rectangle[] items = new Rectangle[size];
+		final SpatialGrid<Rectangle> grid = new SpatialGrid<>(Scene.INDEX_CELL_SIZE);
+		
+		MathUtils.random.setSeed(size);
+		for(int i = 0; i < size; i++) {
+			float w = MathUtils.random(16.f, 128.f), h = MathUtils.random(16.f, 128.f);
+			items[i] = new Rectangle(MathUtils.random(world), MathUtils.random(world), w, h);
+			grid.update(items[i], items[i]);
+		}
+		
+		// random query regions
+		final Rectangle[] queries = new Rectangle[QUERIES];
+		for(int i = 0; i < QUERIES; i++) {
+			queries[i] = new Rectangle(
+				MathUtils.random(world - QUERY_WIDTH), MathUtils.random(world - QUERY_HEIGHT),
+				QUERY_WIDTH, QUERY_HEIGHT
+			);
+		}
+		
+		final Array<Rectangle> out = new Array<>(false, 1024);
+		
+		report("grid queryRect", size, measure(i -> {
+			out.clear();
+			return grid.queryRect(queries[i & (QUERIES - 1)], out).size;
+		}, QUERIES));
+		
+		report("linear scan", size, measure(i -> {
+			out.clear();
+			Rectangle query = queries[i & (QUERIES - 1)];
+			for(Rectangle item : items) {
+				if(query.overlaps(item)) {
+					out.add(item);
+				}
+			}
+			return out.size;
+		}, QUERIES));
+		
+		report("grid queryRadius", size, measure(i -> {
+			out.clear();
+			Rectangle query = queries[i & (QUERIES - 1)];
+			return grid.queryRadius(query.x, query.y, QUERY_HEIGHT * .5f, out).size;
+		}, QUERIES));
+		
+		report("grid queryPoint", size, measure(i -> {
+			out.clear();
+			Rectangle query = queries[i & (QUERIES - 1)];
+			return grid.queryPoint(query.x, query.y, out).size;
+		}, QUERIES));
+		
+		// incremental update of the moving actors
+		report("grid update (moving)", size, measure(i -> {
+			Rectangle item = items[i % size];
+			item.x += MathUtils.random(-8.f, 8.f);
+			item.y += MathUtils.random(-8.f, 8.f);
+			grid.update(item, item);
+			return 0;
+		}, size));
+	}
+}
@@ -0,0 +1,201 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.benchmark;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.backends.headless.HeadlessFiles;
+import com.badlogic.gdx.backends.headless.HeadlessNativesLoader;
+import com.badlogic.gdx.backends.headless.mock.audio.MockAudio;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+import vault.clockwork.Atlas;
+import vault.clockwork.Config;
+import vault.clockwork.Game;
+import vault.clockwork.system.Audio;
+import vault.clockwork.system.Physics;
+import vault.clockwork.system.Scene;
+
+/**
+ * Headless game environment of the benchmarks.
+ * Initializes the game systems without the window, all GL calls go to
+ * the null GL, which accepts every shader and draws nothing.
+ * @author Konrad Nowakowski https://github.com/konrad92
+ */
+public class Headless {
+	/**
+	 * Delta time of the single frame.
+	 */
+	static public final float FRAME_TIME = 1.f/60.f;
+	
+	/**
+	 * Size of the virtual screen.
+	 */
+	static public final int
+		WIDTH = 1024,
+		HEIGHT = 768;
+	
+	/**
+	 * GL doing nothing.
+	 * Shaders are reported as compiled and linked, without any
+	 * attributes and uniforms to fetch.
+	 */
+	static private class NullGL implements InvocationHandler {
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) {
+			String name = method.getName();
+			
+			// shaders status queries
+			if((name.equals("glGetShaderiv") || name.equals("glGetProgramiv")) && args[2] instanceof IntBuffer) {
+				int pname = (Integer)args[1];
+				((IntBuffer)args[2]).put(0,
+					pname == GL20.GL_ACTIVE_ATTRIBUTES || pname == GL20.GL_ACTIVE_UNIFORMS ? 0 : 1
+				);
+				return null;
+			}
+			
+			return defaultValue(method.getReturnType());
+		}
+	}
+	
+	/**
+	 * Graphics of the fixed frame time.
+	 * Results are boxed once, the delta time is queried by every frame
+	 * and the allocations check counts the boxing too.
+	 */
+	static private class FixedGraphics implements InvocationHandler {
+		private final Float deltaTime = FRAME_TIME;
+		private final Integer width = WIDTH, height = HEIGHT, fps = (int)(1.f / FRAME_TIME);
+		
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) {
+			switch(method.getName()) {
+				case "getDeltaTime":
+				case "getRawDeltaTime":
+					return deltaTime;
+				case "getWidth":
+					return width;
+				case "getHeight":
+					return height;
+				case "getFramesPerSecond":
+					return fps;
+			}
+			return defaultValue(method.getReturnType());
+		}
+	}
+	
+	/**
+	 * Headless application.
+	 */
+	static private class NullApplication implements InvocationHandler {
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) {
+			if(method.getName().equals("getType")) {
+				return Application.ApplicationType.HeadlessDesktop;
+			}
+			return defaultValue(method.getReturnType());
+		}
+	}
+	
+	/**
+	 * Default value of the method return type.
+	 * @param type Return type.
+	 * @return Zero, false or <b>NULL</b>.
+	 */
+	static private Object defaultValue(Class<?> type) {
+		if(type == boolean.class) {
+			return false;
+		} else if(type == int.class) {
+			return 0;
+		} else if(type == long.class) {
+			return 0L;
+		} else if(type == float.class) {
+			return 0.f;
+		} else if(type == double.class) {
+			return 0.0;
+		} else if(type == String.class) {
+			return "";
+		}
+		return null;
+	}
+	
+	/**
+	 * Create the interface instance handled by the handler.
+	 */
+	@SuppressWarnings("unchecked")
+	static private <T> T mock(Class<T> type, InvocationHandler handler) {
+		return (T)Proxy.newProxyInstance(Headless.class.getClassLoader(), new Class<?>[] { type }, handler);
+	}
+	
+	/**
+	 * Initialize the headless game systems.
+	 * Run from the project directory, assets are loaded from there.
+	 */
+	static public void init() {
+		if(Gdx.gl != null) {
+			return;
+		}
+		
+		// libgdx without the window
+		HeadlessNativesLoader.load();
+		Gdx.app = mock(Application.class, new NullApplication());
+		Gdx.graphics = mock(Graphics.class, new FixedGraphics());
+		Gdx.input = mock(Input.class, new NullApplication());
+		Gdx.gl = Gdx.gl20 = mock(GL20.class, new NullGL());
+		Gdx.files = new HeadlessFiles();
+		Gdx.audio = new MockAudio();
+		
+		// game systems used by the actors
+		Game.config = new Config();
+		Game.config.sounds = false;
+		Game.assets = new AssetManager();
+		Game.atlas = new Atlas();
+		Game.physics = new Physics();
+		Game.scene = new Scene();
+		Game.audio = new Audio();
+	}
+	
+	/**
+	 * Load the assets used by the benchmarked actors.
+	 * @param textures Texture filenames.
+	 * @param sounds Sound filenames.
+	 */
+	static public void load(String[] textures, String[] sounds) {
+		for(String texture : textures) {
+			Game.assets.load(texture, Texture.class);
+		}
+		for(String sound : sounds) {
+			Game.assets.load(sound, Sound.class);
+		}
+		Game.assets.finishLoading();
+	}
+}
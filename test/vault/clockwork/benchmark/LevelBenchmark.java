@@ -0,0 +1,180 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.benchmark;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Json;
+import java.io.IOException;
+import vault.clockwork.editor.CompiledLevel;
+import vault.clockwork.editor.LevelCompiler;
+import vault.clockwork.editor.LevelFile;
+import vault.clockwork.editor.PropHolder;
+import vault.clockwork.editor.PropSerialized;
+import vault.clockwork.editor.props.DecorationProp;
+import vault.clockwork.editor.props.TurretProp;
+import vault.clockwork.scene.Actor;
+
+/**
+ * Level loading benchmark.
+ * Measures the save and load of the synthetic levels, in the JSON and
+ * the binary format, and the props instancing throughput.
+ * JSON levels are also loaded by the reflection, to compare with the codecs.
+ * Compiled levels are read with the props sorted and the geometry baked.
+ * Peaks of the heap compare the streamed levels with the whole
+ * document of the Json reflection.
+ * @author Konrad Nowakowski https://github.com/konrad92
+ */
+public class LevelBenchmark extends Benchmark {
+	/**
+	 * Measured props counts.
+	 */
+	static public final int[] SIZES = { 1000, 10000, 100000 };
+	
+	/**
+	 * Local filenames of the synthetic level, JSON, binary and compiled.
+	 */
+	static public final String
+		FILENAME = "cache/benchmark-level.json",
+		BINARY_FILENAME = "cache/benchmark-level" + LevelFile.EXTENSION,
+		COMPILED_FILENAME = BINARY_FILENAME + CompiledLevel.EXTENSION;
+	
+	/**
+	 * Assets used by the instanced actors.
+	 */
+	static public final String[]
+		TEXTURES = { "assets/dragonball.png", "assets/hill.png" },
+		SOUNDS = { "assets/sounds/paperhit.ogg" };
+	
+	/**
+	 * Run the benchmark.
+	 * @param args Not used.
+	 */
+	public static void main(String[] args) {
+		Headless.init();
+		Headless.load(TEXTURES, SOUNDS);
+		for(int size : SIZES) {
+			run(size);
+		}
+	}
+	
+	/**
+	 * Benchmark the props count.
+	 * @param size Count of the props.
+	 */
+	static public void run(int size) {
+		final PropHolder level = generate(size);
+		
+		report("level save", size, measure(i -> {
+			return PropHolder.save(level, FILENAME) ? 1 : 0;
+		}, 1) / size);
+		
+		report("level load", size, measure(i -> {
+			return PropHolder.load(FILENAME).props.size;
+		}, 1) / size);
+		
+		final Json reflection = PropHolder.newJson(false);
+		report("level load (reflection)", size, measure(i -> {
+			return reflection.fromJson(PropHolder.class, Gdx.files.local(FILENAME)).props.size;
+		}, 1) / size);
+		
+		// peak memory, streamed props are dropped right away
+		reportPeak("level save", size, measurePeak(i -> {
+			return PropHolder.save(level, FILENAME) ? 1 : 0;
+		}));
+		reportPeak("level load", size, measurePeak(i -> {
+			return PropHolder.load(FILENAME).props.size;
+		}));
+		reportPeak("level load (reflection)", size, measurePeak(i -> {
+			return reflection.fromJson(PropHolder.class, Gdx.files.local(FILENAME)).props.size;
+		}));
+		reportPeak("level stream", size, measurePeak(i -> {
+			return PropHolder.stream(Gdx.files.local(FILENAME), prop -> {}) ? 1 : 0;
+		}));
+		
+		report("level save (binary)", size, measure(i -> {
+			return PropHolder.save(level, BINARY_FILENAME) ? 1 : 0;
+		}, 1) / size);
+		
+		report("level load (binary)", size, measure(i -> {
+			return PropHolder.load(BINARY_FILENAME).props.size;
+		}, 1) / size);
+		
+		reportPeak("level stream (binary)", size, measurePeak(i -> {
+			return PropHolder.stream(Gdx.files.local(BINARY_FILENAME), prop -> {}) ? 1 : 0;
+		}));
+		
+		// compiled level, of the binary source
+		final FileHandle compiled = Gdx.files.local(COMPILED_FILENAME);
+		report("level compile", size, measure(i -> {
+			return LevelCompiler.compile(Gdx.files.local(BINARY_FILENAME), compiled, 1024) != null ? 1 : 0;
+		}, 1) / size);
+		
+		report("level load (compiled)", size, measure(i -> {
+			try {
+				return CompiledLevel.read(compiled, true).props.props.size;
+			} catch(IOException ex) {
+				throw new RuntimeException(ex);
+			}
+		}, 1) / size);
+		
+		// props instancing, actors are created and disposed right away
+		report("prop instance", size, measure(i -> {
+			Actor actor = (Actor)level.props.get(i).instance();
+			actor.create();
+			actor.dispose();
+			return actor.id;
+		}, size));
+	}
+	
+	/**
+	 * Generate the synthetic level.
+	 * Physics turrets mixed with the decorations.
+	 * @param size Count of the props.
+	 * @return Level props.
+	 */
+	static public PropHolder generate(int size) {
+		PropHolder level = new PropHolder();
+		
+		MathUtils.random.setSeed(size);
+		for(int i = 0; i < size; i++) {
+			PropSerialized prop;
+			if(i % 2 == 0) {
+				prop = new TurretProp();
+			} else {
+				DecorationProp decoration = new DecorationProp();
+				decoration.scale = MathUtils.random(.5f, 2.f);
+				decoration.angle = MathUtils.random(360.f);
+				prop = decoration;
+			}
+			
+			prop.id = i;
+			prop.position.set(MathUtils.random(-4096.f, 4096.f), MathUtils.random(-4096.f, 4096.f));
+			level.props.add(prop);
+		}
+		
+		return level;
+	}
+}
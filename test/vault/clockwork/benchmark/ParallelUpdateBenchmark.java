@@ -0,0 +1,137 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.benchmark;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import vault.clockwork.Game;
+import vault.clockwork.scene.Actor;
+import vault.clockwork.system.Scene;
+
+/**
+ * Parallel layer update benchmark.
+ * Measures the update of the parallel actors for the growing worker
+ * thread counts, so the scaling with the cores is visible.
+ * @author Konrad Nowakowski https://github.com/konrad92
+ */
+public class ParallelUpdateBenchmark extends Benchmark {
+	/**
+	 * Measured actor counts.
+	 */
+	static public final int[] SIZES = { 10000, 100000 };
+	
+	/**
+	 * Measured worker thread counts.
+	 */
+	static public final int[] THREADS = { 1, 2, 4, 8, 16 };
+	
+	/**
+	 * Frames of the single round.
+	 */
+	static public final int FRAMES = 64;
+	
+	/**
+	 * Actor wandering around, with some math done every update.
+	 */
+	static private class WanderActor extends Actor {
+		public final Vector2 position = new Vector2(), velocity = new Vector2();
+		public float heading, timer;
+		
+		/**
+		 * Ctor.
+		 * @param id Unique actor identifier.
+		 */
+		public WanderActor(int id) {
+			super(id);
+			this.heading = id;
+			this.parallel = true;
+		}
+		
+		/**
+		 * @see Actor#update(float) 
+		 * @param delta 
+		 */
+		@Override
+		public void update(float delta) {
+			timer += delta;
+			heading += MathUtils.sin(timer * 3.f + id) * delta;
+			velocity.set(MathUtils.cos(heading), MathUtils.sin(heading)).scl(64.f);
+			position.add(velocity.x * delta, velocity.y * delta);
+			if(position.len2() > 1000000.f) {
+				position.setZero();
+			}
+		}
+		
+		/**
+		 * @see Actor#getPosition() 
+		 * @return 
+		 */
+		@Override
+		public Vector2 getPosition() {
+			return position;
+		}
+	}
+	
+	/**
+	 * Run the benchmark.
+	 * @param args Not used.
+	 */
+	public static void main(String[] args) {
+		Headless.init();
+		for(int size : SIZES) {
+			run(size);
+		}
+	}
+	
+	/**
+	 * Benchmark the actor count on each thread count.
+	 * @param size Count of the actors.
+	 */
+	static public void run(int size) {
+		final Scene.Layer layer = Game.scene.new Layer(Game.scene, "BENCH");
+		for(int i = 0; i < size; i++) {
+			layer.add(new WanderActor(i));
+		}
+		
+		// first update counts the parallel actors
+		layer.update(Headless.FRAME_TIME);
+		
+		int threads = Game.config.updateThreads;
+		try {
+			for(int count : THREADS) {
+				Game.config.updateThreads = count;
+				report("parallel update (" + count + " threads)", size, measure(i -> {
+					layer.update(Headless.FRAME_TIME);
+					return layer.actors.size;
+				}, FRAMES));
+			}
+		} finally {
+			Game.config.updateThreads = threads;
+		}
+		
+		// drop the benchmark layer
+		layer.dispose();
+		Game.scene.layers.removeValue(layer, true);
+	}
+}
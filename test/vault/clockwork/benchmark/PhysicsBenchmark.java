@@ -0,0 +1,133 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.benchmark;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import vault.clockwork.Game;
+import vault.clockwork.actors.TurretActor;
+import vault.clockwork.system.Physics;
+
+/**
+ * Physics step benchmark.
+ * The spam console command scenario scaled to the growing turret counts,
+ * the turrets grid falls onto the static floor and piles up.
+ * @author Konrad Nowakowski https://github.com/konrad92
+ */
+public class PhysicsBenchmark extends Benchmark {
+	/**
+	 * Measured turret counts, the spam command creates 100 of them.
+	 */
+	static public final int[] SIZES = { 100, 400, 1600 };
+	
+	/**
+	 * Simulated frames of the scenario.
+	 * Long enough to cover the fall and the pile settling.
+	 */
+	static public final int FRAMES = 600;
+	
+	/**
+	 * Spacing of the turrets grid.
+	 */
+	static public final float SPACING = 64.f;
+	
+	/**
+	 * Assets used by the turrets.
+	 */
+	static public final String[]
+		TEXTURES = { "assets/dragonball.png" },
+		SOUNDS = { "assets/sounds/paperhit.ogg" };
+	
+	/**
+	 * Run the benchmark.
+	 * @param args Not used.
+	 */
+	public static void main(String[] args) {
+		Headless.init();
+		Headless.load(TEXTURES, SOUNDS);
+		for(int size : SIZES) {
+			run(size);
+		}
+	}
+	
+	/**
+	 * Benchmark the turrets count.
+	 * Scenario changes with every frame, so the warm-up runs on its own
+	 * scenario, and the measured one is simulated once from the start.
+	 * @param size Count of the turrets.
+	 */
+	static public void run(int size) {
+		simulate(size);
+		report("physics perform", size, simulate(size));
+	}
+	
+	/**
+	 * Simulate the scenario once.
+	 * @param size Count of the turrets.
+	 * @return Average time of the frame in nanoseconds.
+	 */
+	static private double simulate(int size) {
+		int columns = (int)Math.ceil(Math.sqrt(size));
+		float width = columns * SPACING;
+		
+		// static floor under the grid
+		BodyDef floorDef = new BodyDef();
+		floorDef.type = BodyDef.BodyType.StaticBody;
+		floorDef.position.set(0.f, -SPACING * Physics.SCALE);
+		PolygonShape shape = new PolygonShape();
+		shape.setAsBox(width * Physics.SCALE, SPACING * .5f * Physics.SCALE);
+		Body floor = Game.physics.world.createBody(floorDef);
+		floor.createFixture(shape, 0.f);
+		shape.dispose();
+		
+		// turrets grid, like the spam command does
+		TurretActor[] turrets = new TurretActor[size];
+		Vector2 position = new Vector2();
+		for(int i = 0; i < size; i++) {
+			turrets[i] = new TurretActor(i);
+			turrets[i].setPosition(position.set(
+				(i % columns) * SPACING - width * .5f,
+				(i / columns) * SPACING + SPACING
+			));
+			
+			// no scene here, so the body is created by hand
+			turrets[i].create();
+		}
+		
+		double time = measure(i -> {
+			Game.physics.perform();
+			return Game.physics.dispatchedEvents;
+		}, FRAMES, 0, 1);
+		
+		// drop the scenario
+		for(TurretActor turret : turrets) {
+			turret.dispose();
+		}
+		Game.physics.post(() -> Game.physics.world.destroyBody(floor));
+		
+		return time;
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.benchmark;
+
+import java.lang.reflect.InvocationTargetException;
+import vault.clockwork.editor.PropHolder;
+import vault.clockwork.editor.PropSerialized;
+import vault.clockwork.scene.Actor;
+
+/**
+ * Prop factories benchmark.
+ * Measures the props instancing by the registry factories, against the
+ * reflective constructor lookup and invoke.
+ * @author Konrad Nowakowski https://github.com/konrad92
+ */
+public class PropFactoryBenchmark extends Benchmark {
+	/**
+	 * Measured props counts.
+	 */
+	static public final int[] SIZES = { 10000 };
+	
+	/**
+	 * Run the benchmark.
+	 * @param args Not used.
+	 */
+	public static void main(String[] args) {
+		Headless.init();
+		Headless.load(LevelBenchmark.TEXTURES, LevelBenchmark.SOUNDS);
+		for(int size : SIZES) {
+			run(size);
+		}
+	}
+	
+	/**
+	 * Benchmark the props count.
+	 * @param size Count of the props.
+	 */
+	static public void run(int size) {
+		final PropHolder level = LevelBenchmark.generate(size);
+		
+		// actors are disposed right away
+		report("prop instance (reflection)", size, measure(i -> {
+			Actor actor = reflect(level.props.get(i));
+			actor.dispose();
+			return actor.id;
+		}, size));
+		
+		report("prop instance (registry)", size, measure(i -> {
+			Actor actor = (Actor)level.props.get(i).instance();
+			actor.dispose();
+			return actor.id;
+		}, size));
+	}
+	
+	/**
+	 * Instance the prop actor by the reflection.
+	 * @param prop Serialized prop.
+	 * @return New actor.
+	 */
+	static private Actor reflect(PropSerialized prop) {
+		try {
+			return (Actor)prop.getActorClass().getConstructor(PropSerialized.class).newInstance(prop);
+		} catch (NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Konrad Nowakowski https://github.com/konrad92.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package vault.clockwork.benchmark;
+
+import com.badlogic.gdx.math.Vector2;
+import vault.clockwork.Game;
+import vault.clockwork.scene.Actor;
+import vault.clockwork.system.Scene;
+
+/**
+ * Scene layer benchmark.
+ * Measures the layer update with the flush of the actors queues,
+ * for the growing actor counts.
+ * @author Konrad Nowakowski https://github.com/konrad92
+ */
+public class SceneBenchmark extends Benchmark {
+	/**
+	 * Measured actor counts.
+	 */
+	static public final int[] SIZES = { 100, 1000, 10000, 100000 };
+	
+	/**
+	 * Frames of the single round.
+	 */
+	static public final int FRAMES = 64;
+	
+	/**
+	 * Actor replaced every frame of the churn measurement, as 1/CHURN of the layer.
+	 */
+	static public final int CHURN = 100;
+	
+	/**
+	 * Actor moving with the constant velocity.
+	 */
+	static private class DummyActor extends Actor {
+		public final Vector2 position = new Vector2(), velocity = new Vector2(1.f, .5f);
+		
+		/**
+		 * Ctor.
+		 * @param id Unique actor identifier.
+		 */
+		public DummyActor(int id) {
+			super(id);
+		}
+		
+		/**
+		 * @see Actor#update(float) 
+		 * @param delta 
+		 */
+		@Override
+		public void update(float delta) {
+			position.add(velocity.x * delta, velocity.y * delta);
+		}
+		
+		/**
+		 * @see Actor#getPosition() 
+		 * @return 
+		 */
+		@Override
+		public Vector2 getPosition() {
+			return position;
+		}
+	}
+	
+	/**
+	 * Run the benchmark.
+	 * @param args Not used.
+	 */
+	public static void main(String[] args) {
+		Headless.init();
+		for(int size : SIZES) {
+			run(size);
+		}
+	}
+	
+	/**
+	 * Benchmark the actor count.
+	 * @param size Count of the actors.
+	 */
+	static public void run(int size) {
+		final Scene.Layer layer = Game.scene.new Layer(Game.scene, "BENCH");
+		final DummyActor[] actors = new DummyActor[size];
+		
+		for(int i = 0; i < size; i++) {
+			actors[i] = new DummyActor(i);
+			layer.add(actors[i]);
+		}
+		layer.flush();
+		
+		report("layer update", size, measure(i -> {
+			layer.update(Headless.FRAME_TIME);
+			return layer.actors.size;
+		}, FRAMES));
+		
+		// remove and add the actors, so the flush does its work
+		final int churn = Math.max(1, size / CHURN);
+		report("layer update (churn)", size, measure(i -> {
+			for(int j = 0; j < churn; j++) {
+				DummyActor actor = actors[(i * churn + j) % size];
+				actor.remove();
+				layer.add(actor);
+			}
+			layer.update(Headless.FRAME_TIME);
+			return layer.actors.size;
+		}, FRAMES));
+		
+		// drop the benchmark layer
+		layer.dispose();
+		Game.scene.layers.removeValue(layer, true);
+	}
+}